@@ -0,0 +1,235 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.extension;
+
+import java.awt.Component;
+import java.awt.event.HierarchyEvent;
+import java.awt.event.HierarchyListener;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.swing.JDialog;
+import javax.swing.JFrame;
+
+import lombok.NonNull;
+
+/**
+ * The class {@link AncestorCache} memoizes the results of the root finders of
+ * {@link AwtExtensions}, so repeated lookups from deep component trees, for instance from cell
+ * renderers or key handlers, do not walk the parent chain again.<br>
+ * <br>
+ * The cache holds the components weakly. A {@link HierarchyListener} is added to every cached
+ * component, that invalidates the cached ancestors if the component or one of its ancestors is
+ * added to or removed from a parent. The cache is intended to be used from the event dispatch
+ * thread
+ */
+public final class AncestorCache
+{
+
+	/**
+	 * The cached ancestors mapped weakly to their component
+	 */
+	private static final Map<Component, CachedAncestors> CACHE = new WeakHashMap<>();
+
+	/**
+	 * The listener that invalidates the cached ancestors of a component if its parent chain has
+	 * changed
+	 */
+	private static final HierarchyListener INVALIDATOR = event -> {
+		if ((event.getChangeFlags() & HierarchyEvent.PARENT_CHANGED) != 0)
+		{
+			invalidate(event.getComponent());
+		}
+	};
+
+	/**
+	 * Private constructor to prevent instantiation
+	 */
+	private AncestorCache()
+	{
+	}
+
+	/**
+	 * Gets the cached root JDialog from the given Component Object.
+	 *
+	 * @param component
+	 *            The Component to find the root JDialog.
+	 * @return 's the root JDialog.
+	 * @see AwtExtensions#getRootJDialog(Component)
+	 */
+	public static Component getRootJDialog(final @NonNull Component component)
+	{
+		final CachedAncestors cachedAncestors = getCachedAncestors(component);
+		Component rootJDialog = CachedAncestors.get(cachedAncestors.rootJDialog);
+		if (rootJDialog == null)
+		{
+			rootJDialog = AwtExtensions.getRootJDialog(component);
+			cachedAncestors.rootJDialog = new WeakReference<>(rootJDialog);
+		}
+		return rootJDialog;
+	}
+
+	/**
+	 * Gets the cached root JFrame from the given Component Object.
+	 *
+	 * @param component
+	 *            The Component to find the root JFrame.
+	 * @return 's the root JFrame.
+	 * @see AwtExtensions#getRootJFrame(Component)
+	 */
+	public static Component getRootJFrame(final @NonNull Component component)
+	{
+		final CachedAncestors cachedAncestors = getCachedAncestors(component);
+		Component rootJFrame = CachedAncestors.get(cachedAncestors.rootJFrame);
+		if (rootJFrame == null)
+		{
+			rootJFrame = AwtExtensions.getRootJFrame(component);
+			cachedAncestors.rootJFrame = new WeakReference<>(rootJFrame);
+		}
+		return rootJFrame;
+	}
+
+	/**
+	 * Gets the cached root parent from the given Component Object.
+	 *
+	 * @param component
+	 *            The Component to find the root parent.
+	 * @return 's the root parent.
+	 * @see AwtExtensions#getRootParent(Component)
+	 */
+	public static Component getRootParent(final @NonNull Component component)
+	{
+		final CachedAncestors cachedAncestors = getCachedAncestors(component);
+		Component rootParent = CachedAncestors.get(cachedAncestors.rootParent);
+		if (rootParent == null)
+		{
+			rootParent = AwtExtensions.getRootParent(component);
+			cachedAncestors.rootParent = new WeakReference<>(rootParent);
+		}
+		return rootParent;
+	}
+
+	/**
+	 * Invalidates the cached ancestors of the given component
+	 *
+	 * @param component
+	 *            the component
+	 */
+	public static void invalidate(final Component component)
+	{
+		synchronized (CACHE)
+		{
+			final CachedAncestors cachedAncestors = CACHE.get(component);
+			if (cachedAncestors != null)
+			{
+				cachedAncestors.clear();
+			}
+		}
+	}
+
+	/**
+	 * Removes all cached ancestors and the listeners from the cached components
+	 */
+	public static void clear()
+	{
+		synchronized (CACHE)
+		{
+			for (final Component component : CACHE.keySet())
+			{
+				component.removeHierarchyListener(INVALIDATOR);
+			}
+			CACHE.clear();
+		}
+	}
+
+	/**
+	 * Gets the number of the cached components
+	 *
+	 * @return the number of the cached components
+	 */
+	public static int size()
+	{
+		synchronized (CACHE)
+		{
+			return CACHE.size();
+		}
+	}
+
+	private static CachedAncestors getCachedAncestors(final Component component)
+	{
+		synchronized (CACHE)
+		{
+			CachedAncestors cachedAncestors = CACHE.get(component);
+			if (cachedAncestors == null)
+			{
+				cachedAncestors = new CachedAncestors();
+				CACHE.put(component, cachedAncestors);
+				component.addHierarchyListener(INVALIDATOR);
+			}
+			return cachedAncestors;
+		}
+	}
+
+	/**
+	 * The class {@link CachedAncestors} holds the resolved ancestors of a component weakly, so
+	 * the cache does not prevent that the component tree is garbage collected
+	 */
+	private static final class CachedAncestors
+	{
+
+		/**
+		 * The root JDialog or the root parent if there is no {@link JDialog}
+		 */
+		WeakReference<Component> rootJDialog;
+
+		/**
+		 * The root JFrame or the root parent if there is no {@link JFrame}
+		 */
+		WeakReference<Component> rootJFrame;
+
+		/**
+		 * The root parent
+		 */
+		WeakReference<Component> rootParent;
+
+		static Component get(final WeakReference<Component> reference)
+		{
+			if (reference == null)
+			{
+				return null;
+			}
+			return reference.get();
+		}
+
+		void clear()
+		{
+			rootJDialog = null;
+			rootJFrame = null;
+			rootParent = null;
+		}
+	}
+
+}
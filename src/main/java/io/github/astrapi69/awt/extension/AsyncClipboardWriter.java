@@ -0,0 +1,318 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.extension;
+
+import java.awt.datatransfer.Clipboard;
+import java.awt.datatransfer.ClipboardOwner;
+import java.awt.datatransfer.StringSelection;
+import java.awt.datatransfer.Transferable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * The class {@link AsyncClipboardWriter} writes contents to a {@link Clipboard} on a dedicated
+ * daemon thread, so the caller, usually the event dispatch thread, does not block on a slow
+ * clipboard. Bursts of writes are coalesced, if a write is requested before the previous one is
+ * published only the latest one is published and the future of the superseded write completes
+ * with false. If the clipboard is not available because another application holds it the write
+ * is retried with an exponential backoff. On {@link #shutdown()} the futures of all writes that
+ * are not yet published complete exceptionally
+ */
+public final class AsyncClipboardWriter
+{
+
+	/**
+	 * The constant for the default maximum number of retries
+	 */
+	public static final int DEFAULT_MAX_RETRIES = 5;
+
+	/**
+	 * The constant for the default delay in milliseconds before the first retry
+	 */
+	public static final long DEFAULT_INITIAL_BACKOFF_MILLIS = 20;
+
+	/**
+	 * The constant for the message of writes that are rejected or dropped on shutdown
+	 */
+	private static final String SHUT_DOWN_MESSAGE = "The clipboard writer is shut down";
+
+	/**
+	 * The clipboard
+	 */
+	@Getter
+	private final Clipboard clipboard;
+
+	/**
+	 * The maximum number of retries
+	 */
+	private final int maxRetries;
+
+	/**
+	 * The delay in milliseconds before the first retry, the delay is doubled on every retry
+	 */
+	private final long initialBackoffMillis;
+
+	/**
+	 * The executor with the writer thread
+	 */
+	private final ScheduledExecutorService executor;
+
+	/**
+	 * The latest requested write that is not yet taken by the writer thread
+	 */
+	private final AtomicReference<PendingWrite> pending = new AtomicReference<>();
+
+	/**
+	 * The flag if the writer thread is draining the pending writes
+	 */
+	private final AtomicBoolean draining = new AtomicBoolean();
+
+	/**
+	 * The write that is published or retried by the writer thread, only changed from the writer
+	 * thread and read on shutdown
+	 */
+	private volatile PendingWrite current;
+
+	/**
+	 * The number of retries of the current write, only accessed from the writer thread
+	 */
+	private int retries;
+
+	/**
+	 * Instantiates a new {@link AsyncClipboardWriter} with the default retry settings
+	 *
+	 * @param clipboard
+	 *            the clipboard
+	 */
+	public AsyncClipboardWriter(final @NonNull Clipboard clipboard)
+	{
+		this(clipboard, DEFAULT_MAX_RETRIES, DEFAULT_INITIAL_BACKOFF_MILLIS);
+	}
+
+	/**
+	 * Instantiates a new {@link AsyncClipboardWriter}
+	 *
+	 * @param clipboard
+	 *            the clipboard
+	 * @param maxRetries
+	 *            the maximum number of retries if the clipboard is not available
+	 * @param initialBackoffMillis
+	 *            the delay in milliseconds before the first retry
+	 */
+	public AsyncClipboardWriter(final @NonNull Clipboard clipboard, final int maxRetries,
+		final long initialBackoffMillis)
+	{
+		if (maxRetries < 0 || initialBackoffMillis < 0)
+		{
+			throw new IllegalArgumentException(
+				"maxRetries and initialBackoffMillis must not be negative");
+		}
+		this.clipboard = clipboard;
+		this.maxRetries = maxRetries;
+		this.initialBackoffMillis = initialBackoffMillis;
+		this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			final Thread thread = new Thread(runnable, "async-clipboard-writer");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Writes the given {@link String} object asynchronous to the clipboard
+	 *
+	 * @param value
+	 *            the {@link String} object
+	 * @return the future that completes with true if the value was published, with false if it
+	 *         was superseded by a later write or exceptionally if the write has failed
+	 */
+	public CompletableFuture<Boolean> write(final String value)
+	{
+		final StringSelection content = new StringSelection(value);
+		return write(content, content);
+	}
+
+	/**
+	 * Writes the given contents asynchronous to the clipboard
+	 *
+	 * @param contents
+	 *            the contents
+	 * @param owner
+	 *            the owner of the contents, can be null
+	 * @return the future that completes with true if the contents was published, with false if
+	 *         it was superseded by a later write or exceptionally if the write has failed
+	 */
+	public CompletableFuture<Boolean> write(final @NonNull Transferable contents,
+		final ClipboardOwner owner)
+	{
+		if (executor.isShutdown())
+		{
+			throw new IllegalStateException(SHUT_DOWN_MESSAGE);
+		}
+		final PendingWrite write = new PendingWrite(contents, owner);
+		final PendingWrite superseded = pending.getAndSet(write);
+		if (superseded != null)
+		{
+			superseded.future.complete(false);
+		}
+		if (draining.compareAndSet(false, true))
+		{
+			try
+			{
+				executor.execute(this::drain);
+			}
+			catch (final RejectedExecutionException exception)
+			{
+				draining.set(false);
+			}
+		}
+		if (executor.isShutdown())
+		{
+			// a shutdown raced with this write and may have missed it
+			failPending();
+		}
+		return write.future;
+	}
+
+	/**
+	 * Shuts the writer thread down, the futures of the pending write and of the write that is
+	 * published or retried complete exceptionally with an {@link IllegalStateException}
+	 */
+	public void shutdown()
+	{
+		executor.shutdownNow();
+		failPending();
+		final PendingWrite write = current;
+		if (write != null)
+		{
+			write.future.completeExceptionally(new IllegalStateException(SHUT_DOWN_MESSAGE));
+		}
+	}
+
+	private void failPending()
+	{
+		final PendingWrite write = pending.getAndSet(null);
+		if (write != null)
+		{
+			write.future.completeExceptionally(new IllegalStateException(SHUT_DOWN_MESSAGE));
+		}
+	}
+
+	private void drain()
+	{
+		while (true)
+		{
+			final PendingWrite latest = pending.getAndSet(null);
+			if (latest != null)
+			{
+				if (current != null)
+				{
+					current.future.complete(false);
+				}
+				current = latest;
+				retries = 0;
+			}
+			if (current == null)
+			{
+				draining.set(false);
+				if (pending.get() == null || !draining.compareAndSet(false, true))
+				{
+					return;
+				}
+				continue;
+			}
+			try
+			{
+				clipboard.setContents(current.contents, current.owner);
+				current.future.complete(true);
+				current = null;
+			}
+			catch (final IllegalStateException exception)
+			{
+				if (retries < maxRetries && !executor.isShutdown())
+				{
+					final long delay = initialBackoffMillis << Math.min(retries, 16);
+					retries++;
+					try
+					{
+						executor.schedule(this::drain, delay, TimeUnit.MILLISECONDS);
+						return;
+					}
+					catch (final RejectedExecutionException rejected)
+					{
+						current.future
+							.completeExceptionally(new IllegalStateException(SHUT_DOWN_MESSAGE));
+						current = null;
+						draining.set(false);
+						return;
+					}
+				}
+				current.future.completeExceptionally(exception);
+				current = null;
+			}
+			catch (final RuntimeException exception)
+			{
+				current.future.completeExceptionally(exception);
+				current = null;
+			}
+		}
+	}
+
+	/**
+	 * The class {@link PendingWrite} holds a requested write with its future
+	 */
+	private static final class PendingWrite
+	{
+
+		/**
+		 * The contents
+		 */
+		final Transferable contents;
+
+		/**
+		 * The owner of the contents
+		 */
+		final ClipboardOwner owner;
+
+		/**
+		 * The future of the write
+		 */
+		final CompletableFuture<Boolean> future = new CompletableFuture<>();
+
+		PendingWrite(final Transferable contents, final ClipboardOwner owner)
+		{
+			this.contents = contents;
+			this.owner = owner;
+		}
+	}
+
+}
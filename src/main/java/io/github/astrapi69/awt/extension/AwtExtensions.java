@@ -29,7 +29,6 @@ import java.awt.Cursor;
 import java.awt.Dialog;
 import java.awt.Frame;
 import java.awt.GraphicsEnvironment;
-import java.awt.HeadlessException;
 import java.awt.Point;
 import java.awt.Toolkit;
 import java.awt.Window;
@@ -38,6 +37,9 @@ import java.awt.datatransfer.Clipboard;
 import javax.swing.JDialog;
 import javax.swing.JFrame;
 import javax.swing.JOptionPane;
+import javax.swing.JRootPane;
+
+import lombok.NonNull;
 
 /**
  * The class {@link AwtExtensions}
@@ -53,43 +55,133 @@ public final class AwtExtensions
 	}
 
 	/**
-	 * Gets the root JDialog from the given Component Object.
+	 * Finds the first ancestor of the given component that is an instance of the given type. The
+	 * parent chain is walked iteratively and continues from a {@link Window} to its owner
 	 *
+	 * @param <T>
+	 *            the generic type of the ancestor
 	 * @param component
-	 *            The Component to find the root JDialog.
-	 * @return 's the root JDialog.
+	 *            the component
+	 * @param type
+	 *            the type of the ancestor
+	 * @return the first ancestor that is an instance of the given type or null if no one is found
 	 */
-	public static Component getRootJDialog(Component component)
+	public static <T> T findAncestor(final @NonNull Component component,
+		final @NonNull Class<T> type)
+	{
+		return findAncestorOrSelf(component.getParent(), type);
+	}
+
+	/**
+	 * Finds the given component or the first ancestor of it that is an instance of the given type
+	 *
+	 * @param <T>
+	 *            the generic type of the ancestor
+	 * @param component
+	 *            the component, can be null
+	 * @param type
+	 *            the type of the ancestor
+	 * @return the given component if it is an instance of the given type, otherwise the first
+	 *         ancestor that is an instance of the given type or null if no one is found
+	 */
+	public static <T> T findAncestorOrSelf(final Component component,
+		final @NonNull Class<T> type)
 	{
-		while (null != component.getParent())
+		for (Component current = component; current != null; current = current.getParent())
 		{
-			component = component.getParent();
-			if (component instanceof JDialog)
+			if (type.isInstance(current))
 			{
-				break;
+				return type.cast(current);
 			}
 		}
-		return component;
+		return null;
 	}
 
 	/**
-	 * Gets the root JFrame from the given Component Object.
+	 * Finds the first ancestor of the given component that is an instance of the given type. The
+	 * search stops at the first ancestor that is an instance of the given boundary type, for
+	 * instance {@link Window} or {@link JRootPane}, so it does not leave the window or the root
+	 * pane of the given component
 	 *
+	 * @param <T>
+	 *            the generic type of the ancestor
 	 * @param component
-	 *            The Component to find the root JFrame.
-	 * @return 's the root JFrame.
+	 *            the component
+	 * @param type
+	 *            the type of the ancestor
+	 * @param boundary
+	 *            the type of the ancestor where the search stops
+	 * @return the first ancestor that is an instance of the given type or null if no one is found
+	 *         up to and including the boundary
 	 */
-	public static Component getRootJFrame(Component component)
+	public static <T> T findAncestor(final @NonNull Component component,
+		final @NonNull Class<T> type, final @NonNull Class<? extends Component> boundary)
 	{
-		while (null != component.getParent())
+		for (Component current = component.getParent(); current != null; current = current
+			.getParent())
 		{
-			component = component.getParent();
-			if (component instanceof JFrame)
+			if (type.isInstance(current))
+			{
+				return type.cast(current);
+			}
+			if (boundary.isInstance(current))
+			{
+				return null;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Finds the first ancestor of the given component that is an instance of the given type or
+	 * the root parent if no ancestor is an instance of the given type
+	 *
+	 * @param component
+	 *            the component
+	 * @param type
+	 *            the type of the ancestor or null for find the root parent
+	 * @return the first ancestor that is an instance of the given type, the root parent if no one
+	 *         is found or the given component itself if it has no parent
+	 */
+	public static Component findAncestorOrRoot(final @NonNull Component component,
+		final Class<? extends Component> type)
+	{
+		Component current = component;
+		Component parent = current.getParent();
+		while (parent != null)
+		{
+			current = parent;
+			if (type != null && type.isInstance(current))
 			{
 				break;
 			}
+			parent = current.getParent();
 		}
-		return component;
+		return current;
+	}
+
+	/**
+	 * Gets the root JDialog from the given Component Object.
+	 *
+	 * @param component
+	 *            The Component to find the root JDialog.
+	 * @return 's the root JDialog.
+	 */
+	public static Component getRootJDialog(Component component)
+	{
+		return findAncestorOrRoot(component, JDialog.class);
+	}
+
+	/**
+	 * Gets the root JFrame from the given Component Object.
+	 *
+	 * @param component
+	 *            The Component to find the root JFrame.
+	 * @return 's the root JFrame.
+	 */
+	public static Component getRootJFrame(Component component)
+	{
+		return findAncestorOrRoot(component, JFrame.class);
 	}
 
 	/**
@@ -101,41 +193,48 @@ public final class AwtExtensions
 	 */
 	public static Component getRootParent(Component component)
 	{
-		while (null != component.getParent())
-		{
-			component = component.getParent();
-		}
-		return component;
+		return findAncestorOrRoot(component, null);
 	}
 
 	/**
-	 * Gets the toplevel <code>Frame</code> or <code>Dialog</code>
+	 * Gets the toplevel <code>Frame</code> or <code>Dialog</code> of the given component. The
+	 * window of the given component is found with {@link #findAncestorOrSelf(Component, Class)},
+	 * a window that is neither a <code>Frame</code> nor a <code>Dialog</code>, for instance a
+	 * <code>JWindow</code> or a popup, is resolved to its owner. If the given component has no
+	 * such ancestor the shared root frame of {@link JOptionPane} is returned, in headless mode
+	 * null is returned instead
 	 *
 	 * @param component
 	 *            the parent component
-	 * @return the the toplevel <code>Frame</code> or <code>Dialog</code>
-	 * @throws HeadlessException
-	 *             if <code>GraphicsEnvironment.isHeadless</code> returns <code>true</code>
+	 * @return the the toplevel <code>Frame</code> or <code>Dialog</code>, the root frame of
+	 *         {@link JOptionPane} or null in headless mode
 	 * @see GraphicsEnvironment#isHeadless
 	 */
-	public static Window getWindowForComponent(Component component) throws HeadlessException
+	public static Window getWindowForComponent(Component component)
 	{
-		if (component == null)
+		Window window = findAncestorOrSelf(component, Window.class);
+		while (window != null && !(window instanceof Frame) && !(window instanceof Dialog))
 		{
-			return JOptionPane.getRootFrame();
+			window = window.getOwner();
 		}
-		if (component instanceof Frame || component instanceof Dialog)
+		if (window != null)
 		{
-			return (Window)component;
+			return window;
 		}
-		return getWindowForComponent(component.getParent());
+		if (GraphicsEnvironment.isHeadless())
+		{
+			return null;
+		}
+		return JOptionPane.getRootFrame();
 	}
 
 	/**
-	 * Creates an invisible cursor.
+	 * Creates an invisible cursor. Every call creates a new native cursor
 	 *
 	 * @return s the created invisible cursor.
+	 * @deprecated use {@link #getInvisibleCursor()} for get the shared invisible cursor
 	 */
+	@Deprecated
 	public static Cursor newInvisibleCursor()
 	{
 		return Toolkit.getDefaultToolkit().createCustomCursor(
@@ -143,6 +242,16 @@ public final class AwtExtensions
 			"InvisibleCursor");
 	}
 
+	/**
+	 * Gets the shared invisible cursor from the {@link CursorRegistry}
+	 *
+	 * @return s the shared invisible cursor
+	 */
+	public static Cursor getInvisibleCursor()
+	{
+		return CursorRegistry.getInvisibleCursor();
+	}
+
 	/**
 	 * Gets the {@link Clipboard} of the system
 	 *
@@ -0,0 +1,361 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.extension;
+
+import java.awt.datatransfer.Clipboard;
+import java.awt.datatransfer.ClipboardOwner;
+import java.awt.datatransfer.DataFlavor;
+import java.awt.datatransfer.FlavorEvent;
+import java.awt.datatransfer.FlavorListener;
+import java.awt.datatransfer.Transferable;
+import java.awt.datatransfer.UnsupportedFlavorException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * The class {@link CachedClipboardReader} reads from a {@link Clipboard} and caches the available
+ * data flavors and the last read data, so frequent checks like if text can be pasted do not
+ * query the clipboard every time. The cache is invalidated when the flavors of the clipboard
+ * change, with {@link #invalidate()} and when contents that were written with an owner of
+ * {@link #createOwner(ClipboardOwner)} lose the ownership, like the contents of the copy methods
+ * of {@link ClipboardExtensions} do. Contents of other applications that keep the same flavors are
+ * not notified, so the read data is only cached for a short time, the time to live of the
+ * flavors is a safety net for platforms that do not notify all flavor changes
+ */
+public final class CachedClipboardReader implements FlavorListener
+{
+
+	/**
+	 * The constant for the default time to live of the cache in milliseconds
+	 */
+	public static final long DEFAULT_TIME_TO_LIVE_MILLIS = 60_000;
+
+	/**
+	 * The constant for the default time to live of the read data in milliseconds
+	 */
+	public static final long DEFAULT_DATA_TIME_TO_LIVE_MILLIS = 250;
+
+	/**
+	 * The clipboard
+	 */
+	@Getter
+	private final Clipboard clipboard;
+
+	/**
+	 * The time to live of the cache in nanoseconds
+	 */
+	private final long timeToLiveNanos;
+
+	/**
+	 * The time to live of the read data in nanoseconds
+	 */
+	private final long dataTimeToLiveNanos;
+
+	/**
+	 * The cached data mapped to their flavor
+	 */
+	private final Map<DataFlavor, Object> data = new HashMap<>();
+
+	/**
+	 * The cached available flavors or null if they are not loaded
+	 */
+	private DataFlavor[] flavors;
+
+	/**
+	 * The cached available flavors as set
+	 */
+	private Set<DataFlavor> flavorSet;
+
+	/**
+	 * The time in nanoseconds when the flavors were loaded
+	 */
+	private long loadedAt;
+
+	/**
+	 * The time in nanoseconds when the first of the cached data was read
+	 */
+	private long dataLoadedAt;
+
+	/**
+	 * The number of the lookups that were answered from the cache
+	 */
+	private long hitCount;
+
+	/**
+	 * The number of the lookups that have queried the clipboard
+	 */
+	private long missCount;
+
+	/**
+	 * Instantiates a new {@link CachedClipboardReader} with the default time to live
+	 *
+	 * @param clipboard
+	 *            the clipboard
+	 */
+	public CachedClipboardReader(final @NonNull Clipboard clipboard)
+	{
+		this(clipboard, DEFAULT_TIME_TO_LIVE_MILLIS);
+	}
+
+	/**
+	 * Instantiates a new {@link CachedClipboardReader} with the default time to live of the read
+	 * data
+	 *
+	 * @param clipboard
+	 *            the clipboard
+	 * @param timeToLiveMillis
+	 *            the time to live of the cache in milliseconds, {@link Long#MAX_VALUE} for a cache
+	 *            that is only invalidated by flavor changes and {@link #invalidate()}
+	 */
+	public CachedClipboardReader(final @NonNull Clipboard clipboard,
+		final long timeToLiveMillis)
+	{
+		this(clipboard, timeToLiveMillis, DEFAULT_DATA_TIME_TO_LIVE_MILLIS);
+	}
+
+	/**
+	 * Instantiates a new {@link CachedClipboardReader}
+	 *
+	 * @param clipboard
+	 *            the clipboard
+	 * @param timeToLiveMillis
+	 *            the time to live of the cache in milliseconds, {@link Long#MAX_VALUE} for a cache
+	 *            that is only invalidated by flavor changes and {@link #invalidate()}
+	 * @param dataTimeToLiveMillis
+	 *            the time to live of the read data in milliseconds, 0 for not caching the data
+	 */
+	public CachedClipboardReader(final @NonNull Clipboard clipboard, final long timeToLiveMillis,
+		final long dataTimeToLiveMillis)
+	{
+		if (timeToLiveMillis < 0 || dataTimeToLiveMillis < 0)
+		{
+			throw new IllegalArgumentException(
+				"timeToLiveMillis and dataTimeToLiveMillis must not be negative");
+		}
+		this.clipboard = clipboard;
+		this.timeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(timeToLiveMillis);
+		this.dataTimeToLiveNanos = TimeUnit.MILLISECONDS.toNanos(dataTimeToLiveMillis);
+		clipboard.addFlavorListener(this);
+	}
+
+	/**
+	 * Gets the data flavors that are available on the clipboard
+	 *
+	 * @return the available data flavors
+	 */
+	public synchronized DataFlavor[] getAvailableDataFlavors()
+	{
+		return loadFlavors().clone();
+	}
+
+	/**
+	 * Checks if the given data flavor is available on the clipboard
+	 *
+	 * @param flavor
+	 *            the data flavor
+	 * @return true if the given data flavor is available otherwise false
+	 */
+	public synchronized boolean isDataFlavorAvailable(final DataFlavor flavor)
+	{
+		loadFlavors();
+		return flavorSet.contains(flavor);
+	}
+
+	/**
+	 * Checks if text is available on the clipboard
+	 *
+	 * @return true if text is available otherwise false
+	 */
+	public boolean isTextAvailable()
+	{
+		return isDataFlavorAvailable(DataFlavor.stringFlavor);
+	}
+
+	/**
+	 * Gets the data of the given flavor from the clipboard
+	 *
+	 * @param flavor
+	 *            the data flavor
+	 * @return the data of the given flavor
+	 * @throws UnsupportedFlavorException
+	 *             if the data flavor is not available
+	 * @throws IOException
+	 *             if the data can not be read
+	 */
+	public synchronized Object getData(final @NonNull DataFlavor flavor)
+		throws UnsupportedFlavorException, IOException
+	{
+		if (!isDataFlavorAvailable(flavor))
+		{
+			throw new UnsupportedFlavorException(flavor);
+		}
+		if (!data.isEmpty() && System.nanoTime() - dataLoadedAt >= dataTimeToLiveNanos)
+		{
+			data.clear();
+		}
+		Object value = data.get(flavor);
+		if (value == null)
+		{
+			value = clipboard.getData(flavor);
+			// streams can be read only once and are not cached
+			if (!(value instanceof Reader) && !(value instanceof InputStream)
+				&& dataTimeToLiveNanos > 0)
+			{
+				if (data.isEmpty())
+				{
+					dataLoadedAt = System.nanoTime();
+				}
+				data.put(flavor, value);
+			}
+		}
+		return value;
+	}
+
+	/**
+	 * Gets the text from the clipboard
+	 *
+	 * @return the text or null if no text is available or it can not be read
+	 */
+	public String getText()
+	{
+		try
+		{
+			if (isTextAvailable())
+			{
+				return (String)getData(DataFlavor.stringFlavor);
+			}
+		}
+		catch (final UnsupportedFlavorException | IOException | IllegalStateException exception)
+		{
+			invalidate();
+		}
+		return null;
+	}
+
+	/**
+	 * Gets the number of the flavor lookups that were answered from the cache
+	 *
+	 * @return the number of the cache hits
+	 */
+	public synchronized long getHitCount()
+	{
+		return hitCount;
+	}
+
+	/**
+	 * Gets the number of the flavor lookups that have queried the clipboard
+	 *
+	 * @return the number of the cache misses
+	 */
+	public synchronized long getMissCount()
+	{
+		return missCount;
+	}
+
+	/**
+	 * Invalidates the cached flavors and data
+	 */
+	public synchronized void invalidate()
+	{
+		flavors = null;
+		flavorSet = null;
+		data.clear();
+	}
+
+	/**
+	 * Creates a {@link ClipboardOwner} for contents that are written to the clipboard of this
+	 * reader. The created owner invalidates this reader when the contents lose the ownership, so
+	 * contents of another application with the same flavors are not served from the cache, and
+	 * forwards the notification to the given owner
+	 *
+	 * @param owner
+	 *            the owner of the contents or null
+	 * @return the owner that is passed to {@link Clipboard#setContents(Transferable,
+	 *         ClipboardOwner)}
+	 */
+	public ClipboardOwner createOwner(final ClipboardOwner owner)
+	{
+		return (lostClipboard, contents) -> {
+			invalidate();
+			if (owner != null)
+			{
+				owner.lostOwnership(lostClipboard, contents);
+			}
+		};
+	}
+
+	/**
+	 * Removes this reader as flavor listener from the clipboard and clears the cache
+	 */
+	public void dispose()
+	{
+		clipboard.removeFlavorListener(this);
+		invalidate();
+	}
+
+	@Override
+	public void flavorsChanged(final FlavorEvent event)
+	{
+		invalidate();
+	}
+
+	private DataFlavor[] loadFlavors()
+	{
+		if (flavors != null && System.nanoTime() - loadedAt < timeToLiveNanos)
+		{
+			hitCount++;
+			return flavors;
+		}
+		missCount++;
+		data.clear();
+		DataFlavor[] available;
+		try
+		{
+			available = clipboard.getAvailableDataFlavors();
+		}
+		catch (final IllegalStateException exception)
+		{
+			// the clipboard is not available at the moment, do not cache this state
+			flavors = null;
+			flavorSet = new HashSet<>();
+			return new DataFlavor[0];
+		}
+		flavors = available;
+		flavorSet = new HashSet<>(Arrays.asList(available));
+		loadedAt = System.nanoTime();
+		return flavors;
+	}
+
+}
@@ -24,8 +24,21 @@
  */
 package io.github.astrapi69.awt.extension;
 
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.Image;
+import java.awt.Transparency;
 import java.awt.datatransfer.Clipboard;
+import java.awt.datatransfer.DataFlavor;
 import java.awt.datatransfer.StringSelection;
+import java.awt.datatransfer.UnsupportedFlavorException;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+
+import javax.swing.ImageIcon;
+
+import lombok.NonNull;
 
 /**
  * The class {@link ClipboardExtensions}
@@ -33,6 +46,16 @@ import java.awt.datatransfer.StringSelection;
 public final class ClipboardExtensions
 {
 
+	/**
+	 * The shared reader of the system clipboard, created on the first request
+	 */
+	private static volatile CachedClipboardReader clipboardReader;
+
+	/**
+	 * The history that records the copied texts or null if no history is recorded
+	 */
+	private static volatile ClipboardHistory clipboardHistory;
+
 	/**
 	 * Private constructor to prevent instantiation
 	 */
@@ -50,7 +73,278 @@ public final class ClipboardExtensions
 	{
 		Clipboard clipboard = AwtExtensions.getSystemClipboard();
 		StringSelection content = new StringSelection(value);
-		clipboard.setContents(content, content);
+		clipboard.setContents(content, getClipboardReader().createOwner(content));
+		invalidateClipboardReader();
+		addToClipboardHistory(value);
+	}
+
+	/**
+	 * Copy the given {@link StreamingTransferable} object to the clipboard. The data is read
+	 * from its suppliers only when it is pasted
+	 *
+	 * @param transferable
+	 *            the {@link StreamingTransferable} object to the clipboard
+	 */
+	public static void copyStreamingToClipboard(StreamingTransferable transferable)
+	{
+		Clipboard clipboard = AwtExtensions.getSystemClipboard();
+		clipboard.setContents(transferable, getClipboardReader().createOwner(transferable));
+		invalidateClipboardReader();
+	}
+
+	/**
+	 * Copy the given {@link Image} object to the clipboard. The image is transferred with the
+	 * {@link DataFlavor#imageFlavor} as it is, its raster is not copied
+	 *
+	 * @param image
+	 *            the {@link Image} object to the clipboard
+	 */
+	public static void copyImageToClipboard(Image image)
+	{
+		Clipboard clipboard = AwtExtensions.getSystemClipboard();
+		ImageSelection content = new ImageSelection(image);
+		clipboard.setContents(content, getClipboardReader().createOwner(content));
+		invalidateClipboardReader();
+	}
+
+	/**
+	 * Gets the image from the system clipboard as a {@link BufferedImage} that is compatible with
+	 * the given {@link GraphicsConfiguration}
+	 *
+	 * @param graphicsConfiguration
+	 *            the graphics configuration or null for an image of the type
+	 *            {@link BufferedImage#TYPE_INT_ARGB}
+	 * @return the image or null if no image is available
+	 * @see #getImage(Clipboard, GraphicsConfiguration)
+	 */
+	public static BufferedImage getImage(GraphicsConfiguration graphicsConfiguration)
+	{
+		return getImage(AwtExtensions.getSystemClipboard(), graphicsConfiguration);
+	}
+
+	/**
+	 * Gets the image from the given clipboard as a {@link BufferedImage} that is compatible with
+	 * the given {@link GraphicsConfiguration}. An image that is already compatible is returned
+	 * as it is, any other image is drawn once into a new compatible image
+	 *
+	 * @param clipboard
+	 *            the clipboard
+	 * @param graphicsConfiguration
+	 *            the graphics configuration or null for an image of the type
+	 *            {@link BufferedImage#TYPE_INT_ARGB}
+	 * @return the image or null if no image is available
+	 */
+	public static BufferedImage getImage(@NonNull Clipboard clipboard,
+		GraphicsConfiguration graphicsConfiguration)
+	{
+		Image image;
+		try
+		{
+			if (!clipboard.isDataFlavorAvailable(DataFlavor.imageFlavor))
+			{
+				return null;
+			}
+			image = (Image)clipboard.getData(DataFlavor.imageFlavor);
+		}
+		catch (UnsupportedFlavorException | IOException | IllegalStateException exception)
+		{
+			return null;
+		}
+		if (image == null)
+		{
+			return null;
+		}
+		return toCompatibleImage(image, graphicsConfiguration);
+	}
+
+	private static BufferedImage toCompatibleImage(Image image,
+		GraphicsConfiguration graphicsConfiguration)
+	{
+		if (image instanceof BufferedImage
+			&& isCompatible((BufferedImage)image, graphicsConfiguration))
+		{
+			return (BufferedImage)image;
+		}
+		if (image.getWidth(null) < 0 || image.getHeight(null) < 0)
+		{
+			// wait until a toolkit image is loaded
+			image = new ImageIcon(image).getImage();
+		}
+		int width = Math.max(1, image.getWidth(null));
+		int height = Math.max(1, image.getHeight(null));
+		BufferedImage compatible;
+		if (graphicsConfiguration != null)
+		{
+			compatible = graphicsConfiguration.createCompatibleImage(width, height,
+				Transparency.TRANSLUCENT);
+		}
+		else
+		{
+			compatible = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		}
+		Graphics2D graphics = compatible.createGraphics();
+		try
+		{
+			graphics.drawImage(image, 0, 0, null);
+		}
+		finally
+		{
+			graphics.dispose();
+		}
+		return compatible;
+	}
+
+	private static boolean isCompatible(BufferedImage image,
+		GraphicsConfiguration graphicsConfiguration)
+	{
+		if (graphicsConfiguration == null)
+		{
+			return image.getType() == BufferedImage.TYPE_INT_ARGB;
+		}
+		return image.getColorModel()
+			.equals(graphicsConfiguration.getColorModel(image.getTransparency()));
+	}
+
+	/**
+	 * Copy the given {@link String} object asynchronous to the clipboard of the system. The
+	 * clipboard is written on a dedicated thread, so the caller does not block
+	 *
+	 * @param value
+	 *            the {@link String} object to the clipboard
+	 * @return the future that completes with true if the value was published, with false if it
+	 *         was superseded by a later copy or exceptionally if the copy has failed. The value is
+	 *         added to the history only if it was published
+	 * @see AsyncClipboardWriter
+	 */
+	public static CompletableFuture<Boolean> copyToClipboardAsync(String value)
+	{
+		StringSelection content = new StringSelection(value);
+		return SystemClipboardWriterHolder.INSTANCE
+			.write(content, getClipboardReader().createOwner(content))
+			.whenComplete((published, exception) -> {
+				invalidateClipboardReader();
+				if (Boolean.TRUE.equals(published))
+				{
+					addToClipboardHistory(value);
+				}
+			});
+	}
+
+	/**
+	 * Gets the shared {@link CachedClipboardReader} of the system clipboard. The copy methods of
+	 * this class invalidate its cache after they have written the clipboard and when their
+	 * contents lose the ownership
+	 *
+	 * @return the shared {@link CachedClipboardReader} of the system clipboard
+	 */
+	public static CachedClipboardReader getClipboardReader()
+	{
+		CachedClipboardReader reader = clipboardReader;
+		if (reader == null)
+		{
+			synchronized (ClipboardExtensions.class)
+			{
+				reader = clipboardReader;
+				if (reader == null)
+				{
+					reader = new CachedClipboardReader(AwtExtensions.getSystemClipboard());
+					clipboardReader = reader;
+				}
+			}
+		}
+		return reader;
+	}
+
+	/**
+	 * Checks if text is available on the system clipboard
+	 *
+	 * @return true if text is available otherwise false
+	 */
+	public static boolean isTextAvailable()
+	{
+		return getClipboardReader().isTextAvailable();
+	}
+
+	/**
+	 * Gets the text from the system clipboard
+	 *
+	 * @return the text or null if no text is available
+	 */
+	public static String getText()
+	{
+		return getClipboardReader().getText();
+	}
+
+	/**
+	 * Gets the history that records the texts that are copied with this class
+	 *
+	 * @return the history or null if no history is recorded
+	 */
+	public static ClipboardHistory getClipboardHistory()
+	{
+		return clipboardHistory;
+	}
+
+	/**
+	 * Sets the history that records the texts that are copied with this class
+	 *
+	 * @param history
+	 *            the history or null for not record a history
+	 */
+	public static void setClipboardHistory(ClipboardHistory history)
+	{
+		clipboardHistory = history;
+	}
+
+	/**
+	 * Copy the entry at the given position of the history to the clipboard, the most recent entry
+	 * has the position 0. The entry becomes the most recent one
+	 *
+	 * @param position
+	 *            the position of the entry
+	 * @throws IllegalStateException
+	 *             if no history is recorded
+	 */
+	public static void copyFromClipboardHistory(int position)
+	{
+		ClipboardHistory history = clipboardHistory;
+		if (history == null)
+		{
+			throw new IllegalStateException("No clipboard history is recorded");
+		}
+		copyToClipboard(history.get(position));
+	}
+
+	private static void addToClipboardHistory(String value)
+	{
+		ClipboardHistory history = clipboardHistory;
+		if (history != null)
+		{
+			history.add(value);
+		}
+	}
+
+	private static void invalidateClipboardReader()
+	{
+		CachedClipboardReader reader = clipboardReader;
+		if (reader != null)
+		{
+			reader.invalidate();
+		}
+	}
+
+	/**
+	 * The class {@link SystemClipboardWriterHolder} creates the shared writer of the system
+	 * clipboard on the first asynchronous copy
+	 */
+	private static final class SystemClipboardWriterHolder
+	{
+
+		/**
+		 * The shared writer of the system clipboard
+		 */
+		static final AsyncClipboardWriter INSTANCE = new AsyncClipboardWriter(
+			AwtExtensions.getSystemClipboard());
 	}
 
 }
@@ -0,0 +1,314 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.extension;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.Getter;
+
+/**
+ * The class {@link ClipboardHistory} holds the recent clipboard texts in a ring buffer with a
+ * fixed capacity and a budget of bytes. The oldest entries are evicted if the capacity or the
+ * budget is exceeded. A text that is already in the history is not added twice, it is moved to
+ * the most recent position instead. The moved entry leaves a tombstone in the ring that is
+ * reclaimed when the ring is compacted, the ring has twice the capacity as slots so an insertion
+ * costs amortized constant time. The size of a text is estimated with two bytes per char
+ */
+public final class ClipboardHistory
+{
+
+	/**
+	 * The constant for the default capacity
+	 */
+	public static final int DEFAULT_CAPACITY = 25;
+
+	/**
+	 * The constant for the default budget of bytes
+	 */
+	public static final long DEFAULT_MAX_BYTES = 8L * 1024 * 1024;
+
+	/**
+	 * The maximum number of entries
+	 */
+	@Getter
+	private final int capacity;
+
+	/**
+	 * The maximum number of bytes of all entries
+	 */
+	@Getter
+	private final long maxBytes;
+
+	/**
+	 * The ring with the entries and the tombstones as null values
+	 */
+	private String[] slots;
+
+	/**
+	 * The slot indexes mapped to their entry
+	 */
+	private final Map<String, Integer> slotIndexes = new HashMap<>();
+
+	/**
+	 * The index of the oldest used slot
+	 */
+	private int tail;
+
+	/**
+	 * The number of the used slots from the tail on, including the tombstones
+	 */
+	private int used;
+
+	/**
+	 * The estimated number of bytes of all entries
+	 */
+	private long byteCount;
+
+	/**
+	 * Instantiates a new {@link ClipboardHistory} with the default capacity and budget of bytes
+	 */
+	public ClipboardHistory()
+	{
+		this(DEFAULT_CAPACITY, DEFAULT_MAX_BYTES);
+	}
+
+	/**
+	 * Instantiates a new {@link ClipboardHistory}
+	 *
+	 * @param capacity
+	 *            the maximum number of entries
+	 * @param maxBytes
+	 *            the maximum number of bytes of all entries
+	 */
+	public ClipboardHistory(final int capacity, final long maxBytes)
+	{
+		if (capacity <= 0 || maxBytes <= 0)
+		{
+			throw new IllegalArgumentException("capacity and maxBytes must be positive");
+		}
+		this.capacity = capacity;
+		this.maxBytes = maxBytes;
+		this.slots = new String[capacity * 2];
+	}
+
+	/**
+	 * Adds the given text as the most recent entry. If the text is already in the history it is
+	 * moved to the most recent position
+	 *
+	 * @param text
+	 *            the text
+	 * @return true if the text was added, false if it is null, empty or larger than the budget
+	 *         of bytes
+	 */
+	public synchronized boolean add(final String text)
+	{
+		if (text == null || text.isEmpty())
+		{
+			return false;
+		}
+		final long size = sizeOf(text);
+		if (size > maxBytes)
+		{
+			return false;
+		}
+		remove(text);
+		while (!slotIndexes.isEmpty()
+			&& (slotIndexes.size() >= capacity || byteCount + size > maxBytes))
+		{
+			evictOldest();
+		}
+		if (slotIndexes.isEmpty())
+		{
+			tail = 0;
+			used = 0;
+		}
+		if (used == slots.length)
+		{
+			compact();
+		}
+		final int index = (tail + used) % slots.length;
+		slots[index] = text;
+		slotIndexes.put(text, index);
+		used++;
+		byteCount += size;
+		return true;
+	}
+
+	/**
+	 * Removes the given text from the history
+	 *
+	 * @param text
+	 *            the text
+	 * @return true if the text was removed otherwise false
+	 */
+	public synchronized boolean remove(final String text)
+	{
+		final Integer index = slotIndexes.remove(text);
+		if (index == null)
+		{
+			return false;
+		}
+		slots[index] = null;
+		byteCount -= sizeOf(text);
+		return true;
+	}
+
+	/**
+	 * Gets the entry at the given position, the most recent entry has the position 0
+	 *
+	 * @param position
+	 *            the position
+	 * @return the entry at the given position
+	 */
+	public synchronized String get(final int position)
+	{
+		if (position < 0 || position >= slotIndexes.size())
+		{
+			throw new IndexOutOfBoundsException(
+				"position " + position + " of " + slotIndexes.size());
+		}
+		int found = 0;
+		for (int i = used - 1; i >= 0; i--)
+		{
+			final String text = slots[(tail + i) % slots.length];
+			if (text != null && found++ == position)
+			{
+				return text;
+			}
+		}
+		throw new IllegalStateException("The history is inconsistent");
+	}
+
+	/**
+	 * Gets all entries from the most recent to the oldest one
+	 *
+	 * @return a new list with all entries
+	 */
+	public synchronized List<String> getEntries()
+	{
+		final List<String> entries = new ArrayList<>(slotIndexes.size());
+		for (int i = used - 1; i >= 0; i--)
+		{
+			final String text = slots[(tail + i) % slots.length];
+			if (text != null)
+			{
+				entries.add(text);
+			}
+		}
+		return entries;
+	}
+
+	/**
+	 * Checks if the given text is in the history
+	 *
+	 * @param text
+	 *            the text
+	 * @return true if the given text is in the history otherwise false
+	 */
+	public synchronized boolean contains(final String text)
+	{
+		return slotIndexes.containsKey(text);
+	}
+
+	/**
+	 * Gets the number of the entries
+	 *
+	 * @return the number of the entries
+	 */
+	public synchronized int size()
+	{
+		return slotIndexes.size();
+	}
+
+	/**
+	 * Gets the estimated number of bytes of all entries
+	 *
+	 * @return the estimated number of bytes
+	 */
+	public synchronized long getByteCount()
+	{
+		return byteCount;
+	}
+
+	/**
+	 * Removes all entries
+	 */
+	public synchronized void clear()
+	{
+		slots = new String[slots.length];
+		slotIndexes.clear();
+		tail = 0;
+		used = 0;
+		byteCount = 0;
+	}
+
+	private static long sizeOf(final String text)
+	{
+		return 2L * text.length();
+	}
+
+	private void evictOldest()
+	{
+		while (slots[tail] == null)
+		{
+			tail = (tail + 1) % slots.length;
+			used--;
+		}
+		final String text = slots[tail];
+		slots[tail] = null;
+		slotIndexes.remove(text);
+		byteCount -= sizeOf(text);
+		tail = (tail + 1) % slots.length;
+		used--;
+	}
+
+	/**
+	 * Moves the entries without the tombstones to the start of a new ring. The ring is only full
+	 * if at least the half of the slots are tombstones, because the number of the entries is
+	 * limited to the capacity
+	 */
+	private void compact()
+	{
+		final String[] compacted = new String[slots.length];
+		int size = 0;
+		for (int i = 0; i < used; i++)
+		{
+			final String text = slots[(tail + i) % slots.length];
+			if (text != null)
+			{
+				compacted[size] = text;
+				slotIndexes.put(text, size);
+				size++;
+			}
+		}
+		slots = compacted;
+		tail = 0;
+		used = size;
+	}
+
+}
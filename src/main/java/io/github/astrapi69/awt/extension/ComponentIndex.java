@@ -0,0 +1,338 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.extension;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.awt.event.ContainerEvent;
+import java.awt.event.ContainerListener;
+import java.beans.PropertyChangeEvent;
+import java.beans.PropertyChangeListener;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * The class {@link ComponentIndex} indexes the components of a root container by name and by
+ * type. A {@link ContainerListener} is registered recursively on every indexed container and a
+ * {@link PropertyChangeListener} for the name on every indexed component, so the index is updated
+ * incrementally when components are added, removed or renamed and lookups do not walk the
+ * component tree.<br>
+ * <br>
+ * The index holds only the components of the tree of the root container, a removed component
+ * is dropped from the index with all its descendants and its listeners are removed. A name that
+ * is used by one component costs only one map entry. The index is intended to be used from the
+ * event dispatch thread and has to be disposed with {@link #dispose()} if it is not longer
+ * needed
+ */
+public final class ComponentIndex
+{
+
+	/**
+	 * The root container
+	 */
+	@Getter
+	private final Container root;
+
+	/**
+	 * The components mapped to their name, the value is the component if the name is unique or a
+	 * list of the components with this name
+	 */
+	private final Map<String, Object> componentsByName = new HashMap<>();
+
+	/**
+	 * The components mapped to their class
+	 */
+	private final Map<Class<?>, Set<Component>> componentsByType = new HashMap<>();
+
+	/**
+	 * The listener that updates the index
+	 */
+	private final IndexUpdater indexUpdater = new IndexUpdater();
+
+	/**
+	 * The number of the indexed components
+	 */
+	private int size;
+
+	/**
+	 * Instantiates a new {@link ComponentIndex} and indexes the given root container with all
+	 * its descendants
+	 *
+	 * @param root
+	 *            the root container
+	 */
+	public ComponentIndex(final @NonNull Container root)
+	{
+		this.root = root;
+		index(root);
+	}
+
+	/**
+	 * Gets the first indexed component with the given name
+	 *
+	 * @param name
+	 *            the name
+	 * @return the first indexed component with the given name or null if no one is found
+	 */
+	@SuppressWarnings("unchecked")
+	public Component getComponent(final String name)
+	{
+		final Object value = componentsByName.get(name);
+		if (value instanceof List)
+		{
+			return ((List<Component>)value).get(0);
+		}
+		return (Component)value;
+	}
+
+	/**
+	 * Gets all the indexed components with the given name
+	 *
+	 * @param name
+	 *            the name
+	 * @return an unmodifiable list with the indexed components with the given name
+	 */
+	@SuppressWarnings("unchecked")
+	public List<Component> getComponents(final String name)
+	{
+		final Object value = componentsByName.get(name);
+		if (value == null)
+		{
+			return Collections.emptyList();
+		}
+		if (value instanceof List)
+		{
+			return Collections.unmodifiableList(new ArrayList<>((List<Component>)value));
+		}
+		return Collections.singletonList((Component)value);
+	}
+
+	/**
+	 * Gets all the indexed components that are an instance of the given type. The lookup costs
+	 * one check for every indexed class and is independent from the size of the component tree
+	 *
+	 * @param <T>
+	 *            the generic type of the components
+	 * @param type
+	 *            the type
+	 * @return a list with the indexed components that are an instance of the given type
+	 */
+	public <T> List<T> getComponents(final @NonNull Class<T> type)
+	{
+		final List<T> components = new ArrayList<>();
+		for (final Map.Entry<Class<?>, Set<Component>> entry : componentsByType.entrySet())
+		{
+			if (type.isAssignableFrom(entry.getKey()))
+			{
+				for (final Component component : entry.getValue())
+				{
+					components.add(type.cast(component));
+				}
+			}
+		}
+		return components;
+	}
+
+	/**
+	 * Checks if the given component is indexed
+	 *
+	 * @param component
+	 *            the component
+	 * @return true if the given component is indexed otherwise false
+	 */
+	public boolean contains(final Component component)
+	{
+		if (component == null)
+		{
+			return false;
+		}
+		final Set<Component> components = componentsByType.get(component.getClass());
+		return components != null && components.contains(component);
+	}
+
+	/**
+	 * Gets the number of the indexed components
+	 *
+	 * @return the number of the indexed components
+	 */
+	public int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Gets the number of the distinct names of the indexed components
+	 *
+	 * @return the number of the distinct names
+	 */
+	public int getNameCount()
+	{
+		return componentsByName.size();
+	}
+
+	/**
+	 * Gets the number of the distinct classes of the indexed components
+	 *
+	 * @return the number of the distinct classes
+	 */
+	public int getTypeCount()
+	{
+		return componentsByType.size();
+	}
+
+	/**
+	 * Removes all the listeners from the indexed components and clears the index
+	 */
+	public void dispose()
+	{
+		unindex(root);
+	}
+
+	private void index(final Component component)
+	{
+		ComponentTraversal.depthFirst(component, (child, depth) -> {
+			if (!componentsByType.computeIfAbsent(child.getClass(), type -> new LinkedHashSet<>())
+				.add(child))
+			{
+				return TraversalAction.SKIP_CHILDREN;
+			}
+			addName(child.getName(), child);
+			child.addPropertyChangeListener("name", indexUpdater);
+			if (child instanceof Container)
+			{
+				((Container)child).addContainerListener(indexUpdater);
+			}
+			size++;
+			return TraversalAction.CONTINUE;
+		});
+	}
+
+	private void unindex(final Component component)
+	{
+		ComponentTraversal.depthFirst(component, (child, depth) -> {
+			final Set<Component> components = componentsByType.get(child.getClass());
+			if (components == null || !components.remove(child))
+			{
+				return TraversalAction.SKIP_CHILDREN;
+			}
+			if (components.isEmpty())
+			{
+				componentsByType.remove(child.getClass());
+			}
+			removeName(child.getName(), child);
+			child.removePropertyChangeListener("name", indexUpdater);
+			if (child instanceof Container)
+			{
+				((Container)child).removeContainerListener(indexUpdater);
+			}
+			size--;
+			return TraversalAction.CONTINUE;
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private void addName(final String name, final Component component)
+	{
+		if (name == null)
+		{
+			return;
+		}
+		final Object value = componentsByName.get(name);
+		if (value == null)
+		{
+			componentsByName.put(name, component);
+		}
+		else if (value instanceof List)
+		{
+			((List<Component>)value).add(component);
+		}
+		else
+		{
+			final List<Component> components = new ArrayList<>(2);
+			components.add((Component)value);
+			components.add(component);
+			componentsByName.put(name, components);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private void removeName(final String name, final Component component)
+	{
+		if (name == null)
+		{
+			return;
+		}
+		final Object value = componentsByName.get(name);
+		if (value == component)
+		{
+			componentsByName.remove(name);
+		}
+		else if (value instanceof List)
+		{
+			final List<Component> components = (List<Component>)value;
+			components.remove(component);
+			if (components.size() == 1)
+			{
+				componentsByName.put(name, components.get(0));
+			}
+		}
+	}
+
+	/**
+	 * The class {@link IndexUpdater} updates the index on container and name changes
+	 */
+	private final class IndexUpdater implements ContainerListener, PropertyChangeListener
+	{
+
+		@Override
+		public void componentAdded(final ContainerEvent event)
+		{
+			index(event.getChild());
+		}
+
+		@Override
+		public void componentRemoved(final ContainerEvent event)
+		{
+			unindex(event.getChild());
+		}
+
+		@Override
+		public void propertyChange(final PropertyChangeEvent event)
+		{
+			final Component component = (Component)event.getSource();
+			removeName((String)event.getOldValue(), component);
+			addName((String)event.getNewValue(), component);
+		}
+	}
+
+}
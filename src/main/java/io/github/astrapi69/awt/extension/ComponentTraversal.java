@@ -0,0 +1,311 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.extension;
+
+import java.awt.Component;
+import java.awt.Container;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import lombok.NonNull;
+
+/**
+ * The class {@link ComponentTraversal} walks down a component tree depth first or breadth first.
+ * The traversal does not recurse and does not copy the children arrays of the containers, it
+ * keeps an explicit stack of the containers with the index of the next child, so trees of any
+ * depth and size can be walked. The component tree should not be modified during a traversal
+ * from another thread than the one that traverses, usually the event dispatch thread
+ */
+public final class ComponentTraversal
+{
+
+	/**
+	 * Private constructor to prevent instantiation
+	 */
+	private ComponentTraversal()
+	{
+	}
+
+	/**
+	 * Walks the component tree of the given root component depth first in pre order and calls
+	 * the given visitor for every component
+	 *
+	 * @param root
+	 *            the root component
+	 * @param visitor
+	 *            the visitor
+	 * @return the component where the visitor has terminated the traversal or null if the whole
+	 *         tree was walked
+	 */
+	public static Component depthFirst(final @NonNull Component root,
+		final @NonNull ComponentVisitor visitor)
+	{
+		final TraversalAction rootAction = visitor.visit(root, 0);
+		if (rootAction == TraversalAction.TERMINATE)
+		{
+			return root;
+		}
+		if (rootAction == TraversalAction.SKIP_CHILDREN || !(root instanceof Container))
+		{
+			return null;
+		}
+		final ContainerStack stack = new ContainerStack();
+		stack.push((Container)root);
+		Component child;
+		while ((child = stack.nextChild()) != null)
+		{
+			final TraversalAction action = visitor.visit(child, stack.size());
+			if (action == TraversalAction.TERMINATE)
+			{
+				return child;
+			}
+			if (action == TraversalAction.CONTINUE && child instanceof Container)
+			{
+				stack.push((Container)child);
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Walks the component tree of the given root component breadth first and calls the given
+	 * visitor for every component
+	 *
+	 * @param root
+	 *            the root component
+	 * @param visitor
+	 *            the visitor
+	 * @return the component where the visitor has terminated the traversal or null if the whole
+	 *         tree was walked
+	 */
+	public static Component breadthFirst(final @NonNull Component root,
+		final @NonNull ComponentVisitor visitor)
+	{
+		final TraversalAction rootAction = visitor.visit(root, 0);
+		if (rootAction == TraversalAction.TERMINATE)
+		{
+			return root;
+		}
+		if (rootAction == TraversalAction.SKIP_CHILDREN || !(root instanceof Container))
+		{
+			return null;
+		}
+		final ArrayDeque<Container> queue = new ArrayDeque<>();
+		queue.add((Container)root);
+		int depth = 1;
+		int remainingInLevel = 1;
+		int nextLevelSize = 0;
+		while (!queue.isEmpty())
+		{
+			final Container container = queue.poll();
+			for (int i = 0; i < container.getComponentCount(); i++)
+			{
+				final Component child = container.getComponent(i);
+				final TraversalAction action = visitor.visit(child, depth);
+				if (action == TraversalAction.TERMINATE)
+				{
+					return child;
+				}
+				if (action == TraversalAction.CONTINUE && child instanceof Container)
+				{
+					queue.add((Container)child);
+					nextLevelSize++;
+				}
+			}
+			if (--remainingInLevel == 0)
+			{
+				remainingInLevel = nextLevelSize;
+				nextLevelSize = 0;
+				depth++;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Creates a lazy {@link Stream} over the given root component and all its descendants in
+	 * depth first pre order
+	 *
+	 * @param root
+	 *            the root component
+	 * @return the new {@link Stream}
+	 */
+	public static Stream<Component> stream(final @NonNull Component root)
+	{
+		return stream(root, container -> true);
+	}
+
+	/**
+	 * Creates a lazy {@link Stream} over the given root component and its descendants in depth
+	 * first pre order. The children of a container are only walked if the given predicate
+	 * accepts the container. The children are resolved when the stream reaches them, so a short
+	 * circuiting operation like {@link Stream#findFirst()} stops the walk
+	 *
+	 * @param root
+	 *            the root component
+	 * @param descend
+	 *            the predicate that decides if the children of a container are walked
+	 * @return the new {@link Stream}
+	 */
+	public static Stream<Component> stream(final @NonNull Component root,
+		final @NonNull Predicate<? super Container> descend)
+	{
+		return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+			new DepthFirstIterator(root, descend), Spliterator.ORDERED | Spliterator.NONNULL),
+			false);
+	}
+
+	/**
+	 * The class {@link ContainerStack} is a stack of containers with the index of the next child
+	 * that has to be visited
+	 */
+	private static final class ContainerStack
+	{
+
+		/**
+		 * The containers
+		 */
+		private Container[] containers = new Container[16];
+
+		/**
+		 * The index of the next child for every container
+		 */
+		private int[] indexes = new int[16];
+
+		/**
+		 * The number of containers on the stack
+		 */
+		private int size;
+
+		void push(final Container container)
+		{
+			if (size == containers.length)
+			{
+				containers = Arrays.copyOf(containers, size * 2);
+				indexes = Arrays.copyOf(indexes, size * 2);
+			}
+			containers[size] = container;
+			indexes[size] = 0;
+			size++;
+		}
+
+		/**
+		 * Gets the next child of the container on the top of the stack and pops the containers
+		 * without further children
+		 *
+		 * @return the next child or null if the stack is empty
+		 */
+		Component nextChild()
+		{
+			while (size > 0)
+			{
+				final Container container = containers[size - 1];
+				final int index = indexes[size - 1];
+				if (index < container.getComponentCount())
+				{
+					indexes[size - 1] = index + 1;
+					return container.getComponent(index);
+				}
+				containers[--size] = null;
+			}
+			return null;
+		}
+
+		int size()
+		{
+			return size;
+		}
+	}
+
+	/**
+	 * The class {@link DepthFirstIterator} walks a component tree lazily depth first in pre
+	 * order
+	 */
+	private static final class DepthFirstIterator implements Iterator<Component>
+	{
+
+		/**
+		 * The predicate that decides if the children of a container are walked
+		 */
+		private final Predicate<? super Container> descend;
+
+		/**
+		 * The stack of the containers that are walked
+		 */
+		private final ContainerStack stack = new ContainerStack();
+
+		/**
+		 * The next component or null if it has to be resolved
+		 */
+		private Component next;
+
+		/**
+		 * The last returned component that is pushed on the stack before the next one is
+		 * resolved
+		 */
+		private Component last;
+
+		DepthFirstIterator(final Component root, final Predicate<? super Container> descend)
+		{
+			this.descend = descend;
+			this.next = root;
+		}
+
+		@Override
+		public boolean hasNext()
+		{
+			if (next == null)
+			{
+				if (last instanceof Container && descend.test((Container)last))
+				{
+					stack.push((Container)last);
+				}
+				last = null;
+				next = stack.nextChild();
+			}
+			return next != null;
+		}
+
+		@Override
+		public Component next()
+		{
+			if (!hasNext())
+			{
+				throw new NoSuchElementException();
+			}
+			last = next;
+			next = null;
+			return last;
+		}
+	}
+
+}
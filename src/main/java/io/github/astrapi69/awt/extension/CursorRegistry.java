@@ -0,0 +1,381 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.extension;
+
+import java.awt.Cursor;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.Image;
+import java.awt.Point;
+import java.awt.RenderingHints;
+import java.awt.Toolkit;
+import java.awt.image.BufferedImage;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import lombok.NonNull;
+
+/**
+ * The class {@link CursorRegistry} caches custom cursors keyed by the toolkit, the image, the
+ * caller supplied name and the hot spot of the cursor, so a custom cursor, for instance the
+ * invisible cursor, is created only once and the native cursor is reused instead of creating a
+ * new one on every call. The image is compared by identity, so different images registered under
+ * the same name result in different cursors and callers should reuse the image instance instead
+ * of loading a new one on every call. The images of custom cursors are scaled to the best cursor
+ * size of the toolkit before the cursor is created.<br>
+ * <br>
+ * The registry holds at most the maximum cursor count of cursors. If a new cursor exceeds it the
+ * least recently requested cursor is evicted, cursors can also be evicted explicitly with
+ * {@link #remove(String)} and {@link #clear()}. An evicted cursor is created again on the next
+ * request
+ */
+public final class CursorRegistry
+{
+
+	/**
+	 * The constant for the name of the invisible cursor
+	 */
+	public static final String INVISIBLE_CURSOR_NAME = "InvisibleCursor";
+
+	/**
+	 * The constant for the default maximum number of cached cursors
+	 */
+	public static final int DEFAULT_MAX_CURSOR_COUNT = 32;
+
+	/**
+	 * The cached cursors mapped to their specification in the order of their last request
+	 */
+	private static final Map<CursorKey, Cursor> CURSORS = new LinkedHashMap<>(16, 0.75f, true);
+
+	/**
+	 * The maximum number of cached cursors, guarded by the lock of {@link #CURSORS}
+	 */
+	private static int maxCursorCount = DEFAULT_MAX_CURSOR_COUNT;
+
+	/**
+	 * Private constructor to prevent instantiation
+	 */
+	private CursorRegistry()
+	{
+	}
+
+	/**
+	 * Gets the shared invisible cursor of the default toolkit
+	 *
+	 * @return the shared invisible cursor
+	 */
+	public static Cursor getInvisibleCursor()
+	{
+		return getInvisibleCursor(Toolkit.getDefaultToolkit());
+	}
+
+	/**
+	 * Gets the shared invisible cursor of the given toolkit. If the toolkit does not support
+	 * custom cursors the default cursor is returned
+	 *
+	 * @param toolkit
+	 *            the toolkit
+	 * @return the shared invisible cursor
+	 */
+	public static Cursor getInvisibleCursor(final @NonNull Toolkit toolkit)
+	{
+		synchronized (CURSORS)
+		{
+			final CursorKey key = new CursorKey(toolkit, null, INVISIBLE_CURSOR_NAME, 0,
+				0);
+			Cursor cursor = CURSORS.get(key);
+			if (cursor == null)
+			{
+				final Dimension bestSize = toolkit.getBestCursorSize(1, 1);
+				if (bestSize.width <= 0 || bestSize.height <= 0)
+				{
+					return Cursor.getDefaultCursor();
+				}
+				cursor = toolkit.createCustomCursor(
+					new BufferedImage(bestSize.width, bestSize.height,
+						BufferedImage.TYPE_INT_ARGB),
+					new Point(0, 0), INVISIBLE_CURSOR_NAME);
+				put(key, cursor);
+			}
+			return cursor;
+		}
+	}
+
+	/**
+	 * Gets the shared custom cursor of the default toolkit for the given image, name and hot spot
+	 *
+	 * @param image
+	 *            the image of the cursor
+	 * @param hotSpot
+	 *            the hot spot in the coordinates of the given image
+	 * @param name
+	 *            the name of the cursor
+	 * @return the shared custom cursor
+	 */
+	public static Cursor getCustomCursor(final @NonNull Image image, final @NonNull Point hotSpot,
+		final @NonNull String name)
+	{
+		return getCustomCursor(Toolkit.getDefaultToolkit(), image, hotSpot, name);
+	}
+
+	/**
+	 * Gets the shared custom cursor of the given toolkit for the given image, name and hot spot.
+	 * If the cursor is not cached it is created from the given image. If the size of the image is
+	 * not the best cursor size of the toolkit the image is scaled to the best cursor size and the
+	 * hot spot is moved accordingly. If the toolkit does not support custom cursors the default
+	 * cursor is returned
+	 *
+	 * @param toolkit
+	 *            the toolkit
+	 * @param image
+	 *            the image of the cursor
+	 * @param hotSpot
+	 *            the hot spot in the coordinates of the given image
+	 * @param name
+	 *            the name that identifies the cursor
+	 * @return the shared custom cursor
+	 */
+	public static Cursor getCustomCursor(final @NonNull Toolkit toolkit,
+		final @NonNull Image image, final @NonNull Point hotSpot, final @NonNull String name)
+	{
+		synchronized (CURSORS)
+		{
+			final CursorKey key = new CursorKey(toolkit, image, name, hotSpot.x, hotSpot.y);
+			Cursor cursor = CURSORS.get(key);
+			if (cursor == null)
+			{
+				final int width = image.getWidth(null);
+				final int height = image.getHeight(null);
+				final Dimension bestSize = toolkit.getBestCursorSize(width, height);
+				if (bestSize.width <= 0 || bestSize.height <= 0)
+				{
+					return Cursor.getDefaultCursor();
+				}
+				Image cursorImage = image;
+				Point cursorHotSpot = hotSpot;
+				if (width > 0 && height > 0
+					&& (bestSize.width != width || bestSize.height != height))
+				{
+					cursorImage = scale(image, bestSize);
+					cursorHotSpot = new Point(
+						Math.min(hotSpot.x * bestSize.width / width, bestSize.width - 1),
+						Math.min(hotSpot.y * bestSize.height / height, bestSize.height - 1));
+				}
+				cursor = toolkit.createCustomCursor(cursorImage, cursorHotSpot, name);
+				put(key, cursor);
+			}
+			return cursor;
+		}
+	}
+
+	/**
+	 * Gets the number of the cached custom cursors, that is the number of the native cursors
+	 * that are held by this registry
+	 *
+	 * @return the number of the cached custom cursors
+	 */
+	public static int getLiveCursorCount()
+	{
+		synchronized (CURSORS)
+		{
+			return CURSORS.size();
+		}
+	}
+
+	/**
+	 * Gets the maximum number of cached cursors
+	 *
+	 * @return the maximum number of cached cursors
+	 */
+	public static int getMaxCursorCount()
+	{
+		synchronized (CURSORS)
+		{
+			return maxCursorCount;
+		}
+	}
+
+	/**
+	 * Sets the maximum number of cached cursors. If more cursors are cached the least recently
+	 * requested cursors are evicted
+	 *
+	 * @param maxCursorCount
+	 *            the maximum number of cached cursors
+	 */
+	public static void setMaxCursorCount(final int maxCursorCount)
+	{
+		if (maxCursorCount <= 0)
+		{
+			throw new IllegalArgumentException("The maximum cursor count has to be positive");
+		}
+		synchronized (CURSORS)
+		{
+			CursorRegistry.maxCursorCount = maxCursorCount;
+			evict();
+		}
+	}
+
+	/**
+	 * Removes the cached custom cursors with the given name of all toolkits, images and hot
+	 * spots, so their native cursors can be released after they are not longer used by a
+	 * component
+	 *
+	 * @param name
+	 *            the name of the cursors
+	 * @return the number of the removed cursors
+	 */
+	public static int remove(final @NonNull String name)
+	{
+		synchronized (CURSORS)
+		{
+			int removed = 0;
+			final Iterator<CursorKey> iterator = CURSORS.keySet().iterator();
+			while (iterator.hasNext())
+			{
+				if (iterator.next().name.equals(name))
+				{
+					iterator.remove();
+					removed++;
+				}
+			}
+			return removed;
+		}
+	}
+
+	/**
+	 * Removes all cached custom cursors, so their native cursors can be released after they are
+	 * not longer used by a component
+	 */
+	public static void clear()
+	{
+		synchronized (CURSORS)
+		{
+			CURSORS.clear();
+		}
+	}
+
+	private static void put(final CursorKey key, final Cursor cursor)
+	{
+		CURSORS.put(key, cursor);
+		evict();
+	}
+
+	private static void evict()
+	{
+		final Iterator<CursorKey> iterator = CURSORS.keySet().iterator();
+		while (CURSORS.size() > maxCursorCount && iterator.hasNext())
+		{
+			iterator.next();
+			iterator.remove();
+		}
+	}
+
+	private static Image scale(final Image image, final Dimension size)
+	{
+		final BufferedImage scaled = new BufferedImage(size.width, size.height,
+			BufferedImage.TYPE_INT_ARGB);
+		final Graphics2D graphics = scaled.createGraphics();
+		try
+		{
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION,
+				RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+			graphics.drawImage(image, 0, 0, size.width, size.height, null);
+		}
+		finally
+		{
+			graphics.dispose();
+		}
+		return scaled;
+	}
+
+	/**
+	 * The class {@link CursorKey} is the specification of a cached cursor. The toolkit and the
+	 * image are compared by identity
+	 */
+	private static final class CursorKey
+	{
+
+		/**
+		 * The toolkit that created the cursor
+		 */
+		private final Toolkit toolkit;
+
+		/**
+		 * The image of the cursor or null for the invisible cursor
+		 */
+		private final Image image;
+
+		/**
+		 * The name of the cursor
+		 */
+		private final String name;
+
+		/**
+		 * The x coordinate of the hot spot
+		 */
+		private final int hotSpotX;
+
+		/**
+		 * The y coordinate of the hot spot
+		 */
+		private final int hotSpotY;
+
+		CursorKey(final Toolkit toolkit, final Image image, final String name, final int hotSpotX,
+			final int hotSpotY)
+		{
+			this.toolkit = toolkit;
+			this.image = image;
+			this.name = name;
+			this.hotSpotX = hotSpotX;
+			this.hotSpotY = hotSpotY;
+		}
+
+		@Override
+		public boolean equals(final Object object)
+		{
+			if (this == object)
+			{
+				return true;
+			}
+			if (!(object instanceof CursorKey))
+			{
+				return false;
+			}
+			final CursorKey other = (CursorKey)object;
+			return toolkit == other.toolkit && image == other.image && hotSpotX == other.hotSpotX
+				&& hotSpotY == other.hotSpotY && name.equals(other.name);
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return Objects.hash(System.identityHashCode(toolkit), System.identityHashCode(image),
+				name, hotSpotX, hotSpotY);
+		}
+	}
+
+}
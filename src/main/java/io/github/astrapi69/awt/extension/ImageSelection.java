@@ -0,0 +1,105 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.extension;
+
+import java.awt.Image;
+import java.awt.datatransfer.Clipboard;
+import java.awt.datatransfer.ClipboardOwner;
+import java.awt.datatransfer.DataFlavor;
+import java.awt.datatransfer.Transferable;
+import java.awt.datatransfer.UnsupportedFlavorException;
+import java.io.IOException;
+
+import lombok.NonNull;
+
+/**
+ * The class {@link ImageSelection} is a {@link Transferable} that transfers an {@link Image}
+ * with the {@link DataFlavor#imageFlavor}. The image is transferred as it is, its raster is not
+ * copied. When the ownership of the clipboard is lost the image is released, so it can be
+ * garbage collected
+ */
+public final class ImageSelection implements Transferable, ClipboardOwner
+{
+
+	/**
+	 * The supported flavors
+	 */
+	private static final DataFlavor[] FLAVORS = { DataFlavor.imageFlavor };
+
+	/**
+	 * The image or null if it was released
+	 */
+	private volatile Image image;
+
+	/**
+	 * Instantiates a new {@link ImageSelection}
+	 *
+	 * @param image
+	 *            the image
+	 */
+	public ImageSelection(final @NonNull Image image)
+	{
+		this.image = image;
+	}
+
+	@Override
+	public DataFlavor[] getTransferDataFlavors()
+	{
+		if (image == null)
+		{
+			return new DataFlavor[0];
+		}
+		return FLAVORS.clone();
+	}
+
+	@Override
+	public boolean isDataFlavorSupported(final DataFlavor flavor)
+	{
+		return image != null && DataFlavor.imageFlavor.equals(flavor);
+	}
+
+	@Override
+	public Object getTransferData(final DataFlavor flavor)
+		throws UnsupportedFlavorException, IOException
+	{
+		if (!DataFlavor.imageFlavor.equals(flavor))
+		{
+			throw new UnsupportedFlavorException(flavor);
+		}
+		final Image currentImage = image;
+		if (currentImage == null)
+		{
+			throw new IOException("The image was released after the ownership was lost");
+		}
+		return currentImage;
+	}
+
+	@Override
+	public void lostOwnership(final Clipboard clipboard, final Transferable contents)
+	{
+		image = null;
+	}
+
+}
@@ -0,0 +1,217 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.extension;
+
+import java.awt.datatransfer.Clipboard;
+import java.awt.datatransfer.ClipboardOwner;
+import java.awt.datatransfer.DataFlavor;
+import java.awt.datatransfer.Transferable;
+import java.awt.datatransfer.UnsupportedFlavorException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import lombok.NonNull;
+
+/**
+ * The class {@link StreamingTransferable} is a {@link Transferable} whose data is produced on
+ * demand from suppliers of {@link Reader} objects, so large contents like table exports are not
+ * held in memory as a whole when they are copied to the clipboard. Text, HTML and CSV contents
+ * are offered each with a {@link Reader} flavor, that streams the data, and a {@link String}
+ * flavor, that reads the data only if it is requested. When the ownership of the clipboard is
+ * lost the suppliers are released, so the data they hold can be garbage collected
+ */
+public final class StreamingTransferable implements Transferable, ClipboardOwner
+{
+
+	/**
+	 * The constant for the plain text flavor with a {@link Reader} as representation class
+	 */
+	public static final DataFlavor TEXT_READER_FLAVOR = new DataFlavor(
+		"text/plain;class=java.io.Reader", "Plain Text");
+
+	/**
+	 * The constant for the HTML flavor with a {@link Reader} as representation class
+	 */
+	public static final DataFlavor HTML_READER_FLAVOR = new DataFlavor(
+		"text/html;class=java.io.Reader", "HTML");
+
+	/**
+	 * The constant for the HTML flavor with a {@link String} as representation class
+	 */
+	public static final DataFlavor HTML_STRING_FLAVOR = new DataFlavor(
+		"text/html;class=java.lang.String", "HTML");
+
+	/**
+	 * The constant for the CSV flavor with a {@link Reader} as representation class
+	 */
+	public static final DataFlavor CSV_READER_FLAVOR = new DataFlavor(
+		"text/csv;class=java.io.Reader", "CSV");
+
+	/**
+	 * The constant for the CSV flavor with a {@link String} as representation class
+	 */
+	public static final DataFlavor CSV_STRING_FLAVOR = new DataFlavor(
+		"text/csv;class=java.lang.String", "CSV");
+
+	/**
+	 * The suppliers of the data mapped to the supported flavors, the map is empty after the
+	 * suppliers were released
+	 */
+	private volatile Map<DataFlavor, Supplier<? extends Reader>> suppliers;
+
+	/**
+	 * Instantiates a new {@link StreamingTransferable}
+	 *
+	 * @param text
+	 *            the supplier of the plain text
+	 * @param html
+	 *            the supplier of the HTML text, can be null
+	 * @param csv
+	 *            the supplier of the CSV text, can be null
+	 */
+	public StreamingTransferable(final @NonNull Supplier<? extends Reader> text,
+		final Supplier<? extends Reader> html, final Supplier<? extends Reader> csv)
+	{
+		final Map<DataFlavor, Supplier<? extends Reader>> map = new LinkedHashMap<>();
+		map.put(TEXT_READER_FLAVOR, text);
+		map.put(DataFlavor.stringFlavor, text);
+		if (html != null)
+		{
+			map.put(HTML_READER_FLAVOR, html);
+			map.put(HTML_STRING_FLAVOR, html);
+		}
+		if (csv != null)
+		{
+			map.put(CSV_READER_FLAVOR, csv);
+			map.put(CSV_STRING_FLAVOR, csv);
+		}
+		this.suppliers = Collections.unmodifiableMap(map);
+	}
+
+	/**
+	 * Factory method for create a new {@link StreamingTransferable} with only plain text
+	 *
+	 * @param text
+	 *            the supplier of the plain text
+	 * @return the new {@link StreamingTransferable}
+	 */
+	public static StreamingTransferable ofText(final @NonNull Supplier<? extends Reader> text)
+	{
+		return new StreamingTransferable(text, null, null);
+	}
+
+	/**
+	 * Creates a supplier of {@link Reader} objects that decode the input streams of the given
+	 * supplier with the given charset
+	 *
+	 * @param inputStream
+	 *            the supplier of the input streams
+	 * @param charset
+	 *            the charset
+	 * @return the supplier of {@link Reader} objects
+	 */
+	public static Supplier<Reader> readerOf(
+		final @NonNull Supplier<? extends InputStream> inputStream,
+		final @NonNull Charset charset)
+	{
+		return () -> new InputStreamReader(inputStream.get(), charset);
+	}
+
+	@Override
+	public DataFlavor[] getTransferDataFlavors()
+	{
+		return suppliers.keySet().toArray(new DataFlavor[0]);
+	}
+
+	@Override
+	public boolean isDataFlavorSupported(final DataFlavor flavor)
+	{
+		return suppliers.containsKey(flavor);
+	}
+
+	@Override
+	public Object getTransferData(final DataFlavor flavor)
+		throws UnsupportedFlavorException, IOException
+	{
+		final Map<DataFlavor, Supplier<? extends Reader>> currentSuppliers = suppliers;
+		final Supplier<? extends Reader> supplier = currentSuppliers.get(flavor);
+		if (supplier == null)
+		{
+			if (currentSuppliers.isEmpty())
+			{
+				throw new IOException("The data was released after the ownership was lost");
+			}
+			throw new UnsupportedFlavorException(flavor);
+		}
+		final Reader reader = supplier.get();
+		if (String.class.equals(flavor.getRepresentationClass()))
+		{
+			try (Reader input = reader)
+			{
+				final StringBuilder builder = new StringBuilder();
+				final char[] buffer = new char[8192];
+				int read;
+				while ((read = input.read(buffer)) != -1)
+				{
+					builder.append(buffer, 0, read);
+				}
+				return builder.toString();
+			}
+		}
+		return reader;
+	}
+
+	@Override
+	public void lostOwnership(final Clipboard clipboard, final Transferable contents)
+	{
+		release();
+	}
+
+	/**
+	 * Releases the suppliers, after that no data flavor is supported any more
+	 */
+	public void release()
+	{
+		suppliers = Collections.emptyMap();
+	}
+
+	/**
+	 * Checks if the suppliers were released
+	 *
+	 * @return true if the suppliers were released otherwise false
+	 */
+	public boolean isReleased()
+	{
+		return suppliers.isEmpty();
+	}
+
+}
@@ -0,0 +1,386 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.screen;
+
+import java.awt.Insets;
+import java.util.BitSet;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import lombok.NonNull;
+
+/**
+ * The class {@link DialogSlotGenerator} computes lazily the positions of dialogs with a fixed size
+ * that are arranged as a grid on the usable area of all screens. The slots are numbered row by
+ * row starting with the default screen and every position is computed on demand from the slot
+ * number, so no list of all positions is created.<br>
+ * <br>
+ * Slots can be marked as occupied, so iterating and {@link #occupyNextFreeSlot()} skip them.
+ * Instances of this class are not thread safe
+ */
+public final class DialogSlotGenerator
+{
+
+	/**
+	 * The dialog width
+	 */
+	private final int dialogWidth;
+
+	/**
+	 * The dialog height
+	 */
+	private final int dialogHeight;
+
+	/**
+	 * The x coordinates of the usable areas in slot order
+	 */
+	private final int[] areaX;
+
+	/**
+	 * The y coordinates of the usable areas in slot order
+	 */
+	private final int[] areaY;
+
+	/**
+	 * The number of columns of the usable areas in slot order
+	 */
+	private final int[] columns;
+
+	/**
+	 * The first slot of every usable area in slot order, with the total slot count as the last
+	 * element
+	 */
+	private final int[] firstSlots;
+
+	/**
+	 * The occupied slots
+	 */
+	private final BitSet occupiedSlots = new BitSet();
+
+	/**
+	 * The slot from where the next free slot is searched
+	 */
+	private int cursor;
+
+	/**
+	 * Instantiates a new {@link DialogSlotGenerator} object for the given screen topology
+	 *
+	 * @param screenTopology
+	 *            the screen topology
+	 * @param dialogWidth
+	 *            the dialog width
+	 * @param dialogHeight
+	 *            the dialog height
+	 */
+	public DialogSlotGenerator(final @NonNull ScreenTopology screenTopology,
+		final int dialogWidth, final int dialogHeight)
+	{
+		if (dialogWidth <= 0 || dialogHeight <= 0)
+		{
+			throw new IllegalArgumentException("The dialog width and height have to be positive");
+		}
+		this.dialogWidth = dialogWidth;
+		this.dialogHeight = dialogHeight;
+		final int screenCount = screenTopology.getScreenCount();
+		final int defaultScreenIndex = Math.max(screenTopology.getDefaultScreenIndex(), 0);
+		areaX = new int[screenCount];
+		areaY = new int[screenCount];
+		columns = new int[screenCount];
+		firstSlots = new int[screenCount + 1];
+		for (int i = 0; i < screenCount; i++)
+		{
+			// the default screen comes first, the other screens keep their order
+			int screenIndex = i;
+			if (i == 0)
+			{
+				screenIndex = defaultScreenIndex;
+			}
+			else if (i <= defaultScreenIndex)
+			{
+				screenIndex = i - 1;
+			}
+			final Insets insets = screenTopology.getInsets(screenIndex);
+			final int width = screenTopology.getWidth(screenIndex) - insets.left - insets.right;
+			final int height = screenTopology.getHeight(screenIndex) - insets.top - insets.bottom;
+			areaX[i] = screenTopology.getX(screenIndex) + insets.left;
+			areaY[i] = screenTopology.getY(screenIndex) + insets.top;
+			columns[i] = Math.max(width / dialogWidth, 0);
+			final int rows = Math.max(height / dialogHeight, 0);
+			firstSlots[i + 1] = firstSlots[i] + columns[i] * rows;
+		}
+	}
+
+	/**
+	 * Gets the number of all slots
+	 *
+	 * @return the number of all slots
+	 */
+	public int getSlotCount()
+	{
+		return firstSlots[firstSlots.length - 1];
+	}
+
+	/**
+	 * Gets the position of the given slot packed into one long value
+	 *
+	 * @param slot
+	 *            the slot
+	 * @return the packed position of the given slot
+	 * @see PackedGeometry#getX(long)
+	 * @see PackedGeometry#getY(long)
+	 */
+	public long getSlotPosition(final int slot)
+	{
+		checkSlot(slot);
+		int area = 0;
+		while (firstSlots[area + 1] <= slot)
+		{
+			area++;
+		}
+		final int localSlot = slot - firstSlots[area];
+		final int column = localSlot % columns[area];
+		final int row = localSlot / columns[area];
+		return PackedGeometry.pack(areaX[area] + column * dialogWidth,
+			areaY[area] + row * dialogHeight);
+	}
+
+	/**
+	 * Checks if the given slot is occupied
+	 *
+	 * @param slot
+	 *            the slot
+	 * @return true if the given slot is occupied otherwise false
+	 */
+	public boolean isOccupied(final int slot)
+	{
+		checkSlot(slot);
+		return occupiedSlots.get(slot);
+	}
+
+	/**
+	 * Marks the given slot as occupied
+	 *
+	 * @param slot
+	 *            the slot
+	 */
+	public void occupy(final int slot)
+	{
+		checkSlot(slot);
+		occupiedSlots.set(slot);
+	}
+
+	/**
+	 * Marks the given slot as free, so it can be occupied again
+	 *
+	 * @param slot
+	 *            the slot
+	 */
+	public void release(final int slot)
+	{
+		checkSlot(slot);
+		occupiedSlots.clear(slot);
+		if (slot < cursor)
+		{
+			cursor = slot;
+		}
+	}
+
+	/**
+	 * Gets the next free slot starting from the given slot
+	 *
+	 * @param fromSlot
+	 *            the slot to start the search inclusive
+	 * @return the next free slot or -1 if there is no free slot
+	 */
+	public int nextFreeSlot(final int fromSlot)
+	{
+		if (fromSlot < 0)
+		{
+			throw new IndexOutOfBoundsException("fromSlot < 0: " + fromSlot);
+		}
+		final int slot = occupiedSlots.nextClearBit(fromSlot);
+		return slot < getSlotCount() ? slot : -1;
+	}
+
+	/**
+	 * Occupies the next free slot. The search starts at the internal cursor, so opening the n-th
+	 * dialog does not search the slots that was occupied before
+	 *
+	 * @return the occupied slot or -1 if there is no free slot
+	 */
+	public int occupyNextFreeSlot()
+	{
+		final int slot = nextFreeSlot(cursor);
+		if (slot != -1)
+		{
+			occupiedSlots.set(slot);
+			cursor = slot + 1;
+		}
+		return slot;
+	}
+
+	/**
+	 * Gets the cursor, that is the slot from where {@link #occupyNextFreeSlot()} starts the search
+	 *
+	 * @return the cursor
+	 */
+	public int getCursor()
+	{
+		return cursor;
+	}
+
+	/**
+	 * Sets the cursor, that is the slot from where {@link #occupyNextFreeSlot()} starts the search
+	 *
+	 * @param cursor
+	 *            the new cursor
+	 */
+	public void setCursor(final int cursor)
+	{
+		if (cursor < 0)
+		{
+			throw new IndexOutOfBoundsException("cursor < 0: " + cursor);
+		}
+		this.cursor = cursor;
+	}
+
+	/**
+	 * Creates a lazy {@link SlotIterator} over the packed positions of the free slots starting
+	 * from the given slot
+	 *
+	 * @param fromSlot
+	 *            the slot to start inclusive
+	 * @return the new {@link SlotIterator} object
+	 */
+	public SlotIterator iterator(final int fromSlot)
+	{
+		return new SlotIterator(fromSlot);
+	}
+
+	/**
+	 * Creates a lazy {@link IntStream} over the free slots starting from the given slot
+	 *
+	 * @param fromSlot
+	 *            the slot to start inclusive
+	 * @return the new {@link IntStream} object
+	 */
+	public IntStream freeSlots(final int fromSlot)
+	{
+		return IntStream.iterate(nextFreeSlot(fromSlot), slot -> slot != -1,
+			slot -> nextFreeSlot(slot + 1));
+	}
+
+	/**
+	 * Creates a lazy {@link LongStream} over the packed positions of the free slots starting from
+	 * the given slot
+	 *
+	 * @param fromSlot
+	 *            the slot to start inclusive
+	 * @return the new {@link LongStream} object
+	 */
+	public LongStream freePositions(final int fromSlot)
+	{
+		return freeSlots(fromSlot).mapToLong(this::getSlotPosition);
+	}
+
+	private void checkSlot(final int slot)
+	{
+		if (slot < 0 || getSlotCount() <= slot)
+		{
+			throw new IndexOutOfBoundsException(
+				"slot: " + slot + ", slot count: " + getSlotCount());
+		}
+	}
+
+	/**
+	 * The class {@link SlotIterator} iterates lazily over the packed positions of the free slots
+	 * and can be resumed later from its cursor
+	 */
+	public final class SlotIterator implements PrimitiveIterator.OfLong
+	{
+
+		/**
+		 * The next free slot or -1 if there is no free slot
+		 */
+		private int nextSlot;
+
+		/**
+		 * The slot that was returned from the last call of {@link #nextLong()}
+		 */
+		private int lastSlot = -1;
+
+		private SlotIterator(final int fromSlot)
+		{
+			nextSlot = nextFreeSlot(fromSlot);
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public boolean hasNext()
+		{
+			return nextSlot != -1;
+		}
+
+		/**
+		 * {@inheritDoc}
+		 */
+		@Override
+		public long nextLong()
+		{
+			if (nextSlot == -1)
+			{
+				throw new NoSuchElementException();
+			}
+			lastSlot = nextSlot;
+			nextSlot = nextFreeSlot(lastSlot + 1);
+			return getSlotPosition(lastSlot);
+		}
+
+		/**
+		 * Gets the slot that was returned from the last call of {@link #nextLong()}
+		 *
+		 * @return the last slot or -1 if {@link #nextLong()} was not called
+		 */
+		public int getLastSlot()
+		{
+			return lastSlot;
+		}
+
+		/**
+		 * Gets the cursor for resume the iteration with {@link DialogSlotGenerator#iterator(int)}
+		 *
+		 * @return the cursor
+		 */
+		public int getCursor()
+		{
+			return lastSlot + 1;
+		}
+	}
+
+}
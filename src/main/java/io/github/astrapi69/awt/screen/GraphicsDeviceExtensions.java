@@ -26,7 +26,7 @@ package io.github.astrapi69.awt.screen;
 
 import java.awt.Component;
 import java.awt.GraphicsDevice;
-import java.awt.GraphicsEnvironment;
+import java.awt.Rectangle;
 import java.awt.Window;
 import java.util.Optional;
 
@@ -53,10 +53,23 @@ public final class GraphicsDeviceExtensions
 	 */
 	public static GraphicsDevice[] getAvailableScreens()
 	{
-		final GraphicsEnvironment graphicsEnvironment = GraphicsEnvironment
-			.getLocalGraphicsEnvironment();
-		final GraphicsDevice[] graphicsDevices = graphicsEnvironment.getScreenDevices();
-		return graphicsDevices;
+		return ScreenTopology.getCurrent().getScreenDevices();
+	}
+
+	/**
+	 * Gets the bounds of the available screens.
+	 *
+	 * @return the bounds of the available screens
+	 */
+	public static Rectangle[] getAvailableScreenBounds()
+	{
+		final ScreenTopology screenTopology = ScreenTopology.getCurrent();
+		final Rectangle[] screenBounds = new Rectangle[screenTopology.getScreenCount()];
+		for (int i = 0; i < screenBounds.length; i++)
+		{
+			screenBounds[i] = screenTopology.getBounds(i);
+		}
+		return screenBounds;
 	}
 
 	/**
@@ -72,8 +85,7 @@ public final class GraphicsDeviceExtensions
 	{
 		if (isScreenAvailableToShow(index))
 		{
-			final GraphicsDevice[] graphicsDevices = getAvailableScreens();
-			return Optional.of(graphicsDevices[index]);
+			return Optional.of(ScreenTopology.getCurrent().getScreenDevice(index));
 		}
 		return Optional.empty();
 	}
@@ -85,22 +97,11 @@ public final class GraphicsDeviceExtensions
 	 * @param component
 	 *            the component
 	 * @return the array index(in the available {@link GraphicsDevice} array) of the given component
-	 *         is showing on.
+	 *         is showing on or -1 if the screen is not available
 	 */
 	public static int getGraphicsDeviceIndexIsShowingOn(final Component component)
 	{
-		int graphicsDeviceIndex = -1;
-		final GraphicsDevice graphicsDevice = getGraphicsDeviceIsShowingOn(component);
-		final GraphicsDevice[] graphicsDevices = getAvailableScreens();
-		for (int i = 0; i < graphicsDevices.length; i++)
-		{
-			if (graphicsDevices[i].equals(graphicsDevice))
-			{
-				graphicsDeviceIndex = i;
-				break;
-			}
-		}
-		return graphicsDeviceIndex;
+		return ScreenTopology.getCurrent().indexOf(component.getGraphicsConfiguration());
 	}
 
 
@@ -127,8 +128,8 @@ public final class GraphicsDeviceExtensions
 	 */
 	public static boolean isScreenAvailableToShow(final int screen)
 	{
-		final GraphicsDevice[] graphicsDevices = getAvailableScreens();
-		return graphicsDevices.length > 0 && screen > -1 && screen < graphicsDevices.length;
+		final int screenCount = ScreenTopology.getCurrent().getScreenCount();
+		return screenCount > 0 && screen > -1 && screen < screenCount;
 	}
 
 	/**
@@ -145,8 +146,7 @@ public final class GraphicsDeviceExtensions
 	{
 		if (isScreenAvailableToShow(screen))
 		{
-			final GraphicsDevice[] graphicsDevices = getAvailableScreens();
-			graphicsDevices[screen].setFullScreenWindow(window);
+			ScreenTopology.getCurrent().getScreenDevice(screen).setFullScreenWindow(window);
 		}
 	}
 }
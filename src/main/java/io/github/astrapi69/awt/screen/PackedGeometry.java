@@ -0,0 +1,104 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.screen;
+
+/**
+ * The class {@link PackedGeometry} provides methods for pack two int values like a width and a
+ * height or a x and a y coordinate into one primitive long value, so they can be returned from
+ * methods without allocate a {@link java.awt.Dimension} or a {@link java.awt.Point} object
+ */
+public final class PackedGeometry
+{
+
+	/**
+	 * Private constructor to prevent instantiation
+	 */
+	private PackedGeometry()
+	{
+	}
+
+	/**
+	 * Packs the given int values into one long value
+	 *
+	 * @param first
+	 *            the first value, for instance the width or the x coordinate
+	 * @param second
+	 *            the second value, for instance the height or the y coordinate
+	 * @return the packed long value
+	 */
+	public static long pack(final int first, final int second)
+	{
+		return ((long)first << 32) | (second & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Gets the width from the given packed long value
+	 *
+	 * @param packed
+	 *            the packed long value
+	 * @return the width
+	 */
+	public static int getWidth(final long packed)
+	{
+		return (int)(packed >> 32);
+	}
+
+	/**
+	 * Gets the height from the given packed long value
+	 *
+	 * @param packed
+	 *            the packed long value
+	 * @return the height
+	 */
+	public static int getHeight(final long packed)
+	{
+		return (int)packed;
+	}
+
+	/**
+	 * Gets the x coordinate from the given packed long value
+	 *
+	 * @param packed
+	 *            the packed long value
+	 * @return the x coordinate
+	 */
+	public static int getX(final long packed)
+	{
+		return (int)(packed >> 32);
+	}
+
+	/**
+	 * Gets the y coordinate from the given packed long value
+	 *
+	 * @param packed
+	 *            the packed long value
+	 * @return the y coordinate
+	 */
+	public static int getY(final long packed)
+	{
+		return (int)packed;
+	}
+
+}
@@ -0,0 +1,262 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.screen;
+
+import java.awt.Rectangle;
+import java.util.Arrays;
+
+/**
+ * The class {@link ScreenBoundsIndex} is a precomputed grid over the bounds of screens. The grid
+ * is built from all distinct screen edges, so every cell lies either completely inside or
+ * completely outside of a screen and point queries can be answered with two binary searches and
+ * without any allocation
+ */
+final class ScreenBoundsIndex
+{
+
+	/**
+	 * The left x coordinates of the screens
+	 */
+	private final int[] minX;
+
+	/**
+	 * The top y coordinates of the screens
+	 */
+	private final int[] minY;
+
+	/**
+	 * The exclusive right x coordinates of the screens
+	 */
+	private final int[] maxX;
+
+	/**
+	 * The exclusive bottom y coordinates of the screens
+	 */
+	private final int[] maxY;
+
+	/**
+	 * The sorted distinct vertical edges of the grid
+	 */
+	private final int[] columnEdges;
+
+	/**
+	 * The sorted distinct horizontal edges of the grid
+	 */
+	private final int[] rowEdges;
+
+	/**
+	 * The screen index for every grid cell in row major order or -1 for cells outside of all
+	 * screens
+	 */
+	private final int[] cells;
+
+	/**
+	 * Instantiates a new {@link ScreenBoundsIndex} object from the given screen bounds
+	 *
+	 * @param bounds
+	 *            the screen bounds
+	 */
+	ScreenBoundsIndex(final Rectangle[] bounds)
+	{
+		final int length = bounds.length;
+		minX = new int[length];
+		minY = new int[length];
+		maxX = new int[length];
+		maxY = new int[length];
+		for (int i = 0; i < length; i++)
+		{
+			minX[i] = bounds[i].x;
+			minY[i] = bounds[i].y;
+			maxX[i] = bounds[i].x + bounds[i].width;
+			maxY[i] = bounds[i].y + bounds[i].height;
+		}
+		columnEdges = distinctSorted(minX, maxX);
+		rowEdges = distinctSorted(minY, maxY);
+		final int columns = Math.max(columnEdges.length - 1, 0);
+		final int rows = Math.max(rowEdges.length - 1, 0);
+		cells = new int[columns * rows];
+		Arrays.fill(cells, -1);
+		for (int row = 0; row < rows; row++)
+		{
+			for (int column = 0; column < columns; column++)
+			{
+				for (int i = 0; i < length; i++)
+				{
+					if (minX[i] <= columnEdges[column] && columnEdges[column + 1] <= maxX[i]
+						&& minY[i] <= rowEdges[row] && rowEdges[row + 1] <= maxY[i])
+					{
+						cells[row * columns + column] = i;
+						break;
+					}
+				}
+			}
+		}
+	}
+
+	private static int[] distinctSorted(final int[] first, final int[] second)
+	{
+		final int[] values = new int[first.length + second.length];
+		System.arraycopy(first, 0, values, 0, first.length);
+		System.arraycopy(second, 0, values, first.length, second.length);
+		Arrays.sort(values);
+		int size = 0;
+		for (int i = 0; i < values.length; i++)
+		{
+			if (size == 0 || values[size - 1] != values[i])
+			{
+				values[size++] = values[i];
+			}
+		}
+		return Arrays.copyOf(values, size);
+	}
+
+	/**
+	 * Finds the index of the grid interval that contains the given value
+	 *
+	 * @param edges
+	 *            the sorted edges
+	 * @param value
+	 *            the value
+	 * @return the index of the interval or -1 if the value is outside of all intervals
+	 */
+	private static int intervalOf(final int[] edges, final int value)
+	{
+		if (edges.length < 2 || value < edges[0] || edges[edges.length - 1] <= value)
+		{
+			return -1;
+		}
+		int low = 0;
+		int high = edges.length - 2;
+		while (low < high)
+		{
+			final int middle = (low + high + 1) >>> 1;
+			if (edges[middle] <= value)
+			{
+				low = middle;
+			}
+			else
+			{
+				high = middle - 1;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * Gets the index of the screen that contains the given point
+	 *
+	 * @param x
+	 *            the x coordinate
+	 * @param y
+	 *            the y coordinate
+	 * @return the index of the screen that contains the given point or -1 if no screen contains
+	 *         it
+	 */
+	int getScreenIndexAt(final int x, final int y)
+	{
+		final int column = intervalOf(columnEdges, x);
+		if (column == -1)
+		{
+			return -1;
+		}
+		final int row = intervalOf(rowEdges, y);
+		if (row == -1)
+		{
+			return -1;
+		}
+		return cells[row * (columnEdges.length - 1) + column];
+	}
+
+	/**
+	 * Gets the index of the screen that has the largest intersection with the given rectangle
+	 *
+	 * @param x
+	 *            the x coordinate of the rectangle
+	 * @param y
+	 *            the y coordinate of the rectangle
+	 * @param width
+	 *            the width of the rectangle
+	 * @param height
+	 *            the height of the rectangle
+	 * @return the index of the screen with the largest intersection or -1 if the rectangle does
+	 *         not intersect any screen
+	 */
+	int getScreenIndexWithMaxOverlap(final int x, final int y, final int width, final int height)
+	{
+		final long right = (long)x + width;
+		final long bottom = (long)y + height;
+		int screenIndex = -1;
+		long maxArea = 0;
+		for (int i = 0; i < minX.length; i++)
+		{
+			final long overlapWidth = Math.min(right, maxX[i]) - Math.max(x, minX[i]);
+			final long overlapHeight = Math.min(bottom, maxY[i]) - Math.max(y, minY[i]);
+			if (0 < overlapWidth && 0 < overlapHeight)
+			{
+				final long area = overlapWidth * overlapHeight;
+				if (maxArea < area)
+				{
+					maxArea = area;
+					screenIndex = i;
+				}
+			}
+		}
+		return screenIndex;
+	}
+
+	/**
+	 * Gets the index of the screen that is nearest to the given point. If a screen contains the
+	 * given point its index is returned
+	 *
+	 * @param x
+	 *            the x coordinate
+	 * @param y
+	 *            the y coordinate
+	 * @return the index of the nearest screen or -1 if there are no screens
+	 */
+	int getNearestScreenIndex(final int x, final int y)
+	{
+		final int screenIndex = getScreenIndexAt(x, y);
+		if (screenIndex != -1)
+		{
+			return screenIndex;
+		}
+		int nearestIndex = -1;
+		long minDistance = Long.MAX_VALUE;
+		for (int i = 0; i < minX.length; i++)
+		{
+			final long dx = x < minX[i] ? minX[i] - (long)x : x >= maxX[i] ? x - (maxX[i] - 1L) : 0;
+			final long dy = y < minY[i] ? minY[i] - (long)y : y >= maxY[i] ? y - (maxY[i] - 1L) : 0;
+			final long distance = dx * dx + dy * dy;
+			if (distance < minDistance)
+			{
+				minDistance = distance;
+				nearestIndex = i;
+			}
+		}
+		return nearestIndex;
+	}
+
+}
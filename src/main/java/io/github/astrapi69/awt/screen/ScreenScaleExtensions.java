@@ -0,0 +1,330 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.screen;
+
+import java.awt.Rectangle;
+
+import lombok.NonNull;
+
+/**
+ * The class {@link ScreenScaleExtensions} converts batches of rectangles between the logical
+ * coordinates of the screens and the device pixels of the screens with the scale factors of the
+ * default transforms, that are cached in the {@link ScreenTopology}. Device pixels are relative
+ * to the origin of their screen.<br>
+ * <br>
+ * The rectangles can be given as {@link Rectangle} arrays or as flat int arrays with the values
+ * x, y, width and height for every rectangle. All methods convert the given arrays in place in
+ * one pass. The corners of a rectangle are converted and the width and height are derived from
+ * them, so adjacent rectangles keep their shared edges and the right and bottom edges do not
+ * drift by a rounding error
+ */
+public final class ScreenScaleExtensions
+{
+
+	/**
+	 * Private constructor to prevent instantiation
+	 */
+	private ScreenScaleExtensions()
+	{
+	}
+
+	/**
+	 * Converts the given rectangles from logical coordinates to the device pixels of the given
+	 * screen
+	 *
+	 * @param screenID
+	 *            the screen id
+	 * @param rectangles
+	 *            the rectangles to convert in place
+	 * @return the given rectangles
+	 */
+	public static Rectangle[] toDevicePixels(final int screenID,
+		final @NonNull Rectangle[] rectangles)
+	{
+		return toDevicePixels(ScreenTopology.getCurrent(), screenID, rectangles);
+	}
+
+	/**
+	 * Converts the given rectangles from logical coordinates to the device pixels of the given
+	 * screen of the given screen topology
+	 *
+	 * @param screenTopology
+	 *            the screen topology
+	 * @param screenID
+	 *            the screen id
+	 * @param rectangles
+	 *            the rectangles to convert in place
+	 * @return the given rectangles
+	 */
+	public static Rectangle[] toDevicePixels(final @NonNull ScreenTopology screenTopology,
+		final int screenID, final @NonNull Rectangle[] rectangles)
+	{
+		return convert(rectangles, screenTopology.getX(screenID), screenTopology.getY(screenID), 0,
+			0, screenTopology.getScaleX(screenID), 1.0d, screenTopology.getScaleY(screenID), 1.0d);
+	}
+
+	/**
+	 * Converts the given flat rectangles from logical coordinates to the device pixels of the
+	 * given screen
+	 *
+	 * @param screenID
+	 *            the screen id
+	 * @param rectangles
+	 *            the flat rectangles with the values x, y, width and height to convert in place
+	 * @return the given flat rectangles
+	 */
+	public static int[] toDevicePixels(final int screenID, final @NonNull int[] rectangles)
+	{
+		return toDevicePixels(ScreenTopology.getCurrent(), screenID, rectangles);
+	}
+
+	/**
+	 * Converts the given flat rectangles from logical coordinates to the device pixels of the
+	 * given screen of the given screen topology
+	 *
+	 * @param screenTopology
+	 *            the screen topology
+	 * @param screenID
+	 *            the screen id
+	 * @param rectangles
+	 *            the flat rectangles with the values x, y, width and height to convert in place
+	 * @return the given flat rectangles
+	 */
+	public static int[] toDevicePixels(final @NonNull ScreenTopology screenTopology,
+		final int screenID, final @NonNull int[] rectangles)
+	{
+		return convert(rectangles, screenTopology.getX(screenID), screenTopology.getY(screenID), 0,
+			0, screenTopology.getScaleX(screenID), 1.0d, screenTopology.getScaleY(screenID), 1.0d);
+	}
+
+	/**
+	 * Converts the given rectangles from the device pixels of the given screen to logical
+	 * coordinates
+	 *
+	 * @param screenID
+	 *            the screen id
+	 * @param rectangles
+	 *            the rectangles to convert in place
+	 * @return the given rectangles
+	 */
+	public static Rectangle[] toLogicalCoordinates(final int screenID,
+		final @NonNull Rectangle[] rectangles)
+	{
+		return toLogicalCoordinates(ScreenTopology.getCurrent(), screenID, rectangles);
+	}
+
+	/**
+	 * Converts the given rectangles from the device pixels of the given screen of the given screen
+	 * topology to logical coordinates
+	 *
+	 * @param screenTopology
+	 *            the screen topology
+	 * @param screenID
+	 *            the screen id
+	 * @param rectangles
+	 *            the rectangles to convert in place
+	 * @return the given rectangles
+	 */
+	public static Rectangle[] toLogicalCoordinates(final @NonNull ScreenTopology screenTopology,
+		final int screenID, final @NonNull Rectangle[] rectangles)
+	{
+		return convert(rectangles, 0, 0, screenTopology.getX(screenID),
+			screenTopology.getY(screenID), 1.0d, screenTopology.getScaleX(screenID), 1.0d,
+			screenTopology.getScaleY(screenID));
+	}
+
+	/**
+	 * Converts the given flat rectangles from the device pixels of the given screen to logical
+	 * coordinates
+	 *
+	 * @param screenID
+	 *            the screen id
+	 * @param rectangles
+	 *            the flat rectangles with the values x, y, width and height to convert in place
+	 * @return the given flat rectangles
+	 */
+	public static int[] toLogicalCoordinates(final int screenID, final @NonNull int[] rectangles)
+	{
+		return toLogicalCoordinates(ScreenTopology.getCurrent(), screenID, rectangles);
+	}
+
+	/**
+	 * Converts the given flat rectangles from the device pixels of the given screen of the given
+	 * screen topology to logical coordinates
+	 *
+	 * @param screenTopology
+	 *            the screen topology
+	 * @param screenID
+	 *            the screen id
+	 * @param rectangles
+	 *            the flat rectangles with the values x, y, width and height to convert in place
+	 * @return the given flat rectangles
+	 */
+	public static int[] toLogicalCoordinates(final @NonNull ScreenTopology screenTopology,
+		final int screenID, final @NonNull int[] rectangles)
+	{
+		return convert(rectangles, 0, 0, screenTopology.getX(screenID),
+			screenTopology.getY(screenID), 1.0d, screenTopology.getScaleX(screenID), 1.0d,
+			screenTopology.getScaleY(screenID));
+	}
+
+	/**
+	 * Migrates the given rectangles in logical coordinates from one screen to another screen, so
+	 * they keep their size and their offset to the screen origin in device pixels
+	 *
+	 * @param fromScreenID
+	 *            the screen id of the screen the rectangles are on
+	 * @param toScreenID
+	 *            the screen id of the screen the rectangles will be moved to
+	 * @param rectangles
+	 *            the rectangles to convert in place
+	 * @return the given rectangles
+	 */
+	public static Rectangle[] migrate(final int fromScreenID, final int toScreenID,
+		final @NonNull Rectangle[] rectangles)
+	{
+		return migrate(ScreenTopology.getCurrent(), fromScreenID, toScreenID, rectangles);
+	}
+
+	/**
+	 * Migrates the given rectangles in logical coordinates from one screen to another screen of
+	 * the given screen topology, so they keep their size and their offset to the screen origin in
+	 * device pixels
+	 *
+	 * @param screenTopology
+	 *            the screen topology
+	 * @param fromScreenID
+	 *            the screen id of the screen the rectangles are on
+	 * @param toScreenID
+	 *            the screen id of the screen the rectangles will be moved to
+	 * @param rectangles
+	 *            the rectangles to convert in place
+	 * @return the given rectangles
+	 */
+	public static Rectangle[] migrate(final @NonNull ScreenTopology screenTopology,
+		final int fromScreenID, final int toScreenID, final @NonNull Rectangle[] rectangles)
+	{
+		return convert(rectangles, screenTopology.getX(fromScreenID),
+			screenTopology.getY(fromScreenID), screenTopology.getX(toScreenID),
+			screenTopology.getY(toScreenID), screenTopology.getScaleX(fromScreenID),
+			screenTopology.getScaleX(toScreenID), screenTopology.getScaleY(fromScreenID),
+			screenTopology.getScaleY(toScreenID));
+	}
+
+	/**
+	 * Migrates the given flat rectangles in logical coordinates from one screen to another screen,
+	 * so they keep their size and their offset to the screen origin in device pixels
+	 *
+	 * @param fromScreenID
+	 *            the screen id of the screen the rectangles are on
+	 * @param toScreenID
+	 *            the screen id of the screen the rectangles will be moved to
+	 * @param rectangles
+	 *            the flat rectangles with the values x, y, width and height to convert in place
+	 * @return the given flat rectangles
+	 */
+	public static int[] migrate(final int fromScreenID, final int toScreenID,
+		final @NonNull int[] rectangles)
+	{
+		return migrate(ScreenTopology.getCurrent(), fromScreenID, toScreenID, rectangles);
+	}
+
+	/**
+	 * Migrates the given flat rectangles in logical coordinates from one screen to another screen
+	 * of the given screen topology, so they keep their size and their offset to the screen origin
+	 * in device pixels
+	 *
+	 * @param screenTopology
+	 *            the screen topology
+	 * @param fromScreenID
+	 *            the screen id of the screen the rectangles are on
+	 * @param toScreenID
+	 *            the screen id of the screen the rectangles will be moved to
+	 * @param rectangles
+	 *            the flat rectangles with the values x, y, width and height to convert in place
+	 * @return the given flat rectangles
+	 */
+	public static int[] migrate(final @NonNull ScreenTopology screenTopology,
+		final int fromScreenID, final int toScreenID, final @NonNull int[] rectangles)
+	{
+		return convert(rectangles, screenTopology.getX(fromScreenID),
+			screenTopology.getY(fromScreenID), screenTopology.getX(toScreenID),
+			screenTopology.getY(toScreenID), screenTopology.getScaleX(fromScreenID),
+			screenTopology.getScaleX(toScreenID), screenTopology.getScaleY(fromScreenID),
+			screenTopology.getScaleY(toScreenID));
+	}
+
+	private static Rectangle[] convert(final Rectangle[] rectangles, final int fromX,
+		final int fromY, final int toX, final int toY, final double numeratorX,
+		final double denominatorX, final double numeratorY, final double denominatorY)
+	{
+		for (final Rectangle rectangle : rectangles)
+		{
+			final int x = convert(rectangle.x, fromX, toX, numeratorX, denominatorX);
+			final int y = convert(rectangle.y, fromY, toY, numeratorY, denominatorY);
+			final int right = convert(rectangle.x + rectangle.width, fromX, toX, numeratorX,
+				denominatorX);
+			final int bottom = convert(rectangle.y + rectangle.height, fromY, toY, numeratorY,
+				denominatorY);
+			rectangle.setBounds(x, y, right - x, bottom - y);
+		}
+		return rectangles;
+	}
+
+	private static int[] convert(final int[] rectangles, final int fromX, final int fromY,
+		final int toX, final int toY, final double numeratorX, final double denominatorX,
+		final double numeratorY, final double denominatorY)
+	{
+		checkFlatRectangles(rectangles);
+		for (int i = 0; i < rectangles.length; i += 4)
+		{
+			final int x = convert(rectangles[i], fromX, toX, numeratorX, denominatorX);
+			final int y = convert(rectangles[i + 1], fromY, toY, numeratorY, denominatorY);
+			rectangles[i + 2] = convert(rectangles[i] + rectangles[i + 2], fromX, toX, numeratorX,
+				denominatorX) - x;
+			rectangles[i + 3] = convert(rectangles[i + 1] + rectangles[i + 3], fromY, toY,
+				numeratorY, denominatorY) - y;
+			rectangles[i] = x;
+			rectangles[i + 1] = y;
+		}
+		return rectangles;
+	}
+
+	private static int convert(final int value, final int from, final int to,
+		final double numerator, final double denominator)
+	{
+		return to + (int)Math.round((value - from) * numerator / denominator);
+	}
+
+	private static void checkFlatRectangles(final int[] rectangles)
+	{
+		if (rectangles.length % 4 != 0)
+		{
+			throw new IllegalArgumentException(
+				"The length of the flat rectangles array has to be a multiple of 4");
+		}
+	}
+
+}
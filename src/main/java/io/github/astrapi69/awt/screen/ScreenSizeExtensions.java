@@ -25,19 +25,27 @@
 package io.github.astrapi69.awt.screen;
 
 import java.awt.Component;
+import java.awt.Container;
 import java.awt.Dimension;
+import java.awt.EventQueue;
 import java.awt.Frame;
 import java.awt.GraphicsConfiguration;
 import java.awt.GraphicsDevice;
-import java.awt.GraphicsEnvironment;
+import java.awt.Insets;
 import java.awt.Point;
 import java.awt.Rectangle;
 import java.awt.Toolkit;
 import java.awt.Window;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import javax.swing.JFrame;
+import javax.swing.SwingUtilities;
 
 import io.github.astrapi69.awt.extension.AwtExtensions;
 import io.github.astrapi69.awt.screen.position.ComponentPositionModel;
@@ -60,14 +68,19 @@ public final class ScreenSizeExtensions
 	}
 
 	/**
-	 * Maximizes the given {@link Window} from the given component
+	 * Maximizes the given {@link Window} from the given component, in headless mode nothing is
+	 * done
 	 *
 	 * @param component
 	 *            the component
 	 */
 	public static void maximize(@NonNull Component component)
 	{
-		maximize(AwtExtensions.getWindowForComponent(component));
+		final Window window = AwtExtensions.getWindowForComponent(component);
+		if (window != null)
+		{
+			maximize(window);
+		}
 	}
 
 	/**
@@ -83,7 +96,163 @@ public final class ScreenSizeExtensions
 	}
 
 	/**
-	 * Set given {@link Window} to the center of the device and divide them with the given arguments
+	 * Maximizes the given {@link Window} to the usable area of its screen, that is the screen
+	 * without the insets for instance of a taskbar
+	 *
+	 * @param window
+	 *            the window
+	 */
+	public static void maximizeToUsableArea(@NonNull Window window)
+	{
+		window.setBounds(getUsableScreenBounds(window));
+	}
+
+	/**
+	 * Maximizes the {@link Window} from the given component to the usable area of its screen,
+	 * that is the screen without the insets for instance of a taskbar. In headless mode nothing is
+	 * done
+	 *
+	 * @param component
+	 *            the component
+	 */
+	public static void maximizeToUsableArea(@NonNull Component component)
+	{
+		final Window window = AwtExtensions.getWindowForComponent(component);
+		if (window != null)
+		{
+			maximizeToUsableArea(window);
+		}
+	}
+
+	/**
+	 * Set given {@link Window} to the center of the usable area of its screen and divide them with
+	 * the given arguments. The usable area is the screen without the insets for instance of a
+	 * taskbar
+	 *
+	 * @param window
+	 *            the window
+	 * @param divideScreenWith
+	 *            the value to divide with the screen with
+	 * @param divideScreenHeight
+	 *            the value to divide with the screen height
+	 */
+	public static void centralizeInUsableArea(@NonNull Window window, int divideScreenWith,
+		int divideScreenHeight)
+	{
+		final Rectangle usableBounds = getUsableScreenBounds(window);
+		final int width = usableBounds.width / divideScreenWith;
+		final int height = usableBounds.height / divideScreenHeight;
+		window.setBounds(usableBounds.x + width, usableBounds.y + height, width, height);
+	}
+
+	/**
+	 * Set the {@link Window} from the given component to the center of the usable area of its
+	 * screen and divide them with the given arguments. The usable area is the screen without the
+	 * insets for instance of a taskbar. In headless mode nothing is done
+	 *
+	 * @param component
+	 *            the component
+	 * @param divideScreenWith
+	 *            the value to divide with the screen with
+	 * @param divideScreenHeight
+	 *            the value to divide with the screen height
+	 */
+	public static void centralizeInUsableArea(@NonNull Component component, int divideScreenWith,
+		int divideScreenHeight)
+	{
+		final Window window = AwtExtensions.getWindowForComponent(component);
+		if (window != null)
+		{
+			centralizeInUsableArea(window, divideScreenWith, divideScreenHeight);
+		}
+	}
+
+	/**
+	 * Gets the usable bounds of the screen that is displayed from the given component, that are
+	 * the bounds without the insets for instance of a taskbar
+	 *
+	 * @param component
+	 *            the component
+	 * @return the usable bounds of the screen
+	 */
+	public static Rectangle getUsableScreenBounds(@NonNull Component component)
+	{
+		return getUsableScreenBounds(component.getGraphicsConfiguration());
+	}
+
+	/**
+	 * Gets the usable bounds of the screen from the given {@link GraphicsConfiguration} object,
+	 * that are the bounds without the insets for instance of a taskbar. The insets are taken from
+	 * the cached {@link ScreenTopology}, so the toolkit is only asked if the screen is not part of
+	 * the current snapshot
+	 *
+	 * @param graphicsConfiguration
+	 *            the graphic configuration object
+	 * @return the usable bounds of the screen
+	 */
+	public static Rectangle getUsableScreenBounds(
+		@NonNull GraphicsConfiguration graphicsConfiguration)
+	{
+		final ScreenTopology screenTopology = ScreenTopology.getCurrent();
+		final int screenIndex = screenTopology.indexOf(graphicsConfiguration);
+		if (screenIndex != -1)
+		{
+			return screenTopology.getUsableBounds(screenIndex);
+		}
+		final Rectangle bounds = graphicsConfiguration.getBounds();
+		final Insets insets = getScreenInsets(graphicsConfiguration);
+		return new Rectangle(bounds.x + insets.left, bounds.y + insets.top,
+			bounds.width - insets.left - insets.right, bounds.height - insets.top - insets.bottom);
+	}
+
+	/**
+	 * Gets the insets of the screen from the given {@link GraphicsConfiguration} object, for
+	 * instance of a taskbar. The insets are taken from the screen device in the cached
+	 * {@link ScreenTopology}, so the toolkit is only asked if the screen device is not part of the
+	 * current snapshot
+	 *
+	 * @param graphicsConfiguration
+	 *            the graphic configuration object
+	 * @return the insets of the screen
+	 */
+	public static Insets getScreenInsets(@NonNull GraphicsConfiguration graphicsConfiguration)
+	{
+		final Insets insets = ScreenTopology.getCurrent()
+			.getInsets(graphicsConfiguration.getDevice());
+		if (insets != null)
+		{
+			return insets;
+		}
+		return ScreenTopology.screenInsetsReader.apply(graphicsConfiguration);
+	}
+
+	/**
+	 * Gets the usable width of the screen that is displayed from the given component
+	 *
+	 * @param component
+	 *            the component
+	 * @return the usable screen width
+	 */
+	public static int getUsableScreenWidth(@NonNull Component component)
+	{
+		return getUsableScreenBounds(component).width;
+	}
+
+	/**
+	 * Gets the usable height of the screen that is displayed from the given component
+	 *
+	 * @param component
+	 *            the component
+	 * @return the usable screen height
+	 */
+	public static int getUsableScreenHeight(@NonNull Component component)
+	{
+		return getUsableScreenBounds(component).height;
+	}
+
+	/**
+	 * Set given {@link Window} to the center of the device and divide them with the given
+	 * arguments, in headless mode nothing is done
 	 *
 	 * @param component
 	 *            the component
@@ -96,7 +265,10 @@ public final class ScreenSizeExtensions
 		int divideScreenHeight)
 	{
 		Window window = AwtExtensions.getWindowForComponent(component);
-		centralize(window, divideScreenWith, divideScreenHeight);
+		if (window != null)
+		{
+			centralize(window, divideScreenWith, divideScreenHeight);
+		}
 	}
 
 	/**
@@ -116,8 +288,8 @@ public final class ScreenSizeExtensions
 		final int y = ScreenSizeExtensions.getScreenHeight(window);
 		final int width = x;
 		final int height = y;
-		window.setLocation((width / divideScreenWith), (height / divideScreenHeight));
-		window.setSize((width / divideScreenWith), (height / divideScreenHeight));
+		window.setBounds((width / divideScreenWith), (height / divideScreenHeight),
+			(width / divideScreenWith), (height / divideScreenHeight));
 	}
 
 	/**
@@ -153,6 +325,39 @@ public final class ScreenSizeExtensions
 		return dialogPosition;
 	}
 
+	/**
+	 * Creates a new {@link DialogSlotGenerator} object that computes lazily the positions of the
+	 * dialogs with the given size on the usable area of all screens
+	 *
+	 * @param dialogWidth
+	 *            the dialog width
+	 * @param dialogHeight
+	 *            the dialog height
+	 * @return the new {@link DialogSlotGenerator} object
+	 */
+	public static DialogSlotGenerator newDialogSlotGenerator(final int dialogWidth,
+		final int dialogHeight)
+	{
+		return new DialogSlotGenerator(ScreenTopology.getCurrent(), dialogWidth, dialogHeight);
+	}
+
+	/**
+	 * Creates a lazy {@link LongStream} with the packed positions of the dialogs with the given
+	 * size on the usable area of all screens. In difference to
+	 * {@link #computeDialogPositions(int, int)} the positions are computed on demand
+	 *
+	 * @param dialogWidth
+	 *            the dialog width
+	 * @param dialogHeight
+	 *            the dialog height
+	 * @return the lazy {@link LongStream} with the packed positions
+	 * @see PackedGeometry
+	 */
+	public static LongStream streamDialogPositions(final int dialogWidth, final int dialogHeight)
+	{
+		return newDialogSlotGenerator(dialogWidth, dialogHeight).freePositions(0);
+	}
+
 	/**
 	 * Gets the first screen width.
 	 *
@@ -160,22 +365,12 @@ public final class ScreenSizeExtensions
 	 */
 	public static int getFirstScreenHeight()
 	{
-		final GraphicsEnvironment graphicsEnvironment = GraphicsEnvironment
-			.getLocalGraphicsEnvironment();
-		final GraphicsDevice[] graphicsDevices = graphicsEnvironment.getScreenDevices();
-		int height = getScreenHeight();
-		for (final GraphicsDevice graphicsDevice : graphicsDevices)
+		final ScreenTopology screenTopology = ScreenTopology.getCurrent();
+		if (0 < screenTopology.getScreenCount())
 		{
-			final GraphicsConfiguration[] graphicsConfigurations = graphicsDevice
-				.getConfigurations();
-			final GraphicsConfiguration graphicsConfiguration = getFirst(graphicsConfigurations);
-			if (graphicsConfiguration != null)
-			{
-				height = (int)getScreenHeight(graphicsConfiguration);
-				break;
-			}
+			return screenTopology.getHeight(0);
 		}
-		return height;
+		return getScreenHeight();
 	}
 
 	/**
@@ -185,20 +380,12 @@ public final class ScreenSizeExtensions
 	 */
 	public static int getFirstScreenWidth()
 	{
-		final GraphicsDevice[] graphicsDevices = getScreenDevices();
-		int width = getScreenWidth();
-		for (final GraphicsDevice graphicsDevice : graphicsDevices)
+		final ScreenTopology screenTopology = ScreenTopology.getCurrent();
+		if (0 < screenTopology.getScreenCount())
 		{
-			final GraphicsConfiguration[] graphicsConfigurations = graphicsDevice
-				.getConfigurations();
-			final GraphicsConfiguration graphicsConfiguration = getFirst(graphicsConfigurations);
-			if (graphicsConfiguration != null)
-			{
-				width = (int)getScreenWidth(graphicsConfiguration);
-				break;
-			}
+			return screenTopology.getWidth(0);
 		}
-		return width;
+		return getScreenWidth();
 	}
 
 	/**
@@ -211,7 +398,7 @@ public final class ScreenSizeExtensions
 	 */
 	public static GraphicsConfiguration getGraphicsConfiguration(int screenID)
 	{
-		return getScreenDevice(screenID).getDefaultConfiguration();
+		return ScreenTopology.getCurrent().getDefaultConfiguration(screenID);
 	}
 
 	/**
@@ -225,6 +412,140 @@ public final class ScreenSizeExtensions
 		return p;
 	}
 
+	/**
+	 * Gets the size of the default screen packed into one long value. In difference to
+	 * {@link #getPoint()} and {@link #getScreenSizeDimension()} no object will be created
+	 *
+	 * @return the packed size of the default screen or 0 if there is no default screen
+	 * @see PackedGeometry
+	 */
+	public static long getPackedScreenSize()
+	{
+		final ScreenTopology screenTopology = ScreenTopology.getCurrent();
+		final int screenIndex = screenTopology.getDefaultScreenIndex();
+		if (screenIndex == -1)
+		{
+			return 0L;
+		}
+		return screenTopology.getPackedSize(screenIndex);
+	}
+
+	/**
+	 * Gets the size of the screen that is displayed from the given component packed into one long
+	 * value. In difference to {@link #getScreenDimension(Component)} no object will be created
+	 *
+	 * @param component
+	 *            the component
+	 * @return the packed size of the screen
+	 * @see PackedGeometry
+	 */
+	public static long getPackedScreenSize(@NonNull Component component)
+	{
+		return getPackedScreenSize(component.getGraphicsConfiguration());
+	}
+
+	/**
+	 * Gets the size of the screen from the given {@link GraphicsConfiguration} object packed into
+	 * one long value
+	 *
+	 * @param graphicsConfiguration
+	 *            the graphic configuration object
+	 * @return the packed size of the screen
+	 * @see PackedGeometry
+	 */
+	public static long getPackedScreenSize(@NonNull GraphicsConfiguration graphicsConfiguration)
+	{
+		final ScreenTopology screenTopology = ScreenTopology.getCurrent();
+		final int screenIndex = screenTopology.indexOf(graphicsConfiguration);
+		if (screenIndex != -1)
+		{
+			return screenTopology.getPackedSize(screenIndex);
+		}
+		final Rectangle bounds = graphicsConfiguration.getBounds();
+		return PackedGeometry.pack(bounds.width, bounds.height);
+	}
+
+	/**
+	 * Copies the bounds of the screen from the given screen id into the given {@link Rectangle}
+	 * object
+	 *
+	 * @param screenID
+	 *            the screen id
+	 * @param result
+	 *            the {@link Rectangle} object that receives the bounds
+	 * @return the given {@link Rectangle} object
+	 */
+	public static Rectangle getScreenBounds(int screenID, @NonNull Rectangle result)
+	{
+		return ScreenTopology.getCurrent().getBounds(screenID, result);
+	}
+
+	/**
+	 * Copies the bounds of the screen from the given screen id into the given int array in the
+	 * order x, y, width and height
+	 *
+	 * @param screenID
+	 *            the screen id
+	 * @param result
+	 *            the int array with a length of at least 4 that receives the bounds
+	 * @return the given int array
+	 */
+	public static int[] getScreenBounds(int screenID, @NonNull int[] result)
+	{
+		return ScreenTopology.getCurrent().getBounds(screenID, result);
+	}
+
+	/**
+	 * Copies the bounds of the screen that is displayed from the given component into the given
+	 * {@link Rectangle} object
+	 *
+	 * @param component
+	 *            the component
+	 * @param result
+	 *            the {@link Rectangle} object that receives the bounds
+	 * @return the given {@link Rectangle} object
+	 */
+	public static Rectangle getScreenBounds(@NonNull Component component,
+		@NonNull Rectangle result)
+	{
+		final GraphicsConfiguration graphicsConfiguration = component.getGraphicsConfiguration();
+		final ScreenTopology screenTopology = ScreenTopology.getCurrent();
+		final int screenIndex = screenTopology.indexOf(graphicsConfiguration);
+		if (screenIndex != -1)
+		{
+			return screenTopology.getBounds(screenIndex, result);
+		}
+		result.setBounds(graphicsConfiguration.getBounds());
+		return result;
+	}
+
+	/**
+	 * Copies the bounds of the screen that is displayed from the given component into the given
+	 * int array in the order x, y, width and height
+	 *
+	 * @param component
+	 *            the component
+	 * @param result
+	 *            the int array with a length of at least 4 that receives the bounds
+	 * @return the given int array
+	 */
+	public static int[] getScreenBounds(@NonNull Component component, @NonNull int[] result)
+	{
+		final GraphicsConfiguration graphicsConfiguration = component.getGraphicsConfiguration();
+		final ScreenTopology screenTopology = ScreenTopology.getCurrent();
+		final int screenIndex = screenTopology.indexOf(graphicsConfiguration);
+		if (screenIndex != -1)
+		{
+			return screenTopology.getBounds(screenIndex, result);
+		}
+		final Rectangle bounds = graphicsConfiguration.getBounds();
+		result[0] = bounds.x;
+		result[1] = bounds.y;
+		result[2] = bounds.width;
+		result[3] = bounds.height;
+		return result;
+	}
+
 	/**
 	 * Gets the screen device from the given screen id
 	 *
@@ -235,7 +556,7 @@ public final class ScreenSizeExtensions
 	 */
 	public static GraphicsDevice getScreenDevice(int screenID)
 	{
-		return getScreenDevices()[screenID];
+		return ScreenTopology.getCurrent().getScreenDevice(screenID);
 	}
 
 	/**
@@ -245,9 +566,7 @@ public final class ScreenSizeExtensions
 	 */
 	public static GraphicsDevice[] getScreenDevices()
 	{
-		final GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-		final GraphicsDevice[] gs = ge.getScreenDevices();
-		return gs;
+		return ScreenTopology.getCurrent().getScreenDevices();
 	}
 
 	/**
@@ -260,14 +579,9 @@ public final class ScreenSizeExtensions
 	public static Dimension getScreenDimension(Component component)
 	{
 		int screenID = getScreenID(component);
-		Dimension dimension = new Dimension(0, 0);
-
-		GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-		GraphicsConfiguration defaultConfiguration = ge.getScreenDevices()[screenID]
-			.getDefaultConfiguration();
-		Rectangle rectangle = defaultConfiguration.getBounds();
-		dimension.setSize(rectangle.getWidth(), rectangle.getHeight());
-		return dimension;
+		ScreenTopology screenTopology = ScreenTopology.getCurrent();
+		return new Dimension(screenTopology.getWidth(screenID),
+			screenTopology.getHeight(screenID));
 	}
 
 	/**
@@ -329,6 +643,12 @@ public final class ScreenSizeExtensions
 	 */
 	public static int getScreenHeight(final GraphicsDevice graphicsDevice)
 	{
+		final ScreenTopology screenTopology = ScreenTopology.getCurrent();
+		final int screenIndex = screenTopology.indexOf(graphicsDevice);
+		if (screenIndex != -1)
+		{
+			return screenTopology.getHeight(screenIndex);
+		}
 		final GraphicsConfiguration[] graphicsConfigurations = graphicsDevice.getConfigurations();
 		final GraphicsConfiguration graphicsConfiguration = getFirst(graphicsConfigurations);
 		if (graphicsConfiguration != null)
@@ -351,6 +671,46 @@ public final class ScreenSizeExtensions
 		return GraphicsDeviceExtensions.getGraphicsDeviceIndexIsShowingOn(component);
 	}
 
+	/**
+	 * Gets the screen ID of the screen that contains the given point
+	 *
+	 * @param x
+	 *            the x coordinate
+	 * @param y
+	 *            the y coordinate
+	 * @return the screen ID or -1 if no screen contains the given point
+	 */
+	public static int getScreenID(int x, int y)
+	{
+		return ScreenTopology.getCurrent().getScreenIndexAt(x, y);
+	}
+
+	/**
+	 * Gets the screen ID of the screen that contains the given point
+	 *
+	 * @param point
+	 *            the point
+	 * @return the screen ID or -1 if no screen contains the given point
+	 */
+	public static int getScreenID(@NonNull Point point)
+	{
+		return getScreenID(point.x, point.y);
+	}
+
+	/**
+	 * Gets the screen ID of the screen that has the largest intersection with the given
+	 * rectangle
+	 *
+	 * @param rectangle
+	 *            the rectangle
+	 * @return the screen ID or -1 if the given rectangle does not intersect any screen
+	 */
+	public static int getScreenID(@NonNull Rectangle rectangle)
+	{
+		return ScreenTopology.getCurrent().getScreenIndexWithMaxOverlap(rectangle.x, rectangle.y,
+			rectangle.width, rectangle.height);
+	}
+
 	/**
 	 * Gets the width from the current screen.
 	 *
@@ -399,6 +759,12 @@ public final class ScreenSizeExtensions
 	 */
 	public static int getScreenWidth(final GraphicsDevice graphicsDevice)
 	{
+		final ScreenTopology screenTopology = ScreenTopology.getCurrent();
+		final int screenIndex = screenTopology.indexOf(graphicsDevice);
+		if (screenIndex != -1)
+		{
+			return screenTopology.getWidth(screenIndex);
+		}
 		final GraphicsConfiguration[] graphicsConfigurations = graphicsDevice.getConfigurations();
 		final GraphicsConfiguration graphicsConfiguration = getFirst(graphicsConfigurations);
 		if (graphicsConfiguration != null)
@@ -433,10 +799,8 @@ public final class ScreenSizeExtensions
 	 */
 	public static void setDefaultFrameSize(@NonNull Frame frame)
 	{
-		final GraphicsEnvironment ge = GraphicsEnvironment.getLocalGraphicsEnvironment();
-		final GraphicsDevice[] gs = ge.getScreenDevices();
-		frame.setSize(ScreenSizeExtensions.getScreenWidth(gs[0]),
-			ScreenSizeExtensions.getScreenHeight(gs[0]));
+		final ScreenTopology screenTopology = ScreenTopology.getCurrent();
+		frame.setSize(screenTopology.getWidth(0), screenTopology.getHeight(0));
 	}
 
 	/**
@@ -474,9 +838,67 @@ public final class ScreenSizeExtensions
 	{
 		component.setPreferredSize(
 			new Dimension(componentPositionModel.getWidth(), componentPositionModel.getHeight()));
-		component.setLocation(componentPositionModel.getXPosition(),
-			componentPositionModel.getYPosition());
-		component.setSize(componentPositionModel.getWidth(), componentPositionModel.getHeight());
+		component.setBounds(componentPositionModel.getXPosition(),
+			componentPositionModel.getYPosition(), componentPositionModel.getWidth(),
+			componentPositionModel.getHeight());
+	}
+
+	/**
+	 * Positions all the given components from their position models in one task on the event
+	 * dispatch thread. Every component is positioned with one call of
+	 * {@link Component#setBounds(int, int, int, int)} and the windows of the components are
+	 * validated once after all components are positioned. If the current thread is the event
+	 * dispatch thread the components are positioned immediately
+	 *
+	 * @param componentPositions
+	 *            the map with the components and their position models
+	 */
+	public static void setComponentPositions(
+		@NonNull Map<? extends Component, ? extends ComponentPositionModel> componentPositions)
+	{
+		final Map<Component, ComponentPositionModel> positions = new LinkedHashMap<>(
+			componentPositions);
+		if (EventQueue.isDispatchThread())
+		{
+			applyComponentPositions(positions);
+		}
+		else
+		{
+			EventQueue.invokeLater(() -> applyComponentPositions(positions));
+		}
+	}
+
+	private static void applyComponentPositions(
+		final Map<Component, ComponentPositionModel> componentPositions)
+	{
+		final Set<Container> containersToValidate = new LinkedHashSet<>();
+		for (final Map.Entry<Component, ComponentPositionModel> entry : componentPositions
+			.entrySet())
+		{
+			final Component component = entry.getKey();
+			final ComponentPositionModel componentPositionModel = entry.getValue();
+			component.setPreferredSize(new Dimension(componentPositionModel.getWidth(),
+				componentPositionModel.getHeight()));
+			component.setBounds(componentPositionModel.getXPosition(),
+				componentPositionModel.getYPosition(), componentPositionModel.getWidth(),
+				componentPositionModel.getHeight());
+			if (component instanceof Window)
+			{
+				containersToValidate.add((Window)component);
+			}
+			else if (SwingUtilities.getWindowAncestor(component) != null)
+			{
+				containersToValidate.add(SwingUtilities.getWindowAncestor(component));
+			}
+			else if (component.getParent() != null)
+			{
+				containersToValidate.add(component.getParent());
+			}
+		}
+		for (final Container container : containersToValidate)
+		{
+			container.validate();
+		}
 	}
 
 	private static <T> T getFirst(final T[] array)
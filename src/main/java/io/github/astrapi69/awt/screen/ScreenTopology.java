@@ -0,0 +1,955 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.screen;
+
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.GraphicsEnvironment;
+import java.awt.HeadlessException;
+import java.awt.Insets;
+import java.awt.Rectangle;
+import java.awt.Toolkit;
+import java.awt.geom.AffineTransform;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import lombok.NonNull;
+
+/**
+ * The class {@link ScreenTopology} is an immutable snapshot of the screen devices of the local
+ * graphics environment with their default bounds, insets and scale factors.<br>
+ * <br>
+ * The current snapshot is created once and shared by {@link ScreenSizeExtensions} and
+ * {@link GraphicsDeviceExtensions}, so the native round trips for fetching the screen devices and
+ * their configurations are only made again if the snapshot is invalidated or the display
+ * configuration has changed.<br>
+ * <br>
+ * A change of the display configuration is detected on access: at most once in the device check
+ * interval the screen devices of the graphics environment are compared by identity with the
+ * screen devices of the current snapshot and a new snapshot is created if a screen was added or
+ * removed. Changes of the bounds or insets of the same screen devices are detected by the
+ * {@link ScreenTopologyMonitor} or with {@link #refresh()}
+ */
+public final class ScreenTopology
+{
+
+	/**
+	 * The constant for the default interval in milliseconds in which the current snapshot is
+	 * checked against the screen devices of the graphics environment
+	 */
+	public static final long DEFAULT_DEVICE_CHECK_INTERVAL_MILLIS = 250;
+
+	/**
+	 * The counter for the requests that was served from the current snapshot
+	 */
+	private static final LongAdder HIT_COUNTER = new LongAdder();
+
+	/**
+	 * The counter for the requests that had to create a new snapshot
+	 */
+	private static final LongAdder MISS_COUNTER = new LongAdder();
+
+	/**
+	 * The current shared snapshot or null if it has to be created on the next request
+	 */
+	private static volatile ScreenTopology current;
+
+	/**
+	 * The supplier of the graphics environment, that can be replaced in unit tests
+	 */
+	static volatile Supplier<GraphicsEnvironment> graphicsEnvironmentSupplier;
+
+	/**
+	 * The function that reads the insets of a screen, that can be replaced in unit tests
+	 */
+	static volatile Function<GraphicsConfiguration, Insets> screenInsetsReader;
+
+	/**
+	 * The interval in nanoseconds in which the current snapshot is checked against the screen
+	 * devices and their bounds of the graphics environment
+	 */
+	private static volatile long deviceCheckIntervalNanos = TimeUnit.MILLISECONDS
+		.toNanos(DEFAULT_DEVICE_CHECK_INTERVAL_MILLIS);
+
+	/**
+	 * The time in nanoseconds of the next check of the screen devices
+	 */
+	private static volatile long nextDeviceCheckNanos;
+
+	static
+	{
+		resetEnvironment();
+	}
+
+	/**
+	 * The flag that indicates if the snapshot was created from the graphics environment and its
+	 * screen devices can be checked for changes
+	 */
+	private final boolean fromEnvironment;
+
+	/**
+	 * The screen devices
+	 */
+	private final GraphicsDevice[] screenDevices;
+
+	/**
+	 * The default configurations of the screen devices
+	 */
+	private final GraphicsConfiguration[] defaultConfigurations;
+
+	/**
+	 * The identities of the screen devices
+	 */
+	private final String[] screenIdentities;
+
+	/**
+	 * The bounds of the default configurations
+	 */
+	private final Rectangle[] bounds;
+
+	/**
+	 * The insets of the screens
+	 */
+	private final Insets[] insets;
+
+	/**
+	 * The usable bounds of the screens, that are the bounds without the insets
+	 */
+	private final Rectangle[] usableBounds;
+
+	/**
+	 * The horizontal scale factors of the default transforms
+	 */
+	private final double[] scaleX;
+
+	/**
+	 * The vertical scale factors of the default transforms
+	 */
+	private final double[] scaleY;
+
+	/**
+	 * The index of the default screen device or -1 if there is no default screen device
+	 */
+	private final int defaultScreenIndex;
+
+	/**
+	 * The identity map from the screen devices to their index
+	 */
+	private final Map<GraphicsDevice, Integer> deviceIndexes;
+
+	/**
+	 * The identity map from all graphics configurations of the screen devices to their screen
+	 * index, that is computed once when the snapshot is created
+	 */
+	private final Map<GraphicsConfiguration, Integer> configurationIndexes;
+
+	/**
+	 * The spatial index over the screen bounds
+	 */
+	private final ScreenBoundsIndex screenBoundsIndex;
+
+	/**
+	 * Instantiates a new {@link ScreenTopology} object with the given arrays, that all have to be
+	 * of the same length
+	 *
+	 * @param screenDevices
+	 *            the screen devices
+	 * @param defaultConfigurations
+	 *            the default configurations of the screen devices
+	 * @param screenIdentities
+	 *            the identities of the screen devices
+	 * @param bounds
+	 *            the bounds of the default configurations
+	 * @param insets
+	 *            the insets of the screens
+	 * @param scaleX
+	 *            the horizontal scale factors
+	 * @param scaleY
+	 *            the vertical scale factors
+	 * @param defaultScreenIndex
+	 *            the index of the default screen device
+	 * @param fromEnvironment
+	 *            the flag that indicates if the snapshot was created from the graphics environment
+	 */
+	ScreenTopology(final GraphicsDevice[] screenDevices,
+		final GraphicsConfiguration[] defaultConfigurations, final String[] screenIdentities,
+		final Rectangle[] bounds, final Insets[] insets, final double[] scaleX,
+		final double[] scaleY, final int defaultScreenIndex, final boolean fromEnvironment)
+	{
+		this.fromEnvironment = fromEnvironment;
+		this.screenDevices = screenDevices;
+		this.defaultConfigurations = defaultConfigurations;
+		this.screenIdentities = screenIdentities;
+		this.bounds = bounds;
+		this.insets = insets;
+		this.scaleX = scaleX;
+		this.scaleY = scaleY;
+		this.defaultScreenIndex = defaultScreenIndex;
+		this.usableBounds = new Rectangle[bounds.length];
+		for (int i = 0; i < bounds.length; i++)
+		{
+			final Rectangle screenBounds = bounds[i];
+			final Insets screenInsets = insets[i];
+			usableBounds[i] = new Rectangle(screenBounds.x + screenInsets.left,
+				screenBounds.y + screenInsets.top,
+				Math.max(screenBounds.width - screenInsets.left - screenInsets.right, 0),
+				Math.max(screenBounds.height - screenInsets.top - screenInsets.bottom, 0));
+		}
+		this.screenBoundsIndex = new ScreenBoundsIndex(bounds);
+		this.deviceIndexes = new IdentityHashMap<>(screenDevices.length);
+		this.configurationIndexes = new IdentityHashMap<>();
+		for (int i = 0; i < screenDevices.length; i++)
+		{
+			if (defaultConfigurations[i] != null)
+			{
+				configurationIndexes.putIfAbsent(defaultConfigurations[i], i);
+			}
+			if (screenDevices[i] != null)
+			{
+				deviceIndexes.putIfAbsent(screenDevices[i], i);
+				for (final GraphicsConfiguration configuration : screenDevices[i]
+					.getConfigurations())
+				{
+					configurationIndexes.putIfAbsent(configuration, i);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Gets the current shared {@link ScreenTopology} object. If there is no current snapshot or a
+	 * screen device was added or removed or the bounds of a screen, for instance its resolution
+	 * or arrangement, have changed since the snapshot was created, a new one will be created from
+	 * the local graphics environment. The check runs at most once in the device check interval
+	 *
+	 * @return the current shared {@link ScreenTopology} object
+	 * @throws HeadlessException
+	 *             if <code>GraphicsEnvironment.isHeadless</code> returns <code>true</code>
+	 */
+	public static ScreenTopology getCurrent() throws HeadlessException
+	{
+		ScreenTopology topology = current;
+		if (topology != null
+			&& (!topology.fromEnvironment || System.nanoTime() - nextDeviceCheckNanos < 0))
+		{
+			HIT_COUNTER.increment();
+			return topology;
+		}
+		synchronized (ScreenTopology.class)
+		{
+			topology = current;
+			if (topology != null && (!topology.fromEnvironment || topology
+				.hasSameDevicesAndBounds(graphicsEnvironmentSupplier.get().getScreenDevices())))
+			{
+				HIT_COUNTER.increment();
+			}
+			else
+			{
+				MISS_COUNTER.increment();
+				topology = newScreenTopology();
+				current = topology;
+			}
+			nextDeviceCheckNanos = System.nanoTime() + deviceCheckIntervalNanos;
+		}
+		return topology;
+	}
+
+	/**
+	 * Sets the interval in which the current snapshot is checked against the screen devices and
+	 * their bounds of the graphics environment on access
+	 *
+	 * @param deviceCheckIntervalMillis
+	 *            the interval in milliseconds, 0 checks on every access
+	 */
+	public static void setDeviceCheckIntervalMillis(final long deviceCheckIntervalMillis)
+	{
+		if (deviceCheckIntervalMillis < 0)
+		{
+			throw new IllegalArgumentException("The device check interval can not be negative");
+		}
+		deviceCheckIntervalNanos = TimeUnit.MILLISECONDS.toNanos(deviceCheckIntervalMillis);
+		nextDeviceCheckNanos = System.nanoTime();
+	}
+
+	/**
+	 * Invalidates the current shared snapshot, so the next request will create a new one
+	 */
+	public static void invalidate()
+	{
+		synchronized (ScreenTopology.class)
+		{
+			current = null;
+		}
+	}
+
+	/**
+	 * Creates a new snapshot from the local graphics environment and replaces the current shared
+	 * snapshot only if the display configuration has changed
+	 *
+	 * @return true if the current shared snapshot was replaced otherwise false
+	 * @throws HeadlessException
+	 *             if <code>GraphicsEnvironment.isHeadless</code> returns <code>true</code>
+	 */
+	public static boolean refresh() throws HeadlessException
+	{
+		return install(newScreenTopology());
+	}
+
+	/**
+	 * Installs the given {@link ScreenTopology} object as the current shared snapshot if it
+	 * differs from the current one
+	 *
+	 * @param topology
+	 *            the new snapshot
+	 * @return true if the current shared snapshot was replaced otherwise false
+	 */
+	static boolean install(final @NonNull ScreenTopology topology)
+	{
+		synchronized (ScreenTopology.class)
+		{
+			final ScreenTopology previous = current;
+			if (previous != null && previous.hasSameLayout(topology))
+			{
+				return false;
+			}
+			current = topology;
+			return true;
+		}
+	}
+
+	/**
+	 * Resets the supplier of the graphics environment and the reader of the screen insets to the
+	 * local graphics environment and the default toolkit
+	 */
+	static void resetEnvironment()
+	{
+		graphicsEnvironmentSupplier = GraphicsEnvironment::getLocalGraphicsEnvironment;
+		screenInsetsReader = configuration -> Toolkit.getDefaultToolkit()
+			.getScreenInsets(configuration);
+	}
+
+	/**
+	 * Gets the number of requests that was served from the current shared snapshot
+	 *
+	 * @return the hit count
+	 */
+	public static long getHitCount()
+	{
+		return HIT_COUNTER.sum();
+	}
+
+	/**
+	 * Gets the number of requests that had to create a new snapshot
+	 *
+	 * @return the miss count
+	 */
+	public static long getMissCount()
+	{
+		return MISS_COUNTER.sum();
+	}
+
+	/**
+	 * Resets the hit and miss counters
+	 */
+	public static void resetStatistics()
+	{
+		HIT_COUNTER.reset();
+		MISS_COUNTER.reset();
+	}
+
+	/**
+	 * Factory method for create a new {@link ScreenTopology} object from the local graphics
+	 * environment. Note that the returned snapshot is not shared
+	 *
+	 * @return the new {@link ScreenTopology} object
+	 * @throws HeadlessException
+	 *             if <code>GraphicsEnvironment.isHeadless</code> returns <code>true</code>
+	 */
+	public static ScreenTopology newScreenTopology() throws HeadlessException
+	{
+		final GraphicsEnvironment graphicsEnvironment = graphicsEnvironmentSupplier.get();
+		final GraphicsDevice[] graphicsDevices = graphicsEnvironment.getScreenDevices();
+		final GraphicsDevice defaultScreenDevice = graphicsEnvironment.getDefaultScreenDevice();
+		final Function<GraphicsConfiguration, Insets> insetsReader = screenInsetsReader;
+		final int length = graphicsDevices.length;
+		final GraphicsConfiguration[] configurations = new GraphicsConfiguration[length];
+		final String[] identities = new String[length];
+		final Rectangle[] bounds = new Rectangle[length];
+		final Insets[] insets = new Insets[length];
+		final double[] scaleX = new double[length];
+		final double[] scaleY = new double[length];
+		int defaultScreenIndex = -1;
+		for (int i = 0; i < length; i++)
+		{
+			final GraphicsDevice graphicsDevice = graphicsDevices[i];
+			final GraphicsConfiguration configuration = graphicsDevice.getDefaultConfiguration();
+			final AffineTransform defaultTransform = configuration.getDefaultTransform();
+			configurations[i] = configuration;
+			identities[i] = graphicsDevice.getIDstring();
+			bounds[i] = configuration.getBounds();
+			insets[i] = insetsReader.apply(configuration);
+			scaleX[i] = defaultTransform.getScaleX();
+			scaleY[i] = defaultTransform.getScaleY();
+			if (graphicsDevice == defaultScreenDevice)
+			{
+				defaultScreenIndex = i;
+			}
+		}
+		return new ScreenTopology(graphicsDevices, configurations, identities, bounds, insets,
+			scaleX, scaleY, defaultScreenIndex, true);
+	}
+
+	/**
+	 * Factory method for create a new {@link ScreenTopology} object from the given screen
+	 * identities, bounds, insets and scale factors without any screen devices, for instance for
+	 * compute layouts for a virtual screen setup. The first screen is the default screen
+	 *
+	 * @param screenIdentities
+	 *            the identities of the screens
+	 * @param bounds
+	 *            the bounds of the screens
+	 * @param insets
+	 *            the insets of the screens or null for no insets
+	 * @param scales
+	 *            the scale factors of the screens or null for a scale factor of 1
+	 * @return the new {@link ScreenTopology} object
+	 */
+	public static ScreenTopology of(final @NonNull String[] screenIdentities,
+		final @NonNull Rectangle[] bounds, final Insets[] insets, final double[] scales)
+	{
+		final int length = bounds.length;
+		if (screenIdentities.length != length || insets != null && insets.length != length
+			|| scales != null && scales.length != length)
+		{
+			throw new IllegalArgumentException(
+				"The given arrays have to be of the same length as the bounds array");
+		}
+		final Rectangle[] boundsCopy = new Rectangle[length];
+		final Insets[] insetsCopy = new Insets[length];
+		final double[] scaleX = new double[length];
+		for (int i = 0; i < length; i++)
+		{
+			boundsCopy[i] = new Rectangle(bounds[i]);
+			insetsCopy[i] = insets != null ? (Insets)insets[i].clone() : new Insets(0, 0, 0, 0);
+			scaleX[i] = scales != null ? scales[i] : 1.0d;
+		}
+		return new ScreenTopology(new GraphicsDevice[length], new GraphicsConfiguration[length],
+			screenIdentities.clone(), boundsCopy, insetsCopy, scaleX, scaleX.clone(),
+			length > 0 ? 0 : -1, false);
+	}
+
+	/**
+	 * Gets the number of screens
+	 *
+	 * @return the number of screens
+	 */
+	public int getScreenCount()
+	{
+		return screenDevices.length;
+	}
+
+	/**
+	 * Gets the index of the default screen device
+	 *
+	 * @return the index of the default screen device or -1 if there is no default screen device
+	 */
+	public int getDefaultScreenIndex()
+	{
+		return defaultScreenIndex;
+	}
+
+	/**
+	 * Gets a copy of the array with the screen devices
+	 *
+	 * @return a copy of the array with the screen devices
+	 */
+	public GraphicsDevice[] getScreenDevices()
+	{
+		return screenDevices.clone();
+	}
+
+	/**
+	 * Gets the screen device from the given screen index
+	 *
+	 * @param screenIndex
+	 *            the screen index
+	 * @return the screen device from the given screen index
+	 */
+	public GraphicsDevice getScreenDevice(final int screenIndex)
+	{
+		return screenDevices[screenIndex];
+	}
+
+	/**
+	 * Gets the default {@link GraphicsConfiguration} from the given screen index
+	 *
+	 * @param screenIndex
+	 *            the screen index
+	 * @return the default {@link GraphicsConfiguration} from the given screen index
+	 */
+	public GraphicsConfiguration getDefaultConfiguration(final int screenIndex)
+	{
+		return defaultConfigurations[screenIndex];
+	}
+
+	/**
+	 * Gets the identity of the screen from the given screen index
+	 *
+	 * @param screenIndex
+	 *            the screen index
+	 * @return the identity of the screen
+	 */
+	public String getScreenIdentity(final int screenIndex)
+	{
+		return screenIdentities[screenIndex];
+	}
+
+	/**
+	 * Gets a copy of the bounds of the screen from the given screen index
+	 *
+	 * @param screenIndex
+	 *            the screen index
+	 * @return a copy of the bounds of the screen
+	 */
+	public Rectangle getBounds(final int screenIndex)
+	{
+		return new Rectangle(bounds[screenIndex]);
+	}
+
+	/**
+	 * Copies the bounds of the screen from the given screen index into the given
+	 * {@link Rectangle} object
+	 *
+	 * @param screenIndex
+	 *            the screen index
+	 * @param result
+	 *            the {@link Rectangle} object that receives the bounds
+	 * @return the given {@link Rectangle} object
+	 */
+	public Rectangle getBounds(final int screenIndex, final @NonNull Rectangle result)
+	{
+		final Rectangle screenBounds = bounds[screenIndex];
+		result.setBounds(screenBounds.x, screenBounds.y, screenBounds.width, screenBounds.height);
+		return result;
+	}
+
+	/**
+	 * Copies the bounds of the screen from the given screen index into the given int array in the
+	 * order x, y, width and height
+	 *
+	 * @param screenIndex
+	 *            the screen index
+	 * @param result
+	 *            the int array with a length of at least 4 that receives the bounds
+	 * @return the given int array
+	 */
+	public int[] getBounds(final int screenIndex, final @NonNull int[] result)
+	{
+		final Rectangle screenBounds = bounds[screenIndex];
+		result[0] = screenBounds.x;
+		result[1] = screenBounds.y;
+		result[2] = screenBounds.width;
+		result[3] = screenBounds.height;
+		return result;
+	}
+
+	/**
+	 * Gets the size of the screen from the given screen index packed into one long value
+	 *
+	 * @param screenIndex
+	 *            the screen index
+	 * @return the packed size of the screen
+	 * @see PackedGeometry
+	 */
+	public long getPackedSize(final int screenIndex)
+	{
+		final Rectangle screenBounds = bounds[screenIndex];
+		return PackedGeometry.pack(screenBounds.width, screenBounds.height);
+	}
+
+	/**
+	 * Gets the x coordinate of the screen from the given screen index
+	 *
+	 * @param screenIndex
+	 *            the screen index
+	 * @return the x coordinate of the screen
+	 */
+	public int getX(final int screenIndex)
+	{
+		return bounds[screenIndex].x;
+	}
+
+	/**
+	 * Gets the y coordinate of the screen from the given screen index
+	 *
+	 * @param screenIndex
+	 *            the screen index
+	 * @return the y coordinate of the screen
+	 */
+	public int getY(final int screenIndex)
+	{
+		return bounds[screenIndex].y;
+	}
+
+	/**
+	 * Gets the width of the screen from the given screen index
+	 *
+	 * @param screenIndex
+	 *            the screen index
+	 * @return the width of the screen
+	 */
+	public int getWidth(final int screenIndex)
+	{
+		return bounds[screenIndex].width;
+	}
+
+	/**
+	 * Gets the height of the screen from the given screen index
+	 *
+	 * @param screenIndex
+	 *            the screen index
+	 * @return the height of the screen
+	 */
+	public int getHeight(final int screenIndex)
+	{
+		return bounds[screenIndex].height;
+	}
+
+	/**
+	 * Gets a copy of the insets of the screen from the given screen index
+	 *
+	 * @param screenIndex
+	 *            the screen index
+	 * @return a copy of the insets of the screen
+	 */
+	public Insets getInsets(final int screenIndex)
+	{
+		return (Insets)insets[screenIndex].clone();
+	}
+
+	/**
+	 * Gets a copy of the insets of the given screen device. All configurations of a screen device
+	 * share its insets, so the insets are looked up by the device
+	 *
+	 * @param graphicsDevice
+	 *            the screen device
+	 * @return a copy of the insets of the screen device or null if it is not in this snapshot,
+	 *         see {@link #indexOf(GraphicsDevice)}
+	 */
+	public Insets getInsets(final GraphicsDevice graphicsDevice)
+	{
+		final int screenIndex = indexOf(graphicsDevice);
+		if (screenIndex == -1)
+		{
+			return null;
+		}
+		return getInsets(screenIndex);
+	}
+
+	/**
+	 * Gets a copy of the usable bounds of the screen from the given screen index, that are the
+	 * bounds without the insets for instance of a taskbar
+	 *
+	 * @param screenIndex
+	 *            the screen index
+	 * @return a copy of the usable bounds of the screen
+	 */
+	public Rectangle getUsableBounds(final int screenIndex)
+	{
+		return new Rectangle(usableBounds[screenIndex]);
+	}
+
+	/**
+	 * Copies the usable bounds of the screen from the given screen index into the given
+	 * {@link Rectangle} object
+	 *
+	 * @param screenIndex
+	 *            the screen index
+	 * @param result
+	 *            the {@link Rectangle} object that receives the usable bounds
+	 * @return the given {@link Rectangle} object
+	 */
+	public Rectangle getUsableBounds(final int screenIndex, final @NonNull Rectangle result)
+	{
+		final Rectangle screenBounds = usableBounds[screenIndex];
+		result.setBounds(screenBounds.x, screenBounds.y, screenBounds.width, screenBounds.height);
+		return result;
+	}
+
+	/**
+	 * Gets the horizontal scale factor of the screen from the given screen index
+	 *
+	 * @param screenIndex
+	 *            the screen index
+	 * @return the horizontal scale factor of the screen
+	 */
+	public double getScaleX(final int screenIndex)
+	{
+		return scaleX[screenIndex];
+	}
+
+	/**
+	 * Gets the vertical scale factor of the screen from the given screen index
+	 *
+	 * @param screenIndex
+	 *            the screen index
+	 * @return the vertical scale factor of the screen
+	 */
+	public double getScaleY(final int screenIndex)
+	{
+		return scaleY[screenIndex];
+	}
+
+	/**
+	 * Gets the index of the given {@link GraphicsDevice} object. The screen device is looked up
+	 * by identity, if it is not in this snapshot, for instance because the graphics environment
+	 * has created new device objects for the same screens, it is looked up by its identity string
+	 *
+	 * @param graphicsDevice
+	 *            the graphics device
+	 * @return the index of the given {@link GraphicsDevice} object or -1 if no screen of this
+	 *         snapshot has the same device or identity string
+	 */
+	public int indexOf(final GraphicsDevice graphicsDevice)
+	{
+		if (graphicsDevice == null)
+		{
+			return -1;
+		}
+		final Integer screenIndex = deviceIndexes.get(graphicsDevice);
+		if (screenIndex != null)
+		{
+			return screenIndex;
+		}
+		final String screenIdentity = graphicsDevice.getIDstring();
+		for (int i = 0; i < screenIdentities.length; i++)
+		{
+			if (screenIdentities[i] != null && screenIdentities[i].equals(screenIdentity))
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Gets the index of the screen device of the given {@link GraphicsConfiguration} object. All
+	 * configurations of the screen devices are indexed by identity when the snapshot is created,
+	 * so the lookup is a single map lookup without any lock. A configuration that is not indexed
+	 * is resolved through its screen device, see {@link #indexOf(GraphicsDevice)}
+	 *
+	 * @param graphicsConfiguration
+	 *            the graphics configuration
+	 * @return the index of the screen device of the given {@link GraphicsConfiguration} object or
+	 *         -1 if neither the configuration nor its screen device is in this snapshot
+	 */
+	public int indexOf(final GraphicsConfiguration graphicsConfiguration)
+	{
+		if (graphicsConfiguration == null)
+		{
+			return -1;
+		}
+		final Integer screenIndex = configurationIndexes.get(graphicsConfiguration);
+		if (screenIndex != null)
+		{
+			return screenIndex;
+		}
+		return indexOf(graphicsConfiguration.getDevice());
+	}
+
+	/**
+	 * Gets the index of the screen that contains the given point
+	 *
+	 * @param x
+	 *            the x coordinate
+	 * @param y
+	 *            the y coordinate
+	 * @return the index of the screen that contains the given point or -1 if no screen contains
+	 *         it
+	 */
+	public int getScreenIndexAt(final int x, final int y)
+	{
+		return screenBoundsIndex.getScreenIndexAt(x, y);
+	}
+
+	/**
+	 * Gets the index of the screen that has the largest intersection with the given rectangle
+	 *
+	 * @param x
+	 *            the x coordinate of the rectangle
+	 * @param y
+	 *            the y coordinate of the rectangle
+	 * @param width
+	 *            the width of the rectangle
+	 * @param height
+	 *            the height of the rectangle
+	 * @return the index of the screen with the largest intersection or -1 if the rectangle does
+	 *         not intersect any screen
+	 */
+	public int getScreenIndexWithMaxOverlap(final int x, final int y, final int width,
+		final int height)
+	{
+		return screenBoundsIndex.getScreenIndexWithMaxOverlap(x, y, width, height);
+	}
+
+	/**
+	 * Gets the index of the screen that is nearest to the given point. If a screen contains the
+	 * given point its index is returned
+	 *
+	 * @param x
+	 *            the x coordinate
+	 * @param y
+	 *            the y coordinate
+	 * @return the index of the nearest screen or -1 if there are no screens
+	 */
+	public int getNearestScreenIndex(final int x, final int y)
+	{
+		return screenBoundsIndex.getNearestScreenIndex(x, y);
+	}
+
+	/**
+	 * Checks if the given screen devices are the screen devices of this snapshot in the same order
+	 *
+	 * @param graphicsDevices
+	 *            the screen devices
+	 * @return true if the given screen devices are the same otherwise false
+	 */
+	boolean hasScreenDevices(final @NonNull GraphicsDevice[] graphicsDevices)
+	{
+		if (graphicsDevices.length != screenDevices.length)
+		{
+			return false;
+		}
+		for (int i = 0; i < graphicsDevices.length; i++)
+		{
+			if (graphicsDevices[i] != screenDevices[i])
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks if the given screen devices are the screen devices of this snapshot in the same order
+	 * and the bounds of their default configurations are unchanged. This check does not read the
+	 * insets of the screens, that is an expensive call of the toolkit
+	 *
+	 * @param graphicsDevices
+	 *            the screen devices
+	 * @return true if the given screen devices and their bounds are the same otherwise false
+	 */
+	boolean hasSameDevicesAndBounds(final @NonNull GraphicsDevice[] graphicsDevices)
+	{
+		if (!hasScreenDevices(graphicsDevices))
+		{
+			return false;
+		}
+		for (int i = 0; i < graphicsDevices.length; i++)
+		{
+			if (!bounds[i].equals(graphicsDevices[i].getDefaultConfiguration().getBounds()))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks if the given screen devices are the screen devices of this snapshot in the same order
+	 * and the bounds, the scale factors and the insets of their default configurations are
+	 * unchanged. The insets are only read if the devices, bounds and scale factors are unchanged
+	 *
+	 * @param graphicsDevices
+	 *            the screen devices
+	 * @return true if the given screen devices and their layout are the same otherwise false
+	 */
+	boolean hasSameDevicesAndLayout(final @NonNull GraphicsDevice[] graphicsDevices)
+	{
+		if (!hasSameDevicesAndBounds(graphicsDevices))
+		{
+			return false;
+		}
+		final int length = graphicsDevices.length;
+		final GraphicsConfiguration[] configurations = new GraphicsConfiguration[length];
+		for (int i = 0; i < length; i++)
+		{
+			configurations[i] = graphicsDevices[i].getDefaultConfiguration();
+			final AffineTransform defaultTransform = configurations[i].getDefaultTransform();
+			if (scaleX[i] != defaultTransform.getScaleX()
+				|| scaleY[i] != defaultTransform.getScaleY())
+			{
+				return false;
+			}
+		}
+		final Function<GraphicsConfiguration, Insets> insetsReader = screenInsetsReader;
+		for (int i = 0; i < length; i++)
+		{
+			if (!insets[i].equals(insetsReader.apply(configurations[i])))
+			{
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * Checks if the given {@link ScreenTopology} object has the same screen devices with the same
+	 * bounds, insets and scale factors as this snapshot
+	 *
+	 * @param other
+	 *            the other snapshot
+	 * @return true if the given snapshot has the same layout otherwise false
+	 */
+	public boolean hasSameLayout(final ScreenTopology other)
+	{
+		if (other == this)
+		{
+			return true;
+		}
+		if (other == null || other.getScreenCount() != getScreenCount()
+			|| other.defaultScreenIndex != defaultScreenIndex)
+		{
+			return false;
+		}
+		for (int i = 0; i < screenDevices.length; i++)
+		{
+			if (screenDevices[i] != other.screenDevices[i]
+				|| !Objects.equals(screenIdentities[i], other.screenIdentities[i]))
+			{
+				return false;
+			}
+		}
+		return Arrays.equals(bounds, other.bounds) && Arrays.equals(insets, other.insets)
+			&& Arrays.equals(scaleX, other.scaleX) && Arrays.equals(scaleY, other.scaleY);
+	}
+
+}
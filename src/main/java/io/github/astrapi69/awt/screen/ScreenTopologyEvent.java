@@ -0,0 +1,193 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.screen;
+
+import java.util.Arrays;
+import java.util.EventObject;
+import java.util.Objects;
+
+import lombok.NonNull;
+
+/**
+ * The class {@link ScreenTopologyEvent} holds the differences between an old and a new
+ * {@link ScreenTopology}. The screens are matched by their identity
+ */
+public class ScreenTopologyEvent extends EventObject
+{
+
+	/** The Constant serialVersionUID. */
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The old screen topology
+	 */
+	private final transient ScreenTopology oldScreenTopology;
+
+	/**
+	 * The indexes in the new screen topology of the added screens
+	 */
+	private final int[] addedScreens;
+
+	/**
+	 * The indexes in the old screen topology of the removed screens
+	 */
+	private final int[] removedScreens;
+
+	/**
+	 * The indexes in the new screen topology of the screens that changed their bounds, insets or
+	 * scale factors
+	 */
+	private final int[] movedScreens;
+
+	/**
+	 * Instantiates a new {@link ScreenTopologyEvent} object and computes the differences between
+	 * the given screen topologies
+	 *
+	 * @param oldScreenTopology
+	 *            the old screen topology
+	 * @param newScreenTopology
+	 *            the new screen topology that is the source of this event
+	 */
+	public ScreenTopologyEvent(final @NonNull ScreenTopology oldScreenTopology,
+		final @NonNull ScreenTopology newScreenTopology)
+	{
+		super(newScreenTopology);
+		this.oldScreenTopology = oldScreenTopology;
+		final int oldCount = oldScreenTopology.getScreenCount();
+		final int newCount = newScreenTopology.getScreenCount();
+		final boolean[] matchedOldScreens = new boolean[oldCount];
+		final int[] added = new int[newCount];
+		final int[] moved = new int[newCount];
+		int addedCount = 0;
+		int movedCount = 0;
+		for (int newIndex = 0; newIndex < newCount; newIndex++)
+		{
+			final int oldIndex = indexOfIdentity(oldScreenTopology,
+				newScreenTopology.getScreenIdentity(newIndex), matchedOldScreens);
+			if (oldIndex == -1)
+			{
+				added[addedCount++] = newIndex;
+			}
+			else
+			{
+				matchedOldScreens[oldIndex] = true;
+				if (hasMoved(oldScreenTopology, oldIndex, newScreenTopology, newIndex))
+				{
+					moved[movedCount++] = newIndex;
+				}
+			}
+		}
+		final int[] removed = new int[oldCount];
+		int removedCount = 0;
+		for (int oldIndex = 0; oldIndex < oldCount; oldIndex++)
+		{
+			if (!matchedOldScreens[oldIndex])
+			{
+				removed[removedCount++] = oldIndex;
+			}
+		}
+		this.addedScreens = Arrays.copyOf(added, addedCount);
+		this.removedScreens = Arrays.copyOf(removed, removedCount);
+		this.movedScreens = Arrays.copyOf(moved, movedCount);
+	}
+
+	private static int indexOfIdentity(final ScreenTopology screenTopology, final String identity,
+		final boolean[] matched)
+	{
+		for (int i = 0; i < screenTopology.getScreenCount(); i++)
+		{
+			if (!matched[i] && Objects.equals(identity, screenTopology.getScreenIdentity(i)))
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private static boolean hasMoved(final ScreenTopology oldScreenTopology, final int oldIndex,
+		final ScreenTopology newScreenTopology, final int newIndex)
+	{
+		return oldScreenTopology.getX(oldIndex) != newScreenTopology.getX(newIndex)
+			|| oldScreenTopology.getY(oldIndex) != newScreenTopology.getY(newIndex)
+			|| oldScreenTopology.getWidth(oldIndex) != newScreenTopology.getWidth(newIndex)
+			|| oldScreenTopology.getHeight(oldIndex) != newScreenTopology.getHeight(newIndex)
+			|| !oldScreenTopology.getInsets(oldIndex)
+				.equals(newScreenTopology.getInsets(newIndex))
+			|| oldScreenTopology.getScaleX(oldIndex) != newScreenTopology.getScaleX(newIndex)
+			|| oldScreenTopology.getScaleY(oldIndex) != newScreenTopology.getScaleY(newIndex);
+	}
+
+	/**
+	 * Gets the old screen topology
+	 *
+	 * @return the old screen topology
+	 */
+	public ScreenTopology getOldScreenTopology()
+	{
+		return oldScreenTopology;
+	}
+
+	/**
+	 * Gets the new screen topology
+	 *
+	 * @return the new screen topology
+	 */
+	public ScreenTopology getNewScreenTopology()
+	{
+		return (ScreenTopology)getSource();
+	}
+
+	/**
+	 * Gets the indexes in the new screen topology of the added screens
+	 *
+	 * @return the indexes of the added screens
+	 */
+	public int[] getAddedScreens()
+	{
+		return addedScreens.clone();
+	}
+
+	/**
+	 * Gets the indexes in the old screen topology of the removed screens
+	 *
+	 * @return the indexes of the removed screens
+	 */
+	public int[] getRemovedScreens()
+	{
+		return removedScreens.clone();
+	}
+
+	/**
+	 * Gets the indexes in the new screen topology of the screens that changed their bounds,
+	 * insets or scale factors
+	 *
+	 * @return the indexes of the moved screens
+	 */
+	public int[] getMovedScreens()
+	{
+		return movedScreens.clone();
+	}
+
+}
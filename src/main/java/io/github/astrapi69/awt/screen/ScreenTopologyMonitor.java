@@ -0,0 +1,284 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.screen;
+
+import java.awt.EventQueue;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import lombok.NonNull;
+
+/**
+ * The class {@link ScreenTopologyMonitor} detects if screens was hot plugged, removed or
+ * rearranged and notifies the registered {@link ScreenTopologyListener} objects.<br>
+ * <br>
+ * AWT provides no public notification for display changes, so a daemon thread compares the
+ * screen devices with their bounds, scale factors and insets with the last {@link ScreenTopology}
+ * snapshot in the poll interval. The insets, that is an expensive call of the toolkit, are only
+ * read if the devices, bounds and scale factors are unchanged. If a change is detected the thread
+ * checks again after the debounce delay until the topology is stable, so a burst of changes
+ * results in one event. Then the shared snapshot is replaced and the event is delivered on the
+ * event dispatch thread. An exception of one listener does not prevent the delivery to the other
+ * listeners. The thread runs only as long as listeners are registered
+ */
+public final class ScreenTopologyMonitor
+{
+
+	/**
+	 * The constant for the default poll interval in milliseconds
+	 */
+	public static final long DEFAULT_POLL_INTERVAL_MILLIS = 2000;
+
+	/**
+	 * The constant for the default debounce delay in milliseconds
+	 */
+	public static final long DEFAULT_DEBOUNCE_MILLIS = 500;
+
+	/**
+	 * The registered listeners
+	 */
+	private static final List<ScreenTopologyListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+	/**
+	 * The poll interval in milliseconds
+	 */
+	private static volatile long pollIntervalMillis = DEFAULT_POLL_INTERVAL_MILLIS;
+
+	/**
+	 * The debounce delay in milliseconds
+	 */
+	private static volatile long debounceMillis = DEFAULT_DEBOUNCE_MILLIS;
+
+	/**
+	 * The poller of the running monitor thread or null if the monitor is not running
+	 */
+	private static Poller poller;
+
+	/**
+	 * Private constructor to prevent instantiation
+	 */
+	private ScreenTopologyMonitor()
+	{
+	}
+
+	/**
+	 * Adds the given listener and starts the monitor thread if it is not running
+	 *
+	 * @param listener
+	 *            the listener
+	 */
+	public static synchronized void addScreenTopologyListener(
+		final @NonNull ScreenTopologyListener listener)
+	{
+		LISTENERS.add(listener);
+		if (poller == null)
+		{
+			poller = new Poller();
+			poller.schedule(0);
+		}
+	}
+
+	/**
+	 * Removes the given listener and stops the monitor thread if no listener is left
+	 *
+	 * @param listener
+	 *            the listener
+	 */
+	public static synchronized void removeScreenTopologyListener(
+		final ScreenTopologyListener listener)
+	{
+		LISTENERS.remove(listener);
+		if (LISTENERS.isEmpty() && poller != null)
+		{
+			poller.executor.shutdownNow();
+			poller = null;
+		}
+	}
+
+	/**
+	 * Checks the screen topology as soon as possible instead of waiting for the poll interval.
+	 * Does nothing if the monitor is not running
+	 */
+	public static synchronized void checkNow()
+	{
+		if (poller != null)
+		{
+			poller.schedule(0);
+		}
+	}
+
+	/**
+	 * Sets the poll interval
+	 *
+	 * @param pollIntervalMillis
+	 *            the poll interval in milliseconds
+	 */
+	public static void setPollIntervalMillis(final long pollIntervalMillis)
+	{
+		if (pollIntervalMillis <= 0)
+		{
+			throw new IllegalArgumentException("The poll interval has to be positive");
+		}
+		ScreenTopologyMonitor.pollIntervalMillis = pollIntervalMillis;
+	}
+
+	/**
+	 * Sets the debounce delay
+	 *
+	 * @param debounceMillis
+	 *            the debounce delay in milliseconds
+	 */
+	public static void setDebounceMillis(final long debounceMillis)
+	{
+		if (debounceMillis < 0)
+		{
+			throw new IllegalArgumentException("The debounce delay can not be negative");
+		}
+		ScreenTopologyMonitor.debounceMillis = debounceMillis;
+	}
+
+	/**
+	 * The class {@link Poller} holds the state of one run of the monitor thread. The state is
+	 * only accessed from the monitor thread, a poller that was stopped and replaced by a new one
+	 * can not publish its changes
+	 */
+	private static final class Poller
+	{
+
+		/**
+		 * The executor of the monitor thread
+		 */
+		final ScheduledExecutorService executor;
+
+		/**
+		 * The next scheduled check, guarded by the lock of {@link ScreenTopologyMonitor}
+		 */
+		private ScheduledFuture<?> scheduledCheck;
+
+		/**
+		 * The screen topology that was published with the last event
+		 */
+		private ScreenTopology publishedTopology;
+
+		/**
+		 * The screen topology that was seen with the last check
+		 */
+		private ScreenTopology lastSeenTopology;
+
+		/**
+		 * Instantiates a new {@link Poller} object with a new monitor thread
+		 */
+		Poller()
+		{
+			executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+				final Thread thread = new Thread(runnable, "screen-topology-monitor");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+
+		private void schedule(final long delayMillis)
+		{
+			synchronized (ScreenTopologyMonitor.class)
+			{
+				if (poller != this)
+				{
+					return;
+				}
+				if (scheduledCheck != null)
+				{
+					scheduledCheck.cancel(false);
+				}
+				scheduledCheck = executor.schedule(this::check, delayMillis,
+					TimeUnit.MILLISECONDS);
+			}
+		}
+
+		private void check()
+		{
+			long nextDelay = pollIntervalMillis;
+			try
+			{
+				if (publishedTopology == null)
+				{
+					publishedTopology = ScreenTopology.getCurrent();
+					lastSeenTopology = publishedTopology;
+				}
+				if (!lastSeenTopology.hasSameDevicesAndLayout(
+					ScreenTopology.graphicsEnvironmentSupplier.get().getScreenDevices()))
+				{
+					// wait until the changes are settled
+					lastSeenTopology = ScreenTopology.newScreenTopology();
+					nextDelay = debounceMillis;
+				}
+				else if (lastSeenTopology != publishedTopology
+					&& !lastSeenTopology.hasSameLayout(publishedTopology))
+				{
+					publish(lastSeenTopology);
+				}
+			}
+			catch (final RuntimeException exception)
+			{
+				// for instance a HeadlessException, keep on polling
+			}
+			schedule(nextDelay);
+		}
+
+		private void publish(final ScreenTopology screenTopology)
+		{
+			final ScreenTopologyEvent event = new ScreenTopologyEvent(publishedTopology,
+				screenTopology);
+			synchronized (ScreenTopologyMonitor.class)
+			{
+				if (poller != this)
+				{
+					return;
+				}
+				ScreenTopology.install(screenTopology);
+			}
+			publishedTopology = screenTopology;
+			EventQueue.invokeLater(() -> {
+				for (final ScreenTopologyListener listener : LISTENERS)
+				{
+					try
+					{
+						listener.screenTopologyChanged(event);
+					}
+					catch (final RuntimeException exception)
+					{
+						// report the failure without preventing the delivery to the other listeners
+						final Thread thread = Thread.currentThread();
+						thread.getUncaughtExceptionHandler().uncaughtException(thread, exception);
+					}
+				}
+			});
+		}
+	}
+
+}
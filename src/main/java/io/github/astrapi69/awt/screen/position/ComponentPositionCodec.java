@@ -0,0 +1,162 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.screen.position;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import lombok.NonNull;
+
+/**
+ * The class {@link ComponentPositionCodec} encodes a {@link ComponentPositionModel} into one
+ * compact byte array with a version tag, so a position can be read and written with one storage
+ * operation instead of one operation for every value.<br>
+ * <br>
+ * The version 1 format is the version byte followed by the width, the height, the X position,
+ * the Y position, the screen id and the extended state as big endian int values. The version 2
+ * format appends the X and Y position relative to the screen as int values and the length of the
+ * UTF-8 encoded screen identity as short value followed by the screen identity, a length of -1
+ * stands for an unknown screen identity. Positions are always encoded with the current version,
+ * positions of all known versions can be decoded
+ */
+public final class ComponentPositionCodec
+{
+
+	/**
+	 * The constant for the version 1 of the format
+	 */
+	public static final byte VERSION_1 = 1;
+
+	/**
+	 * The constant for the length of an encoded position in the version 1 of the format
+	 */
+	public static final int VERSION_1_LENGTH = 1 + 6 * Integer.BYTES;
+
+	/**
+	 * The constant for the version 2 of the format
+	 */
+	public static final byte VERSION_2 = 2;
+
+	/**
+	 * The constant for the minimal length of an encoded position in the version 2 of the format
+	 */
+	public static final int VERSION_2_MIN_LENGTH = VERSION_1_LENGTH + 2 * Integer.BYTES
+		+ Short.BYTES;
+
+	/**
+	 * Private constructor to prevent instantiation
+	 */
+	private ComponentPositionCodec()
+	{
+	}
+
+	/**
+	 * Encodes the given position with the current version of the format
+	 *
+	 * @param model
+	 *            the position
+	 * @return the encoded position
+	 * @throws IllegalArgumentException
+	 *             if the UTF-8 encoded screen identity is longer than 32767 bytes
+	 */
+	public static byte[] encode(final @NonNull ComponentPositionModel model)
+	{
+		byte[] identity = null;
+		int length = VERSION_2_MIN_LENGTH;
+		if (model.getScreenIdentity() != null)
+		{
+			identity = model.getScreenIdentity().getBytes(StandardCharsets.UTF_8);
+			if (identity.length > Short.MAX_VALUE)
+			{
+				throw new IllegalArgumentException(
+					"The screen identity is too long: " + model.getScreenIdentity());
+			}
+			length += identity.length;
+		}
+		final ByteBuffer buffer = ByteBuffer.allocate(length).put(VERSION_2)
+			.putInt(model.getWidth()).putInt(model.getHeight()).putInt(model.getXPosition())
+			.putInt(model.getYPosition()).putInt(model.getScreenID())
+			.putInt(model.getExtendedState()).putInt(model.getRelativeXPosition())
+			.putInt(model.getRelativeYPosition());
+		if (identity != null)
+		{
+			buffer.putShort((short)identity.length).put(identity);
+		}
+		else
+		{
+			buffer.putShort((short)-1);
+		}
+		return buffer.array();
+	}
+
+	/**
+	 * Decodes the given encoded position
+	 *
+	 * @param encoded
+	 *            the encoded position, can be null
+	 * @return the position or null if the given byte array is null, has an unknown version or
+	 *         an invalid length
+	 */
+	public static ComponentPositionModel decode(final byte[] encoded)
+	{
+		if (encoded == null || encoded.length == 0)
+		{
+			return null;
+		}
+		if (encoded[0] == VERSION_1 && encoded.length == VERSION_1_LENGTH)
+		{
+			final ByteBuffer buffer = ByteBuffer.wrap(encoded, 1, encoded.length - 1);
+			return ComponentPositionModel.builder().width(buffer.getInt())
+				.height(buffer.getInt()).xPosition(buffer.getInt()).yPosition(buffer.getInt())
+				.screenID(buffer.getInt()).extendedState(buffer.getInt()).build();
+		}
+		if (encoded[0] != VERSION_2 || encoded.length < VERSION_2_MIN_LENGTH)
+		{
+			return null;
+		}
+		final ByteBuffer buffer = ByteBuffer.wrap(encoded, 1, encoded.length - 1);
+		final ComponentPositionModel model = ComponentPositionModel.builder()
+			.width(buffer.getInt()).height(buffer.getInt()).xPosition(buffer.getInt())
+			.yPosition(buffer.getInt()).screenID(buffer.getInt()).extendedState(buffer.getInt())
+			.relativeXPosition(buffer.getInt()).relativeYPosition(buffer.getInt()).build();
+		final int identityLength = buffer.getShort();
+		if (identityLength < 0)
+		{
+			if (buffer.hasRemaining())
+			{
+				return null;
+			}
+			return model;
+		}
+		if (identityLength != buffer.remaining())
+		{
+			return null;
+		}
+		model.setScreenIdentity(new String(encoded, buffer.position(), identityLength,
+			StandardCharsets.UTF_8));
+		return model;
+	}
+
+}
@@ -24,8 +24,11 @@
  */
 package io.github.astrapi69.awt.screen.position;
 
+import java.awt.Frame;
+
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
+import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.FieldDefaults;
@@ -42,6 +45,12 @@ import lombok.experimental.SuperBuilder;
 public class ComponentPositionModel
 {
 
+	/**
+	 * The constant for an unknown extended state, for instance of a position that was migrated
+	 * from the legacy layout
+	 */
+	public static final int UNKNOWN_EXTENDED_STATE = -1;
+
 	/**
 	 * The width
 	 */
@@ -61,4 +70,51 @@ public class ComponentPositionModel
 	 * The Y position
 	 */
 	int yPosition;
+
+	/**
+	 * The index of the screen or -1 if the screen is unknown
+	 */
+	@Builder.Default
+	int screenID = -1;
+
+	/**
+	 * The extended state of a frame, for instance {@link Frame#MAXIMIZED_BOTH}, or
+	 * {@link #UNKNOWN_EXTENDED_STATE} if the extended state is unknown
+	 */
+	@Builder.Default
+	int extendedState = UNKNOWN_EXTENDED_STATE;
+
+	/**
+	 * The identity of the screen or null if the screen is unknown
+	 */
+	String screenIdentity;
+
+	/**
+	 * The X position relative to the origin of the screen
+	 */
+	int relativeXPosition;
+
+	/**
+	 * The Y position relative to the origin of the screen
+	 */
+	int relativeYPosition;
+
+	/**
+	 * Instantiates a new {@link ComponentPositionModel} object with an unknown screen and an
+	 * unknown extended state
+	 *
+	 * @param width
+	 *            the width
+	 * @param height
+	 *            the height
+	 * @param xPosition
+	 *            the X position
+	 * @param yPosition
+	 *            the Y position
+	 */
+	public ComponentPositionModel(final int width, final int height, final int xPosition,
+		final int yPosition)
+	{
+		this(width, height, xPosition, yPosition, -1, UNKNOWN_EXTENDED_STATE, null, 0, 0);
+	}
 }
@@ -52,7 +52,14 @@ public enum ComponentPositionPreference
 	/**
 	 * The enum for the Y position window position key for the preference
 	 */
-	Y_POSITION(".yposition");
+	Y_POSITION(".yposition"),
+
+	/**
+	 * The enum for the key of the packed position that holds all values in one entry
+	 *
+	 * @see ComponentPositionCodec
+	 */
+	POSITION(".position");
 
 	/**
 	 * The constant for the default width
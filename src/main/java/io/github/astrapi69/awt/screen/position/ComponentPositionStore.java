@@ -25,10 +25,24 @@
 package io.github.astrapi69.awt.screen.position;
 
 import java.awt.Component;
-import java.awt.Point;
-import java.util.prefs.Preferences;
+import java.awt.Frame;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsEnvironment;
+import java.awt.Rectangle;
+import java.awt.Window;
+import java.awt.event.ActionEvent;
+import java.awt.event.ActionListener;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
+import java.awt.event.WindowListener;
+import java.util.concurrent.TimeUnit;
+
+import javax.swing.Timer;
 
 import io.github.astrapi69.awt.screen.ScreenSizeExtensions;
+import io.github.astrapi69.awt.screen.ScreenTopology;
 import lombok.NonNull;
 
 /**
@@ -37,6 +51,12 @@ import lombok.NonNull;
 public class ComponentPositionStore
 {
 
+	/**
+	 * The constant for the default delay in milliseconds after the last move or resize event
+	 * before a tracked position is stored
+	 */
+	public static final int DEFAULT_TRACKING_DELAY_MILLIS = 500;
+
 	/**
 	 * The reference to the component
 	 */
@@ -47,33 +67,39 @@ public class ComponentPositionStore
 	Class<?> clazz;
 
 	/**
-	 * The key for the width
+	 * The key of the position in the storage
 	 */
-	String widthKey;
+	String positionKey;
 
 	/**
-	 * The key for the height
+	 * The storage of the position
 	 */
-	String heightKey;
+	PositionStorage positionStorage;
 
 	/**
-	 * The key for the X position
+	 * The default width
+	 */
+	int defaultWidth;
+	/**
+	 * The default height
 	 */
-	String xPositionKey;
+	int defaultHeight;
 
 	/**
-	 * The key for the Y position
+	 * The write behind that buffers the positions or null if the positions are written directly
 	 */
-	String yPositionKey;
+	ComponentPositionWriteBehind writeBehind;
 
 	/**
-	 * The default width
+	 * The tracker of the component position or null if the position is not tracked
 	 */
-	int defaultWidth;
+	PositionTracker positionTracker;
+
 	/**
-	 * The default height
+	 * The last known bounds of the frame in a not maximized state or null if they are unknown,
+	 * they are stored instead of the bounds of a maximized frame
 	 */
-	int defaultHeight;
+	Rectangle normalBounds;
 
 	/**
 	 * Instantiates a new {@link ComponentPositionStore} object with the given parameters
@@ -103,54 +129,483 @@ public class ComponentPositionStore
 	 */
 	public ComponentPositionStore(@NonNull final Component component, @NonNull final Class<?> clazz,
 		final int defaultWidth, final int defaultHeight)
+	{
+		this(component, clazz, defaultWidth, defaultHeight, PreferencesPositionStorage.of(clazz));
+	}
+
+	/**
+	 * Instantiates a new {@link ComponentPositionStore} object with the given parameters
+	 *
+	 * @param component
+	 *            the component
+	 * @param clazz
+	 *            the clazz
+	 * @param defaultWidth
+	 *            the default width
+	 * @param defaultHeight
+	 *            the default height
+	 * @param positionStorage
+	 *            the storage of the position
+	 */
+	public ComponentPositionStore(@NonNull final Component component, @NonNull final Class<?> clazz,
+		final int defaultWidth, final int defaultHeight,
+		@NonNull final PositionStorage positionStorage)
 	{
 		this.defaultWidth = defaultWidth;
 		this.defaultHeight = defaultHeight;
 		this.component = component;
 		this.clazz = clazz;
-		widthKey = clazz.getSimpleName() + ComponentPositionPreference.WIDTH.getKey();
-		heightKey = clazz.getSimpleName() + ComponentPositionPreference.HEIGHT.getKey();
-		xPositionKey = clazz.getSimpleName() + ComponentPositionPreference.X_POSITION.getKey();
-		yPositionKey = clazz.getSimpleName() + ComponentPositionPreference.Y_POSITION.getKey();
+		this.positionKey = clazz.getSimpleName();
+		this.positionStorage = positionStorage;
 	}
 
 	/**
-	 * Restores the window position from the preferences
+	 * Restores the window position from the storage. A position that is pending in the write
+	 * behind is restored instead of the stored one. If the component is a {@link Window} the
+	 * position is mapped onto the current screens and clamped to the usable area of the best
+	 * matching screen, see {@link #resolveBounds(ComponentPositionModel, ScreenTopology)}. If the
+	 * component is a {@link Frame} the stored extended state is restored too after the normal
+	 * bounds are set, so the frame returns to these bounds when it is no longer maximized. An
+	 * iconified state and an unknown extended state, for instance of a position that was migrated
+	 * from the legacy layout, are not restored
 	 */
 	public void restorePosition()
 	{
-		Preferences preferences = Preferences.userNodeForPackage(clazz);
-		int width = preferences.getInt(widthKey, this.defaultWidth);
-		int height = preferences.getInt(heightKey, this.defaultHeight);
-
-		int xPosition = (ScreenSizeExtensions.getScreenWidth() - width) / 2;
-		int yPosition = (ScreenSizeExtensions.getScreenHeight() - height) / 2;
-
-		xPosition = preferences.getInt(xPositionKey, xPosition);
-		yPosition = preferences.getInt(yPositionKey, yPosition);
-		ComponentPositionModel componentPositionModel = ComponentPositionModel.builder()
-			.width(width).height(height).xPosition(xPosition).yPosition(yPosition).build();
+		ComponentPositionModel componentPositionModel = null;
+		if (writeBehind != null)
+		{
+			componentPositionModel = writeBehind.getPending(this);
+		}
+		if (componentPositionModel == null)
+		{
+			componentPositionModel = readPosition();
+		}
+		if (component instanceof Window && !GraphicsEnvironment.isHeadless())
+		{
+			Rectangle bounds = resolveBounds(componentPositionModel, ScreenTopology.getCurrent());
+			componentPositionModel = componentPositionModel.toBuilder().width(bounds.width)
+				.height(bounds.height).xPosition(bounds.x).yPosition(bounds.y).build();
+		}
+		final int extendedState = componentPositionModel.getExtendedState();
+		final boolean restoreExtendedState = component instanceof Frame
+			&& extendedState != ComponentPositionModel.UNKNOWN_EXTENDED_STATE;
+		if (restoreExtendedState)
+		{
+			// the bounds of a maximized frame are not its normal bounds
+			final Frame frame = (Frame)component;
+			frame.setExtendedState(frame.getExtendedState() & ~Frame.MAXIMIZED_BOTH);
+		}
 		ScreenSizeExtensions.setComponentPosition(component, componentPositionModel);
+		if (component instanceof Frame)
+		{
+			normalBounds = component.getBounds();
+		}
+		if (restoreExtendedState)
+		{
+			((Frame)component).setExtendedState(extendedState & ~Frame.ICONIFIED);
+		}
+		if (positionTracker != null)
+		{
+			positionTracker.lastStoredBounds = component.getBounds();
+		}
 	}
 
 	/**
-	 * Stores the window position to the preferences
+	 * Stores the window position to the storage together with the index of the screen and the
+	 * extended state if the component is a {@link Frame}. The bounds of a maximized frame are not
+	 * stored, the last known normal bounds are stored instead or the default position if they are
+	 * unknown. If the component is a {@link Window}
+	 * the identity of its screen and the position relative to that screen are stored too. If a
+	 * write behind is set the position is submitted to it and written later
 	 */
 	public void storePosition()
 	{
-		Point location = component.getLocation();
-		Preferences preferences = Preferences.userNodeForPackage(clazz);
+		Rectangle bounds = component.getBounds();
+		int extendedState = Frame.NORMAL;
+		if (component instanceof Frame)
+		{
+			extendedState = ((Frame)component).getExtendedState();
+			if ((extendedState & Frame.MAXIMIZED_BOTH) == 0)
+			{
+				normalBounds = bounds;
+			}
+			else if (normalBounds != null)
+			{
+				bounds = new Rectangle(normalBounds);
+			}
+			else
+			{
+				ComponentPositionModel defaultPosition = newDefaultPosition(defaultWidth,
+					defaultHeight, ScreenTopology.getCurrent());
+				bounds = new Rectangle(defaultPosition.getXPosition(),
+					defaultPosition.getYPosition(), defaultPosition.getWidth(),
+					defaultPosition.getHeight());
+			}
+		}
+		ComponentPositionModel componentPositionModel = ComponentPositionModel.builder()
+			.width(bounds.width).height(bounds.height).xPosition(bounds.x).yPosition(bounds.y)
+			.extendedState(extendedState).build();
+		GraphicsConfiguration graphicsConfiguration = component.getGraphicsConfiguration();
+		if (graphicsConfiguration != null)
+		{
+			ScreenTopology topology = ScreenTopology.getCurrent();
+			int screenID = topology.indexOf(graphicsConfiguration);
+			componentPositionModel.setScreenID(screenID);
+			if (screenID != -1 && component instanceof Window)
+			{
+				componentPositionModel.setScreenIdentity(topology.getScreenIdentity(screenID));
+				componentPositionModel.setRelativeXPosition(bounds.x - topology.getX(screenID));
+				componentPositionModel.setRelativeYPosition(bounds.y - topology.getY(screenID));
+			}
+		}
+		if (writeBehind != null)
+		{
+			writeBehind.submit(this, componentPositionModel);
+		}
+		else
+		{
+			writePosition(componentPositionModel);
+		}
+	}
+
+	/**
+	 * Starts to track the position of the component with the default delay
+	 *
+	 * @see #startTracking(int)
+	 */
+	public void startTracking()
+	{
+		startTracking(DEFAULT_TRACKING_DELAY_MILLIS);
+	}
+
+	/**
+	 * Starts to track the position of the component. The move and resize events of the
+	 * component are coalesced, the position is stored once the given delay has elapsed after
+	 * the last event and only if it has changed since it was stored or restored. If the
+	 * component is a window the position is also stored when the window is closing. An event
+	 * costs only the update of a time stamp, the timer is not restarted for every event
+	 *
+	 * @param delayMillis
+	 *            the delay in milliseconds after the last event
+	 */
+	public void startTracking(final int delayMillis)
+	{
+		stopTracking();
+		positionTracker = new PositionTracker(delayMillis);
+		component.addComponentListener(positionTracker);
+		if (component instanceof Window)
+		{
+			((Window)component).addWindowListener(positionTracker.windowListener);
+		}
+	}
+
+	/**
+	 * Stops to track the position of the component and stores a changed position that was not
+	 * yet stored
+	 */
+	public void stopTracking()
+	{
+		if (positionTracker == null)
+		{
+			return;
+		}
+		component.removeComponentListener(positionTracker);
+		if (component instanceof Window)
+		{
+			((Window)component).removeWindowListener(positionTracker.windowListener);
+		}
+		positionTracker.timer.stop();
+		positionTracker.storeIfChanged();
+		positionTracker = null;
+	}
+
+	/**
+	 * Checks if the position of the component is tracked
+	 *
+	 * @return true if the position of the component is tracked otherwise false
+	 */
+	public boolean isTracking()
+	{
+		return positionTracker != null;
+	}
+
+	/**
+	 * Writes the position of this store that is pending in the write behind
+	 */
+	public void flush()
+	{
+		if (writeBehind != null)
+		{
+			writeBehind.flush(this);
+		}
+	}
+
+	/**
+	 * Gets the write behind that buffers the positions of this store
+	 *
+	 * @return the write behind or null if the positions are written directly
+	 */
+	public ComponentPositionWriteBehind getWriteBehind()
+	{
+		return writeBehind;
+	}
+
+	/**
+	 * Sets the write behind that buffers the positions of this store. A position that is pending
+	 * in the previous write behind is written before
+	 *
+	 * @param writeBehind
+	 *            the write behind or null for write the positions directly
+	 */
+	public void setWriteBehind(final ComponentPositionWriteBehind writeBehind)
+	{
+		flush();
+		this.writeBehind = writeBehind;
+	}
+
+	/**
+	 * Gets the storage of the position
+	 *
+	 * @return the storage of the position
+	 */
+	public PositionStorage getPositionStorage()
+	{
+		return positionStorage;
+	}
+
+	/**
+	 * Sets the storage of the position. A position that is pending in the write behind is
+	 * written to the previous storage before
+	 *
+	 * @param positionStorage
+	 *            the storage of the position
+	 */
+	public void setPositionStorage(@NonNull final PositionStorage positionStorage)
+	{
+		flush();
+		this.positionStorage = positionStorage;
+	}
+
+	/**
+	 * Reads the stored position or the default position that is centered in the usable area of
+	 * the default screen
+	 *
+	 * @return the position
+	 */
+	ComponentPositionModel readPosition()
+	{
+		ComponentPositionModel componentPositionModel = positionStorage.load(positionKey);
+		if (componentPositionModel != null)
+		{
+			return componentPositionModel;
+		}
+		return newDefaultPosition(defaultWidth, defaultHeight, ScreenTopology.getCurrent());
+	}
+
+	/**
+	 * Factory method for create the default position with the given size that is centered in the
+	 * usable area of the default screen of the given {@link ScreenTopology} object
+	 *
+	 * @param width
+	 *            the width
+	 * @param height
+	 *            the height
+	 * @param topology
+	 *            the screen topology
+	 * @return the default position
+	 */
+	static ComponentPositionModel newDefaultPosition(final int width, final int height,
+		final @NonNull ScreenTopology topology)
+	{
+		int xPosition = 0;
+		int yPosition = 0;
+		int screenIndex = topology.getDefaultScreenIndex();
+		if (screenIndex != -1)
+		{
+			Rectangle usableBounds = topology.getUsableBounds(screenIndex);
+			xPosition = usableBounds.x + (usableBounds.width - width) / 2;
+			yPosition = usableBounds.y + (usableBounds.height - height) / 2;
+		}
+		return ComponentPositionModel.builder().width(width).height(height).xPosition(xPosition)
+			.yPosition(yPosition).build();
+	}
+
+	/**
+	 * Maps the given position onto the screens of the given {@link ScreenTopology} object in one
+	 * pass. The screen is resolved from the stored screen identity, if no screen with this
+	 * identity exists the screen with the largest intersection with the stored bounds is taken,
+	 * then the screen nearest to the center of the stored bounds and at last the default screen.
+	 * If the screen was found by its identity the position relative to the screen is applied.
+	 * The resulting bounds are clamped to the usable area of the resolved screen, so the window
+	 * is completely visible
+	 *
+	 * @param componentPositionModel
+	 *            the stored position
+	 * @param topology
+	 *            the current screen topology
+	 * @return the bounds on the current screens
+	 */
+	static Rectangle resolveBounds(final @NonNull ComponentPositionModel componentPositionModel,
+		final @NonNull ScreenTopology topology)
+	{
+		int width = componentPositionModel.getWidth();
+		int height = componentPositionModel.getHeight();
+		int x = componentPositionModel.getXPosition();
+		int y = componentPositionModel.getYPosition();
+		int screenIndex = -1;
+		String screenIdentity = componentPositionModel.getScreenIdentity();
+		if (screenIdentity != null)
+		{
+			for (int i = 0; i < topology.getScreenCount(); i++)
+			{
+				if (screenIdentity.equals(topology.getScreenIdentity(i)))
+				{
+					screenIndex = i;
+					x = topology.getX(i) + componentPositionModel.getRelativeXPosition();
+					y = topology.getY(i) + componentPositionModel.getRelativeYPosition();
+					break;
+				}
+			}
+		}
+		if (screenIndex == -1)
+		{
+			screenIndex = topology.getScreenIndexWithMaxOverlap(x, y, width, height);
+		}
+		if (screenIndex == -1)
+		{
+			screenIndex = topology.getNearestScreenIndex(x + width / 2, y + height / 2);
+		}
+		if (screenIndex == -1)
+		{
+			screenIndex = topology.getDefaultScreenIndex();
+		}
+		if (screenIndex == -1)
+		{
+			return new Rectangle(x, y, width, height);
+		}
+		Rectangle usableBounds = topology.getUsableBounds(screenIndex);
+		width = Math.min(width, usableBounds.width);
+		height = Math.min(height, usableBounds.height);
+		x = Math.max(usableBounds.x, Math.min(x, usableBounds.x + usableBounds.width - width));
+		y = Math.max(usableBounds.y, Math.min(y, usableBounds.y + usableBounds.height - height));
+		return new Rectangle(x, y, width, height);
+	}
+
+	/**
+	 * Writes the given position to the storage
+	 *
+	 * @param componentPositionModel
+	 *            the position
+	 */
+	void writePosition(final ComponentPositionModel componentPositionModel)
+	{
+		positionStorage.store(positionKey, componentPositionModel);
+	}
+
+	/**
+	 * The class {@link PositionTracker} coalesces the move and resize events of the component
+	 * and stores the position after the events have settled
+	 */
+	final class PositionTracker extends ComponentAdapter implements ActionListener
+	{
+
+		/**
+		 * The delay in nanoseconds after the last event
+		 */
+		final long delayNanos;
+
+		/**
+		 * The timer that fires after the delay
+		 */
+		final Timer timer;
+
+		/**
+		 * The listener that stores the position when the window is closing
+		 */
+		final WindowListener windowListener = new WindowAdapter()
+		{
+			@Override
+			public void windowClosing(final WindowEvent event)
+			{
+				timer.stop();
+				storeIfChanged();
+			}
+		};
+
+		/**
+		 * The time in nanoseconds of the last event
+		 */
+		long lastEventNanos;
+
+		/**
+		 * The bounds that were stored or restored at last
+		 */
+		Rectangle lastStoredBounds;
+
+		/**
+		 * The number of the stored positions
+		 */
+		int storeCount;
+
+		PositionTracker(final int delayMillis)
+		{
+			this.delayNanos = TimeUnit.MILLISECONDS.toNanos(delayMillis);
+			this.timer = new Timer(delayMillis, this);
+			this.timer.setRepeats(false);
+			this.lastStoredBounds = component.getBounds();
+		}
+
+		@Override
+		public void componentMoved(final ComponentEvent event)
+		{
+			onEvent();
+		}
+
+		@Override
+		public void componentResized(final ComponentEvent event)
+		{
+			onEvent();
+		}
 
-		int width = component.getWidth();
-		int height = component.getHeight();
+		@Override
+		public void actionPerformed(final ActionEvent event)
+		{
+			final long remainingNanos = lastEventNanos + delayNanos - System.nanoTime();
+			if (remainingNanos > 0)
+			{
+				timer.setInitialDelay(
+					(int)Math.max(1, TimeUnit.NANOSECONDS.toMillis(remainingNanos)));
+				timer.start();
+				return;
+			}
+			storeIfChanged();
+		}
 
-		int xPosition = (int)location.getX();
-		int yPosition = (int)location.getY();
+		void onEvent()
+		{
+			if (component instanceof Frame
+				&& (((Frame)component).getExtendedState() & Frame.MAXIMIZED_BOTH) == 0)
+			{
+				normalBounds = component.getBounds();
+			}
+			lastEventNanos = System.nanoTime();
+			if (!timer.isRunning())
+			{
+				timer.setInitialDelay((int)TimeUnit.NANOSECONDS.toMillis(delayNanos));
+				timer.start();
+			}
+		}
 
-		preferences.putInt(widthKey, width);
-		preferences.putInt(heightKey, height);
-		preferences.putInt(xPositionKey, xPosition);
-		preferences.putInt(yPositionKey, yPosition);
+		void storeIfChanged()
+		{
+			final Rectangle bounds = component.getBounds();
+			if (!bounds.equals(lastStoredBounds))
+			{
+				storePosition();
+				lastStoredBounds = bounds;
+				storeCount++;
+			}
+		}
 	}
 
 }
@@ -0,0 +1,553 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.screen.position;
+
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * The class {@link ComponentPositionWriteBehind} buffers the positions of
+ * {@link ComponentPositionStore} objects in memory and writes them behind on a daemon thread. An
+ * update of a store restarts the debounce delay of this store, so a burst of updates, for
+ * instance from move and resize events, results in one write. All positions that are due are
+ * written in one batch with {@link PositionStorage#storeAll(Map)} for every storage. The batches
+ * are written one after another in the order they are taken, so an older batch never overwrites
+ * a newer one.<br>
+ * <br>
+ * If a storage fails, its positions are pending again unless a newer position was submitted
+ * meanwhile and are retried after the debounce delay up to the maximum number of retries, after
+ * that they are discarded. The failures of the writer thread are passed to the failure handler,
+ * the failures of {@link #flush()}, {@link #flush(ComponentPositionStore)} and
+ * {@link #shutdown()} are thrown to the caller. Call {@link #shutdown()} or {@link #flush()} on
+ * shutdown to write the pending positions
+ */
+public final class ComponentPositionWriteBehind
+{
+
+	/**
+	 * The constant for the default debounce delay in milliseconds
+	 */
+	public static final long DEFAULT_DEBOUNCE_MILLIS = 1000;
+
+	/**
+	 * The constant for the default maximum number of retries of a failed position
+	 */
+	public static final int DEFAULT_MAX_RETRIES = 3;
+
+	/**
+	 * The constant for the time in milliseconds that {@link #shutdown()} waits for a running
+	 * batch
+	 */
+	private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
+	/**
+	 * The shared instance with the default debounce delay
+	 */
+	private static volatile ComponentPositionWriteBehind defaultInstance;
+
+	/**
+	 * The debounce delay in milliseconds
+	 */
+	@Getter
+	private final long debounceMillis;
+
+	/**
+	 * The maximum number of retries of a failed position
+	 */
+	@Getter
+	private final int maxRetries;
+
+	/**
+	 * The pending positions mapped to their store in the order of the first update
+	 */
+	private final Map<ComponentPositionStore, PendingPosition> pending = new LinkedHashMap<>();
+
+	/**
+	 * The executor of the writer thread
+	 */
+	private final ScheduledExecutorService executor;
+
+	/**
+	 * The lock that is held while a batch is taken and written, so the batches are written in the
+	 * order they are taken
+	 */
+	private final Object writeLock = new Object();
+
+	/**
+	 * The number of the submitted positions
+	 */
+	private final AtomicLong submittedCount = new AtomicLong();
+
+	/**
+	 * The number of the written positions
+	 */
+	private final AtomicLong writtenCount = new AtomicLong();
+
+	/**
+	 * The number of the positions that were discarded after the last retry
+	 */
+	private final AtomicLong discardedCount = new AtomicLong();
+
+	/**
+	 * The handler of the failures of the writer thread or null if they are ignored
+	 */
+	private volatile Consumer<? super RuntimeException> failureHandler;
+
+	/**
+	 * The next scheduled batch
+	 */
+	private ScheduledFuture<?> scheduledBatch;
+
+	/**
+	 * Instantiates a new {@link ComponentPositionWriteBehind} with the default debounce delay
+	 */
+	public ComponentPositionWriteBehind()
+	{
+		this(DEFAULT_DEBOUNCE_MILLIS);
+	}
+
+	/**
+	 * Instantiates a new {@link ComponentPositionWriteBehind} with the default maximum number of
+	 * retries
+	 *
+	 * @param debounceMillis
+	 *            the debounce delay in milliseconds
+	 */
+	public ComponentPositionWriteBehind(final long debounceMillis)
+	{
+		this(debounceMillis, DEFAULT_MAX_RETRIES);
+	}
+
+	/**
+	 * Instantiates a new {@link ComponentPositionWriteBehind}
+	 *
+	 * @param debounceMillis
+	 *            the debounce delay in milliseconds
+	 * @param maxRetries
+	 *            the maximum number of retries of a failed position
+	 */
+	public ComponentPositionWriteBehind(final long debounceMillis, final int maxRetries)
+	{
+		if (debounceMillis < 0 || maxRetries < 0)
+		{
+			throw new IllegalArgumentException(
+				"debounceMillis and maxRetries must not be negative");
+		}
+		this.debounceMillis = debounceMillis;
+		this.maxRetries = maxRetries;
+		this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			final Thread thread = new Thread(runnable, "component-position-write-behind");
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+
+	/**
+	 * Gets the shared {@link ComponentPositionWriteBehind} with the default debounce delay
+	 *
+	 * @return the shared {@link ComponentPositionWriteBehind}
+	 */
+	public static ComponentPositionWriteBehind getDefault()
+	{
+		ComponentPositionWriteBehind instance = defaultInstance;
+		if (instance == null)
+		{
+			synchronized (ComponentPositionWriteBehind.class)
+			{
+				instance = defaultInstance;
+				if (instance == null)
+				{
+					instance = new ComponentPositionWriteBehind();
+					defaultInstance = instance;
+				}
+			}
+		}
+		return instance;
+	}
+
+	/**
+	 * Sets the handler of the failures of the writer thread
+	 *
+	 * @param failureHandler
+	 *            the handler or null if the failures are ignored
+	 */
+	public void setFailureHandler(final Consumer<? super RuntimeException> failureHandler)
+	{
+		this.failureHandler = failureHandler;
+	}
+
+	/**
+	 * Submits the given position of the given store. A pending position of the store is
+	 * replaced and the debounce delay of the store is restarted
+	 *
+	 * @param store
+	 *            the store
+	 * @param model
+	 *            the position
+	 */
+	public synchronized void submit(final @NonNull ComponentPositionStore store,
+		final @NonNull ComponentPositionModel model)
+	{
+		submittedCount.incrementAndGet();
+		final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(debounceMillis);
+		final PendingPosition pendingPosition = pending.get(store);
+		if (pendingPosition == null)
+		{
+			pending.put(store, new PendingPosition(model, deadline, 0));
+		}
+		else
+		{
+			pendingPosition.model = model;
+			pendingPosition.deadline = deadline;
+			pendingPosition.failures = 0;
+		}
+		if (scheduledBatch == null && !executor.isShutdown())
+		{
+			scheduledBatch = executor.schedule(this::writeDuePositions, debounceMillis,
+				TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Gets the pending position of the given store
+	 *
+	 * @param store
+	 *            the store
+	 * @return the pending position or null if no position is pending
+	 */
+	public synchronized ComponentPositionModel getPending(final ComponentPositionStore store)
+	{
+		final PendingPosition pendingPosition = pending.get(store);
+		if (pendingPosition == null)
+		{
+			return null;
+		}
+		return pendingPosition.model;
+	}
+
+	/**
+	 * Gets the number of the pending positions
+	 *
+	 * @return the number of the pending positions
+	 */
+	public synchronized int getPendingCount()
+	{
+		return pending.size();
+	}
+
+	/**
+	 * Writes all pending positions on the current thread
+	 *
+	 * @throws RuntimeException
+	 *             the failure of a storage, the positions of the failed storage are pending again
+	 *             until their maximum number of retries is reached
+	 */
+	public void flush()
+	{
+		synchronized (writeLock)
+		{
+			final Map<ComponentPositionStore, PendingPosition> batch;
+			synchronized (this)
+			{
+				batch = takeDue(Long.MAX_VALUE);
+			}
+			throwFailure(write(batch));
+		}
+	}
+
+	/**
+	 * Writes the pending position of the given store on the current thread
+	 *
+	 * @param store
+	 *            the store
+	 * @throws RuntimeException
+	 *             the failure of the storage, the position is pending again until its maximum
+	 *             number of retries is reached
+	 */
+	public void flush(final @NonNull ComponentPositionStore store)
+	{
+		synchronized (writeLock)
+		{
+			final Map<ComponentPositionStore, PendingPosition> batch = new IdentityHashMap<>();
+			synchronized (this)
+			{
+				final PendingPosition pendingPosition = pending.remove(store);
+				if (pendingPosition == null)
+				{
+					return;
+				}
+				batch.put(store, pendingPosition);
+			}
+			throwFailure(write(batch));
+		}
+	}
+
+	/**
+	 * Stops the writer thread, waits until a running batch is written and writes the pending
+	 * positions
+	 *
+	 * @throws RuntimeException
+	 *             the failure of a storage, the positions of the failed storage stay pending
+	 */
+	public void shutdown()
+	{
+		synchronized (this)
+		{
+			if (scheduledBatch != null)
+			{
+				scheduledBatch.cancel(false);
+				scheduledBatch = null;
+			}
+			executor.shutdown();
+		}
+		try
+		{
+			executor.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+		}
+		catch (final InterruptedException exception)
+		{
+			Thread.currentThread().interrupt();
+		}
+		flush();
+	}
+
+	/**
+	 * Gets the number of the submitted positions
+	 *
+	 * @return the number of the submitted positions
+	 */
+	public long getSubmittedCount()
+	{
+		return submittedCount.get();
+	}
+
+	/**
+	 * Gets the number of the written positions
+	 *
+	 * @return the number of the written positions
+	 */
+	public long getWrittenCount()
+	{
+		return writtenCount.get();
+	}
+
+	/**
+	 * Gets the number of the positions that were discarded because their storage has failed
+	 * after the maximum number of retries
+	 *
+	 * @return the number of the discarded positions
+	 */
+	public long getDiscardedCount()
+	{
+		return discardedCount.get();
+	}
+
+	/**
+	 * Gets the number of the writes that were saved because the submitted positions were
+	 * replaced by a later position before they were written
+	 *
+	 * @return the number of the saved writes
+	 */
+	public synchronized long getSavedWriteCount()
+	{
+		return submittedCount.get() - writtenCount.get() - discardedCount.get()
+			- pending.size();
+	}
+
+	private void writeDuePositions()
+	{
+		synchronized (writeLock)
+		{
+			final Map<ComponentPositionStore, PendingPosition> batch;
+			synchronized (this)
+			{
+				scheduledBatch = null;
+				batch = takeDue(System.nanoTime());
+				scheduleNextBatch();
+			}
+			final RuntimeException failure = write(batch);
+			final Consumer<? super RuntimeException> handler = failureHandler;
+			if (failure != null && handler != null)
+			{
+				handler.accept(failure);
+			}
+		}
+	}
+
+	private void scheduleNextBatch()
+	{
+		if (scheduledBatch != null || executor.isShutdown())
+		{
+			return;
+		}
+		long nextDeadline = Long.MAX_VALUE;
+		for (final PendingPosition pendingPosition : pending.values())
+		{
+			nextDeadline = Math.min(nextDeadline, pendingPosition.deadline);
+		}
+		if (nextDeadline != Long.MAX_VALUE)
+		{
+			scheduledBatch = executor.schedule(this::writeDuePositions,
+				Math.max(0, nextDeadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private Map<ComponentPositionStore, PendingPosition> takeDue(final long now)
+	{
+		final Map<ComponentPositionStore, PendingPosition> batch = new IdentityHashMap<>();
+		final Iterator<Map.Entry<ComponentPositionStore, PendingPosition>> iterator = pending
+			.entrySet().iterator();
+		while (iterator.hasNext())
+		{
+			final Map.Entry<ComponentPositionStore, PendingPosition> entry = iterator.next();
+			if (entry.getValue().deadline - now <= 0 || now == Long.MAX_VALUE)
+			{
+				batch.put(entry.getKey(), entry.getValue());
+				iterator.remove();
+			}
+		}
+		return batch;
+	}
+
+	/**
+	 * Writes the given batch, a failed storage does not stop the writes of the other storages
+	 *
+	 * @param batch
+	 *            the positions to write mapped to their store
+	 * @return the failure of the first failed storage with the other failures suppressed or null
+	 *         if all storages were written
+	 */
+	private RuntimeException write(final Map<ComponentPositionStore, PendingPosition> batch)
+	{
+		if (batch.isEmpty())
+		{
+			return null;
+		}
+		final Map<PositionStorage, Map<ComponentPositionStore, PendingPosition>> storages;
+		storages = new IdentityHashMap<>();
+		for (final Map.Entry<ComponentPositionStore, PendingPosition> entry : batch.entrySet())
+		{
+			storages.computeIfAbsent(entry.getKey().getPositionStorage(),
+				storage -> new LinkedHashMap<>()).put(entry.getKey(), entry.getValue());
+		}
+		RuntimeException failure = null;
+		for (final PositionStorage storage : storages.keySet())
+		{
+			final Map<ComponentPositionStore, PendingPosition> stores = storages.get(storage);
+			final Map<String, ComponentPositionModel> models = new LinkedHashMap<>();
+			stores.forEach((store, position) -> models.put(store.positionKey, position.model));
+			try
+			{
+				storage.storeAll(models);
+				writtenCount.addAndGet(models.size());
+			}
+			catch (final RuntimeException exception)
+			{
+				requeue(stores);
+				if (failure == null)
+				{
+					failure = exception;
+				}
+				else
+				{
+					failure.addSuppressed(exception);
+				}
+			}
+		}
+		return failure;
+	}
+
+	private synchronized void requeue(final Map<ComponentPositionStore, PendingPosition> failed)
+	{
+		final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(debounceMillis);
+		for (final Map.Entry<ComponentPositionStore, PendingPosition> entry : failed.entrySet())
+		{
+			final PendingPosition position = entry.getValue();
+			// a position that was submitted after the failed batch was taken is newer and is kept
+			if (pending.containsKey(entry.getKey()))
+			{
+				continue;
+			}
+			if (position.failures >= maxRetries)
+			{
+				discardedCount.incrementAndGet();
+				continue;
+			}
+			pending.put(entry.getKey(),
+				new PendingPosition(position.model, deadline, position.failures + 1));
+		}
+		scheduleNextBatch();
+	}
+
+	private static void throwFailure(final RuntimeException failure)
+	{
+		if (failure != null)
+		{
+			throw failure;
+		}
+	}
+
+	/**
+	 * The class {@link PendingPosition} holds a pending position with its deadline
+	 */
+	private static final class PendingPosition
+	{
+
+		/**
+		 * The position
+		 */
+		ComponentPositionModel model;
+
+		/**
+		 * The time in nanoseconds when the position is written
+		 */
+		long deadline;
+
+		/**
+		 * The number of the failed writes of the position
+		 */
+		int failures;
+
+		PendingPosition(final ComponentPositionModel model, final long deadline,
+			final int failures)
+		{
+			this.model = model;
+			this.deadline = deadline;
+			this.failures = failures;
+		}
+	}
+
+}
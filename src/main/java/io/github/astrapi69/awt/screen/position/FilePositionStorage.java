@@ -0,0 +1,245 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.screen.position;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * The class {@link FilePositionStorage} stores all positions in one compact binary file. The file
+ * is read once on the first access, after that the positions are served from memory. Every
+ * write replaces the whole file atomically with a temporary file in the same directory that is
+ * forced to the disk before, so a crash never leaves a partially written file. If the file system
+ * does not support an atomic move the file is replaced with a plain move that is not atomic, a
+ * crash during this move can then leave the file missing or partially replaced. A write that
+ * fails, for instance because of a position that can not be encoded, leaves the positions in
+ * memory unchanged. A file with an unknown format is ignored and replaced with the next write.<br>
+ * <br>
+ * The format is the magic number, the number of entries and for every entry the length of the
+ * UTF-8 encoded key, the key, the length of the encoded position and the position encoded with
+ * the {@link ComponentPositionCodec}. Positions with an unknown version are skipped
+ */
+public final class FilePositionStorage implements PositionStorage
+{
+
+	/**
+	 * The magic number of the file format
+	 */
+	static final int MAGIC = 0x43505333;
+
+	/**
+	 * The file
+	 */
+	@Getter
+	private final Path file;
+
+	/**
+	 * The positions mapped to their key or null if the file is not yet read
+	 */
+	private Map<String, ComponentPositionModel> positions;
+
+	/**
+	 * Instantiates a new {@link FilePositionStorage}
+	 *
+	 * @param file
+	 *            the file
+	 */
+	public FilePositionStorage(final @NonNull Path file)
+	{
+		this.file = file.toAbsolutePath();
+	}
+
+	@Override
+	public synchronized ComponentPositionModel load(final String key)
+	{
+		final ComponentPositionModel model = getPositions().get(key);
+		if (model == null)
+		{
+			return null;
+		}
+		return model.toBuilder().build();
+	}
+
+	@Override
+	public synchronized void store(final @NonNull String key,
+		final @NonNull ComponentPositionModel model)
+	{
+		storeAll(Map.of(key, model));
+	}
+
+	@Override
+	public synchronized void storeAll(final @NonNull Map<String, ComponentPositionModel> models)
+	{
+		final Map<String, ComponentPositionModel> currentPositions = getPositions();
+		final Map<String, ComponentPositionModel> previous = new HashMap<>(currentPositions);
+		models.forEach((key, model) -> currentPositions.put(key, model.toBuilder().build()));
+		try
+		{
+			write();
+		}
+		catch (final RuntimeException exception)
+		{
+			// roll back, so a rejected position does not fail all later writes
+			positions = previous;
+			throw exception;
+		}
+	}
+
+	private Map<String, ComponentPositionModel> getPositions()
+	{
+		if (positions == null)
+		{
+			positions = read();
+		}
+		return positions;
+	}
+
+	private Map<String, ComponentPositionModel> read()
+	{
+		final Map<String, ComponentPositionModel> readPositions = new HashMap<>();
+		if (!Files.isRegularFile(file))
+		{
+			return readPositions;
+		}
+		try
+		{
+			// the file is small and read into a heap buffer, a mapped file could not be replaced
+			// on windows until the mapping is garbage collected
+			final ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+			if (buffer.remaining() < 8 || buffer.getInt() != MAGIC)
+			{
+				return readPositions;
+			}
+			final int count = buffer.getInt();
+			for (int i = 0; i < count; i++)
+			{
+				final byte[] keyBytes = new byte[buffer.getShort() & 0xFFFF];
+				buffer.get(keyBytes);
+				final byte[] encoded = new byte[buffer.getShort() & 0xFFFF];
+				buffer.get(encoded);
+				final ComponentPositionModel model = ComponentPositionCodec.decode(encoded);
+				if (model != null)
+				{
+					readPositions.put(new String(keyBytes, StandardCharsets.UTF_8), model);
+				}
+			}
+			return readPositions;
+		}
+		catch (final BufferUnderflowException exception)
+		{
+			// a truncated file is ignored and replaced with the next write
+			readPositions.clear();
+			return readPositions;
+		}
+		catch (final IOException exception)
+		{
+			throw new UncheckedIOException("Could not read the positions from " + file, exception);
+		}
+	}
+
+	private void write()
+	{
+		int size = 8;
+		final Map<String, byte[]> keys = new HashMap<>();
+		final Map<String, byte[]> encodedPositions = new HashMap<>();
+		for (final Map.Entry<String, ComponentPositionModel> entry : positions.entrySet())
+		{
+			final byte[] keyBytes = entry.getKey().getBytes(StandardCharsets.UTF_8);
+			if (keyBytes.length > 0xFFFF)
+			{
+				throw new IllegalArgumentException("The key is too long: " + entry.getKey());
+			}
+			final byte[] encoded = ComponentPositionCodec.encode(entry.getValue());
+			keys.put(entry.getKey(), keyBytes);
+			encodedPositions.put(entry.getKey(), encoded);
+			size += 2 + keyBytes.length + 2 + encoded.length;
+		}
+		final ByteBuffer buffer = ByteBuffer.allocate(size);
+		buffer.putInt(MAGIC);
+		buffer.putInt(positions.size());
+		for (final String key : positions.keySet())
+		{
+			final byte[] keyBytes = keys.get(key);
+			final byte[] encoded = encodedPositions.get(key);
+			buffer.putShort((short)keyBytes.length);
+			buffer.put(keyBytes);
+			buffer.putShort((short)encoded.length);
+			buffer.put(encoded);
+		}
+		try
+		{
+			final Path directory = file.getParent();
+			Files.createDirectories(directory);
+			final Path temporaryFile = Files.createTempFile(directory,
+				file.getFileName().toString(), ".tmp");
+			try
+			{
+				buffer.flip();
+				try (FileChannel channel = FileChannel.open(temporaryFile,
+					StandardOpenOption.WRITE))
+				{
+					while (buffer.hasRemaining())
+					{
+						channel.write(buffer);
+					}
+					channel.force(true);
+				}
+				try
+				{
+					Files.move(temporaryFile, file, StandardCopyOption.ATOMIC_MOVE,
+						StandardCopyOption.REPLACE_EXISTING);
+				}
+				catch (final AtomicMoveNotSupportedException exception)
+				{
+					// not atomic, see the class documentation
+					Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING);
+				}
+			}
+			finally
+			{
+				Files.deleteIfExists(temporaryFile);
+			}
+		}
+		catch (final IOException exception)
+		{
+			throw new UncheckedIOException("Could not write the positions to " + file, exception);
+		}
+	}
+
+}
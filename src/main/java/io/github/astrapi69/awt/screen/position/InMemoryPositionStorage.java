@@ -0,0 +1,79 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.screen.position;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.NonNull;
+
+/**
+ * The class {@link InMemoryPositionStorage} holds the positions only in memory, for instance for
+ * unit tests. The positions are copied when they are stored and loaded
+ */
+public final class InMemoryPositionStorage implements PositionStorage
+{
+
+	/**
+	 * The positions mapped to their key
+	 */
+	private final Map<String, ComponentPositionModel> positions = new ConcurrentHashMap<>();
+
+	@Override
+	public ComponentPositionModel load(final String key)
+	{
+		final ComponentPositionModel model = positions.get(key);
+		if (model == null)
+		{
+			return null;
+		}
+		return model.toBuilder().build();
+	}
+
+	@Override
+	public void store(final String key, final @NonNull ComponentPositionModel model)
+	{
+		positions.put(key, model.toBuilder().build());
+	}
+
+	/**
+	 * Gets the number of the stored positions
+	 *
+	 * @return the number of the stored positions
+	 */
+	public int size()
+	{
+		return positions.size();
+	}
+
+	/**
+	 * Removes all stored positions
+	 */
+	public void clear()
+	{
+		positions.clear();
+	}
+
+}
@@ -0,0 +1,77 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.screen.position;
+
+import java.util.Map;
+
+/**
+ * The interface {@link PositionStorage} is the storage backend of the
+ * {@link ComponentPositionStore} that loads and stores the positions of components by a key
+ *
+ * @see PreferencesPositionStorage
+ * @see FilePositionStorage
+ * @see InMemoryPositionStorage
+ */
+public interface PositionStorage
+{
+
+	/**
+	 * Loads the position that is stored with the given key
+	 *
+	 * @param key
+	 *            the key
+	 * @return the position or null if no position is stored with the given key
+	 */
+	ComponentPositionModel load(String key);
+
+	/**
+	 * Stores the given position with the given key
+	 *
+	 * @param key
+	 *            the key
+	 * @param model
+	 *            the position
+	 */
+	void store(String key, ComponentPositionModel model);
+
+	/**
+	 * Stores the given positions mapped to their keys in one batch and flushes this storage
+	 *
+	 * @param models
+	 *            the positions mapped to their keys
+	 */
+	default void storeAll(final Map<String, ComponentPositionModel> models)
+	{
+		models.forEach(this::store);
+		flush();
+	}
+
+	/**
+	 * Forces the stored positions to the backing store
+	 */
+	default void flush()
+	{
+	}
+}
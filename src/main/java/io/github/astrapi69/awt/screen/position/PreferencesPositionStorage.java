@@ -0,0 +1,138 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.screen.position;
+
+import java.util.prefs.BackingStoreException;
+import java.util.prefs.Preferences;
+
+import lombok.Getter;
+import lombok.NonNull;
+
+/**
+ * The class {@link PreferencesPositionStorage} stores the positions in a {@link Preferences} node
+ * with one packed entry for every position, that is encoded with the
+ * {@link ComponentPositionCodec} and stored under the given key with the suffix of
+ * {@link ComponentPositionPreference#POSITION}. Positions that were stored in the legacy layout
+ * with one entry for every value are migrated to the packed entry when they are loaded
+ */
+public final class PreferencesPositionStorage implements PositionStorage
+{
+
+	/**
+	 * The preferences node
+	 */
+	@Getter
+	private final Preferences preferences;
+
+	/**
+	 * Instantiates a new {@link PreferencesPositionStorage}
+	 *
+	 * @param preferences
+	 *            the preferences node
+	 */
+	public PreferencesPositionStorage(final @NonNull Preferences preferences)
+	{
+		this.preferences = preferences;
+	}
+
+	/**
+	 * Factory method for create a new {@link PreferencesPositionStorage} with the user
+	 * preferences node of the package of the given class
+	 *
+	 * @param clazz
+	 *            the class
+	 * @return the new {@link PreferencesPositionStorage}
+	 */
+	public static PreferencesPositionStorage of(final @NonNull Class<?> clazz)
+	{
+		return new PreferencesPositionStorage(Preferences.userNodeForPackage(clazz));
+	}
+
+	@Override
+	public ComponentPositionModel load(final String key)
+	{
+		final ComponentPositionModel model = ComponentPositionCodec.decode(
+			preferences.getByteArray(key + ComponentPositionPreference.POSITION.getKey(), null));
+		if (model != null)
+		{
+			return model;
+		}
+		return migrate(key);
+	}
+
+	@Override
+	public void store(final String key, final @NonNull ComponentPositionModel model)
+	{
+		preferences.putByteArray(key + ComponentPositionPreference.POSITION.getKey(),
+			ComponentPositionCodec.encode(model));
+	}
+
+	/**
+	 * Reads the position from the legacy layout with one entry for every value, stores it as
+	 * packed position and removes the legacy entries
+	 *
+	 * @param key
+	 *            the key
+	 * @return the position or null if no complete position is stored in the legacy layout
+	 */
+	private ComponentPositionModel migrate(final String key)
+	{
+		final String widthKey = key + ComponentPositionPreference.WIDTH.getKey();
+		final String heightKey = key + ComponentPositionPreference.HEIGHT.getKey();
+		final String xPositionKey = key + ComponentPositionPreference.X_POSITION.getKey();
+		final String yPositionKey = key + ComponentPositionPreference.Y_POSITION.getKey();
+		final int width = preferences.getInt(widthKey, Integer.MIN_VALUE);
+		final int height = preferences.getInt(heightKey, Integer.MIN_VALUE);
+		final int xPosition = preferences.getInt(xPositionKey, Integer.MIN_VALUE);
+		final int yPosition = preferences.getInt(yPositionKey, Integer.MIN_VALUE);
+		if (width == Integer.MIN_VALUE || height == Integer.MIN_VALUE
+			|| xPosition == Integer.MIN_VALUE || yPosition == Integer.MIN_VALUE)
+		{
+			return null;
+		}
+		final ComponentPositionModel model = ComponentPositionModel.builder().width(width)
+			.height(height).xPosition(xPosition).yPosition(yPosition).build();
+		store(key, model);
+		preferences.remove(widthKey);
+		preferences.remove(heightKey);
+		preferences.remove(xPositionKey);
+		preferences.remove(yPositionKey);
+		return model;
+	}
+
+	@Override
+	public void flush()
+	{
+		try
+		{
+			preferences.flush();
+		}
+		catch (final BackingStoreException exception)
+		{
+			throw new IllegalStateException("Could not flush the preferences", exception);
+		}
+	}
+
+}
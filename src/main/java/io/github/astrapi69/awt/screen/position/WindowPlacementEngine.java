@@ -0,0 +1,335 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.screen.position;
+
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import io.github.astrapi69.awt.screen.ScreenTopology;
+import lombok.NonNull;
+
+/**
+ * The class {@link WindowPlacementEngine} places windows of different sizes without overlapping
+ * onto the areas of the available screens. For every screen the engine holds a list of maximal
+ * free rectangles (MaxRects), that is updated incrementally when a window is placed or
+ * released.<br>
+ * <br>
+ * A window is placed on the first screen that has enough free space, at the free rectangle where
+ * the shorter leftover side is minimal (best short side fit). Instances of this class are not
+ * thread safe
+ */
+public class WindowPlacementEngine
+{
+
+	/**
+	 * The areas of the screens
+	 */
+	private final Rectangle[] screenAreas;
+
+	/**
+	 * The free rectangles for every screen
+	 */
+	private final List<List<Rectangle>> freeRectangles;
+
+	/**
+	 * The placed windows mapped to their placement
+	 */
+	private final Map<ComponentPositionModel, Placement> placedWindows = new IdentityHashMap<>();
+
+	/**
+	 * Instantiates a new {@link WindowPlacementEngine} object for the given screen areas
+	 *
+	 * @param screenAreas
+	 *            the areas of the screens in the order they will be filled
+	 */
+	public WindowPlacementEngine(final @NonNull Rectangle... screenAreas)
+	{
+		this.screenAreas = new Rectangle[screenAreas.length];
+		this.freeRectangles = new ArrayList<>(screenAreas.length);
+		for (int i = 0; i < screenAreas.length; i++)
+		{
+			this.screenAreas[i] = new Rectangle(screenAreas[i]);
+			final List<Rectangle> free = new ArrayList<>();
+			free.add(new Rectangle(screenAreas[i]));
+			this.freeRectangles.add(free);
+		}
+	}
+
+	/**
+	 * Factory method for create a new {@link WindowPlacementEngine} object for the usable bounds of
+	 * all available screens, that are the screen bounds without the insets of taskbars and docks
+	 *
+	 * @return the new {@link WindowPlacementEngine} object
+	 */
+	public static WindowPlacementEngine ofAvailableScreens()
+	{
+		return of(ScreenTopology.getCurrent());
+	}
+
+	/**
+	 * Factory method for create a new {@link WindowPlacementEngine} object for the usable bounds of
+	 * all screens of the given {@link ScreenTopology} object
+	 *
+	 * @param screenTopology
+	 *            the screen topology
+	 * @return the new {@link WindowPlacementEngine} object
+	 */
+	public static WindowPlacementEngine of(final @NonNull ScreenTopology screenTopology)
+	{
+		final Rectangle[] usableBounds = new Rectangle[screenTopology.getScreenCount()];
+		for (int i = 0; i < usableBounds.length; i++)
+		{
+			usableBounds[i] = screenTopology.getUsableBounds(i);
+		}
+		return new WindowPlacementEngine(usableBounds);
+	}
+
+	/**
+	 * Places a window with the given size
+	 *
+	 * @param width
+	 *            the width of the window
+	 * @param height
+	 *            the height of the window
+	 * @return an {@link Optional} with the position of the placed window or an empty
+	 *         {@link Optional} if there is no free space for the given size
+	 */
+	public Optional<ComponentPositionModel> place(final int width, final int height)
+	{
+		if (width <= 0 || height <= 0)
+		{
+			throw new IllegalArgumentException("The width and height have to be positive");
+		}
+		for (int screenIndex = 0; screenIndex < screenAreas.length; screenIndex++)
+		{
+			final List<Rectangle> free = freeRectangles.get(screenIndex);
+			Rectangle bestFit = null;
+			int bestShortSide = Integer.MAX_VALUE;
+			int bestLongSide = Integer.MAX_VALUE;
+			for (final Rectangle freeRectangle : free)
+			{
+				if (width <= freeRectangle.width && height <= freeRectangle.height)
+				{
+					final int leftoverWidth = freeRectangle.width - width;
+					final int leftoverHeight = freeRectangle.height - height;
+					final int shortSide = Math.min(leftoverWidth, leftoverHeight);
+					final int longSide = Math.max(leftoverWidth, leftoverHeight);
+					if (shortSide < bestShortSide
+						|| shortSide == bestShortSide && longSide < bestLongSide)
+					{
+						bestFit = freeRectangle;
+						bestShortSide = shortSide;
+						bestLongSide = longSide;
+					}
+				}
+			}
+			if (bestFit != null)
+			{
+				final ComponentPositionModel position = ComponentPositionModel.builder()
+					.width(width).height(height).xPosition(bestFit.x).yPosition(bestFit.y)
+					.build();
+				final Rectangle used = new Rectangle(bestFit.x, bestFit.y, width, height);
+				occupy(free, used);
+				placedWindows.put(position, new Placement(screenIndex, used));
+				return Optional.of(position);
+			}
+		}
+		return Optional.empty();
+	}
+
+	/**
+	 * Releases the space of the given placed window, so it can be used for other windows
+	 *
+	 * @param position
+	 *            the position that was returned from {@link #place(int, int)}
+	 * @return true if the given position was placed from this engine otherwise false
+	 */
+	public boolean release(final @NonNull ComponentPositionModel position)
+	{
+		final Placement placement = placedWindows.remove(position);
+		if (placement == null)
+		{
+			return false;
+		}
+		final Rectangle released = placement.bounds;
+		final List<Rectangle> free = freeRectangles.get(placement.screenIndex);
+		for (final Rectangle freeRectangle : free)
+		{
+			if (freeRectangle.contains(released))
+			{
+				return true;
+			}
+		}
+		free.removeIf(released::contains);
+		free.add(new Rectangle(released));
+		return true;
+	}
+
+	/**
+	 * Rebuilds the free rectangles of all screens from the placed windows. Releasing windows adds
+	 * only the released area as free rectangle, so after many releases a rebuild can merge
+	 * adjacent free areas into larger rectangles
+	 */
+	public void rebuild()
+	{
+		for (int screenIndex = 0; screenIndex < screenAreas.length; screenIndex++)
+		{
+			final List<Rectangle> free = freeRectangles.get(screenIndex);
+			free.clear();
+			free.add(new Rectangle(screenAreas[screenIndex]));
+		}
+		for (final Placement placement : placedWindows.values())
+		{
+			occupy(freeRectangles.get(placement.screenIndex), placement.bounds);
+		}
+	}
+
+	/**
+	 * Gets the number of the placed windows
+	 *
+	 * @return the number of the placed windows
+	 */
+	public int getPlacedCount()
+	{
+		return placedWindows.size();
+	}
+
+	/**
+	 * Gets the number of the free rectangles of all screens
+	 *
+	 * @return the number of the free rectangles
+	 */
+	public int getFreeRectangleCount()
+	{
+		int count = 0;
+		for (final List<Rectangle> free : freeRectangles)
+		{
+			count += free.size();
+		}
+		return count;
+	}
+
+	/**
+	 * Removes the given used rectangle from the given free rectangles by splitting every
+	 * intersecting free rectangle into the maximal rectangles around the used one
+	 *
+	 * @param free
+	 *            the free rectangles of a screen
+	 * @param used
+	 *            the used rectangle
+	 */
+	private static void occupy(final List<Rectangle> free, final Rectangle used)
+	{
+		final List<Rectangle> splits = new ArrayList<>();
+		for (int i = free.size() - 1; 0 <= i; i--)
+		{
+			final Rectangle freeRectangle = free.get(i);
+			if (freeRectangle.intersects(used))
+			{
+				split(freeRectangle, used, splits);
+				final int last = free.size() - 1;
+				free.set(i, free.get(last));
+				free.remove(last);
+			}
+		}
+		// the remaining free rectangles does not contain each other, so only the new ones have
+		// to be checked
+		for (int i = 0; i < splits.size(); i++)
+		{
+			final Rectangle split = splits.get(i);
+			boolean contained = false;
+			for (final Rectangle freeRectangle : free)
+			{
+				if (freeRectangle.contains(split))
+				{
+					contained = true;
+					break;
+				}
+			}
+			for (int j = 0; !contained && j < splits.size(); j++)
+			{
+				final Rectangle other = splits.get(j);
+				contained = i != j && other.contains(split) && (!split.contains(other) || j < i);
+			}
+			if (!contained)
+			{
+				free.add(split);
+			}
+		}
+	}
+
+	private static void split(final Rectangle free, final Rectangle used,
+		final List<Rectangle> splits)
+	{
+		final int freeRight = free.x + free.width;
+		final int freeBottom = free.y + free.height;
+		final int usedRight = used.x + used.width;
+		final int usedBottom = used.y + used.height;
+		if (free.y < used.y)
+		{
+			splits.add(new Rectangle(free.x, free.y, free.width, used.y - free.y));
+		}
+		if (usedBottom < freeBottom)
+		{
+			splits.add(new Rectangle(free.x, usedBottom, free.width, freeBottom - usedBottom));
+		}
+		if (free.x < used.x)
+		{
+			splits.add(new Rectangle(free.x, free.y, used.x - free.x, free.height));
+		}
+		if (usedRight < freeRight)
+		{
+			splits.add(new Rectangle(usedRight, free.y, freeRight - usedRight, free.height));
+		}
+	}
+
+	/**
+	 * The class {@link Placement} holds the screen index and the bounds of a placed window
+	 */
+	private static final class Placement
+	{
+
+		/**
+		 * The index of the screen
+		 */
+		final int screenIndex;
+
+		/**
+		 * The bounds of the placed window
+		 */
+		final Rectangle bounds;
+
+		Placement(final int screenIndex, final Rectangle bounds)
+		{
+			this.screenIndex = screenIndex;
+			this.bounds = bounds;
+		}
+	}
+
+}
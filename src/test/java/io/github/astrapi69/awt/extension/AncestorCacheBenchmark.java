@@ -0,0 +1,77 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.extension;
+
+import java.awt.Component;
+
+import javax.swing.JPanel;
+
+/**
+ * The benchmark class for the class {@link AncestorCache} that compares the cached root lookups
+ * against the parent chain walks of {@link AwtExtensions} in a deep component tree
+ */
+public class AncestorCacheBenchmark
+{
+
+	/**
+	 * Runs the benchmark
+	 *
+	 * @param args
+	 *            the args, the optional first argument is the depth of the component tree
+	 */
+	public static void main(final String[] args)
+	{
+		int depth = args.length > 0 ? Integer.parseInt(args[0]) : 500;
+		int lookups = 100_000;
+		JPanel root = new JPanel();
+		JPanel leaf = root;
+		for (int i = 0; i < depth; i++)
+		{
+			JPanel child = new JPanel();
+			leaf.add(child);
+			leaf = child;
+		}
+		for (int round = 0; round < 5; round++)
+		{
+			Component result = null;
+			long start = System.nanoTime();
+			for (int i = 0; i < lookups; i++)
+			{
+				result = AwtExtensions.getRootParent(leaf);
+			}
+			long walkTime = System.nanoTime() - start;
+			start = System.nanoTime();
+			for (int i = 0; i < lookups; i++)
+			{
+				result = AncestorCache.getRootParent(leaf);
+			}
+			long cachedTime = System.nanoTime() - start;
+			System.out.printf(
+				"round %d: depth %d, parent chain walk %.1f ns, cached %.1f ns per lookup%s%n",
+				round, depth, (double)walkTime / lookups, (double)cachedTime / lookups,
+				result == root ? "" : " (unexpected root)");
+		}
+	}
+}
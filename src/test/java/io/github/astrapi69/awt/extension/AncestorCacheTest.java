@@ -0,0 +1,114 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.extension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import javax.swing.JPanel;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link AncestorCache}
+ */
+public class AncestorCacheTest
+{
+
+	private static JPanel newChain(final JPanel root, final int depth)
+	{
+		JPanel parent = root;
+		for (int i = 0; i < depth; i++)
+		{
+			JPanel child = new JPanel();
+			parent.add(child);
+			parent = child;
+		}
+		return parent;
+	}
+
+	/**
+	 * Clears the cache after each test
+	 */
+	@AfterEach
+	public void tearDown()
+	{
+		AncestorCache.clear();
+	}
+
+	/**
+	 * Test method for {@link AncestorCache#getRootParent(java.awt.Component)}
+	 */
+	@Test
+	public void testGetRootParent()
+	{
+		JPanel root = new JPanel();
+		JPanel leaf = newChain(root, 50);
+		assertSame(root, AncestorCache.getRootParent(leaf));
+		assertSame(AwtExtensions.getRootJFrame(leaf), AncestorCache.getRootJFrame(leaf));
+		assertSame(AwtExtensions.getRootJDialog(leaf), AncestorCache.getRootJDialog(leaf));
+		assertSame(root, AncestorCache.getRootParent(leaf));
+		assertEquals(1, AncestorCache.size());
+	}
+
+	/**
+	 * Test method for {@link AncestorCache#getRootParent(java.awt.Component)} after an ancestor
+	 * of the cached component has been moved to another parent
+	 */
+	@Test
+	public void testGetRootParentAfterReparenting()
+	{
+		JPanel root = new JPanel();
+		JPanel middle = newChain(root, 10);
+		JPanel leaf = newChain(middle, 10);
+		assertSame(root, AncestorCache.getRootParent(leaf));
+
+		JPanel otherRoot = new JPanel();
+		otherRoot.add(middle);
+		assertSame(otherRoot, AncestorCache.getRootParent(leaf));
+
+		middle.getParent().remove(middle);
+		assertSame(middle, AncestorCache.getRootParent(leaf));
+	}
+
+	/**
+	 * Test method for {@link AncestorCache#invalidate(java.awt.Component)} and
+	 * {@link AncestorCache#clear()}
+	 */
+	@Test
+	public void testInvalidateAndClear()
+	{
+		JPanel root = new JPanel();
+		JPanel leaf = newChain(root, 5);
+		assertSame(root, AncestorCache.getRootParent(leaf));
+		AncestorCache.invalidate(leaf);
+		assertEquals(1, AncestorCache.size());
+		assertSame(root, AncestorCache.getRootParent(leaf));
+		AncestorCache.clear();
+		assertEquals(0, AncestorCache.size());
+		assertEquals(0, leaf.getHierarchyListeners().length);
+	}
+}
@@ -0,0 +1,222 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.extension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.datatransfer.Clipboard;
+import java.awt.datatransfer.ClipboardOwner;
+import java.awt.datatransfer.DataFlavor;
+import java.awt.datatransfer.Transferable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link AsyncClipboardWriter}
+ */
+public class AsyncClipboardWriterTest
+{
+
+	/**
+	 * The writer under test
+	 */
+	private AsyncClipboardWriter writer;
+
+	/**
+	 * Shuts the writer down after each test
+	 */
+	@AfterEach
+	public void tearDown()
+	{
+		if (writer != null)
+		{
+			writer.shutdown();
+		}
+	}
+
+	/**
+	 * The class {@link TestClipboard} records the published strings, can block the first write
+	 * and can reject a number of writes with an {@link IllegalStateException}
+	 */
+	private static class TestClipboard extends Clipboard
+	{
+
+		final List<String> published = new ArrayList<>();
+
+		final CountDownLatch firstWriteStarted = new CountDownLatch(1);
+
+		final CountDownLatch releaseFirstWrite = new CountDownLatch(1);
+
+		final CountDownLatch firstAttempt = new CountDownLatch(1);
+
+		boolean blockFirstWrite;
+
+		int rejections;
+
+		TestClipboard()
+		{
+			super("test");
+		}
+
+		@Override
+		public synchronized void setContents(Transferable contents, ClipboardOwner owner)
+		{
+			firstAttempt.countDown();
+			if (blockFirstWrite && firstWriteStarted.getCount() > 0)
+			{
+				firstWriteStarted.countDown();
+				try
+				{
+					releaseFirstWrite.await(5, TimeUnit.SECONDS);
+				}
+				catch (InterruptedException exception)
+				{
+					Thread.currentThread().interrupt();
+				}
+			}
+			if (rejections > 0)
+			{
+				rejections--;
+				throw new IllegalStateException("cannot open system clipboard");
+			}
+			try
+			{
+				published.add((String)contents.getTransferData(DataFlavor.stringFlavor));
+			}
+			catch (Exception exception)
+			{
+				throw new IllegalArgumentException(exception);
+			}
+			super.setContents(contents, owner);
+		}
+	}
+
+	/**
+	 * Test method for {@link AsyncClipboardWriter#write(String)}
+	 */
+	@Test
+	public void testWrite() throws Exception
+	{
+		TestClipboard clipboard = new TestClipboard();
+		writer = new AsyncClipboardWriter(clipboard);
+		assertTrue(writer.write("foo").get(5, TimeUnit.SECONDS));
+		assertEquals("foo", clipboard.getData(DataFlavor.stringFlavor));
+	}
+
+	/**
+	 * Test method for {@link AsyncClipboardWriter#write(String)} with a burst of writes that is
+	 * coalesced to the latest one
+	 */
+	@Test
+	public void testWriteCoalescesBursts() throws Exception
+	{
+		TestClipboard clipboard = new TestClipboard();
+		clipboard.blockFirstWrite = true;
+		writer = new AsyncClipboardWriter(clipboard);
+		CompletableFuture<Boolean> first = writer.write("first");
+		assertTrue(clipboard.firstWriteStarted.await(5, TimeUnit.SECONDS));
+		List<CompletableFuture<Boolean>> burst = new ArrayList<>();
+		for (int i = 0; i < 10; i++)
+		{
+			burst.add(writer.write("value" + i));
+		}
+		clipboard.releaseFirstWrite.countDown();
+		assertTrue(first.get(5, TimeUnit.SECONDS));
+		assertTrue(burst.get(9).get(5, TimeUnit.SECONDS));
+		for (int i = 0; i < 9; i++)
+		{
+			assertFalse(burst.get(i).get(5, TimeUnit.SECONDS));
+		}
+		assertEquals(List.of("first", "value9"), clipboard.published);
+	}
+
+	/**
+	 * Test method for {@link AsyncClipboardWriter#write(String)} with a clipboard that is not
+	 * available for some attempts
+	 */
+	@Test
+	public void testWriteRetries() throws Exception
+	{
+		TestClipboard clipboard = new TestClipboard();
+		clipboard.rejections = 2;
+		writer = new AsyncClipboardWriter(clipboard, 3, 1);
+		assertTrue(writer.write("foo").get(5, TimeUnit.SECONDS));
+		assertEquals(List.of("foo"), clipboard.published);
+
+		clipboard.rejections = 5;
+		CompletableFuture<Boolean> failed = writer.write("bar");
+		ExecutionException exception = assertThrows(ExecutionException.class,
+			() -> failed.get(5, TimeUnit.SECONDS));
+		assertTrue(exception.getCause() instanceof IllegalStateException);
+	}
+
+	/**
+	 * Test method for {@link AsyncClipboardWriter#shutdown()} while a write waits for a retry
+	 */
+	@Test
+	public void testShutdownCompletesRetriedWrite() throws Exception
+	{
+		TestClipboard clipboard = new TestClipboard();
+		clipboard.rejections = 100;
+		writer = new AsyncClipboardWriter(clipboard, 5, 10_000);
+		CompletableFuture<Boolean> retried = writer.write("foo");
+		assertTrue(clipboard.firstAttempt.await(5, TimeUnit.SECONDS));
+		writer.shutdown();
+		ExecutionException exception = assertThrows(ExecutionException.class,
+			() -> retried.get(5, TimeUnit.SECONDS));
+		assertTrue(exception.getCause() instanceof IllegalStateException);
+		assertThrows(IllegalStateException.class, () -> writer.write("bar"));
+	}
+
+	/**
+	 * Test method for {@link AsyncClipboardWriter#shutdown()} with a pending write behind a
+	 * blocked write
+	 */
+	@Test
+	public void testShutdownCompletesPendingWrite() throws Exception
+	{
+		TestClipboard clipboard = new TestClipboard();
+		clipboard.blockFirstWrite = true;
+		writer = new AsyncClipboardWriter(clipboard);
+		CompletableFuture<Boolean> first = writer.write("first");
+		assertTrue(clipboard.firstWriteStarted.await(5, TimeUnit.SECONDS));
+		CompletableFuture<Boolean> second = writer.write("second");
+		writer.shutdown();
+		ExecutionException exception = assertThrows(ExecutionException.class,
+			() -> second.get(5, TimeUnit.SECONDS));
+		assertTrue(exception.getCause() instanceof IllegalStateException);
+		assertTrue(first.isDone());
+	}
+}
@@ -0,0 +1,146 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.extension;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.awt.GraphicsEnvironment;
+import java.awt.Window;
+
+import javax.swing.JFrame;
+import javax.swing.JOptionPane;
+import javax.swing.JPanel;
+import javax.swing.JRootPane;
+import javax.swing.JScrollPane;
+import javax.swing.JWindow;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link AwtExtensions}
+ */
+public class AwtExtensionsTest
+{
+
+	/**
+	 * Test method for {@link AwtExtensions#findAncestor(java.awt.Component, Class)} and
+	 * {@link AwtExtensions#findAncestorOrSelf(java.awt.Component, Class)}
+	 */
+	@Test
+	public void testFindAncestor()
+	{
+		JScrollPane scrollPane = new JScrollPane();
+		JPanel panel = new JPanel();
+		JPanel leaf = new JPanel();
+		scrollPane.getViewport().setView(panel);
+		panel.add(leaf);
+
+		assertSame(scrollPane, AwtExtensions.findAncestor(leaf, JScrollPane.class));
+		assertSame(panel, AwtExtensions.findAncestor(leaf, JPanel.class));
+		assertSame(leaf, AwtExtensions.findAncestorOrSelf(leaf, JPanel.class));
+		assertNull(AwtExtensions.findAncestor(leaf, Window.class));
+		assertNull(AwtExtensions.findAncestorOrSelf(null, JPanel.class));
+	}
+
+	/**
+	 * Test method for {@link AwtExtensions#findAncestor(java.awt.Component, Class, Class)}
+	 */
+	@Test
+	public void testFindAncestorWithBoundary()
+	{
+		JScrollPane scrollPane = new JScrollPane();
+		JRootPane rootPane = new JRootPane();
+		JPanel leaf = new JPanel();
+		scrollPane.getViewport().setView(rootPane);
+		rootPane.getContentPane().add(leaf);
+
+		assertSame(rootPane, AwtExtensions.findAncestor(leaf, JRootPane.class, JRootPane.class));
+		assertNull(AwtExtensions.findAncestor(leaf, JScrollPane.class, JRootPane.class));
+		assertSame(scrollPane, AwtExtensions.findAncestor(leaf, JScrollPane.class));
+	}
+
+	/**
+	 * Test method for {@link AwtExtensions#getRootParent(java.awt.Component)} with a component
+	 * tree that is deeper than a recursive walk could handle
+	 */
+	@Test
+	public void testGetRootParentWithDeepTree()
+	{
+		JPanel root = new JPanel();
+		JPanel leaf = root;
+		for (int i = 0; i < 20_000; i++)
+		{
+			JPanel child = new JPanel();
+			leaf.add(child);
+			leaf = child;
+		}
+		assertSame(root, AwtExtensions.getRootParent(leaf));
+		assertSame(root, AwtExtensions.getRootJFrame(leaf));
+		assertSame(root, AwtExtensions.getRootJDialog(leaf));
+		assertSame(root, AwtExtensions.findAncestorOrRoot(root, null));
+	}
+
+	/**
+	 * Test method for {@link AwtExtensions#getWindowForComponent(java.awt.Component)} in headless
+	 * mode
+	 */
+	@Test
+	public void testGetWindowForComponentInHeadlessMode()
+	{
+		Assumptions.assumeTrue(GraphicsEnvironment.isHeadless());
+		assertNull(AwtExtensions.getWindowForComponent(new JPanel()));
+		assertNull(AwtExtensions.getWindowForComponent(null));
+	}
+
+	/**
+	 * Test method for {@link AwtExtensions#getWindowForComponent(java.awt.Component)}
+	 */
+	@Test
+	public void testGetWindowForComponent()
+	{
+		Assumptions.assumeFalse(GraphicsEnvironment.isHeadless());
+		JFrame frame = new JFrame();
+		JWindow window = new JWindow(frame);
+		try
+		{
+			JPanel panel = new JPanel();
+			frame.getContentPane().add(panel);
+			JPanel windowPanel = new JPanel();
+			window.getContentPane().add(windowPanel);
+			assertSame(frame, AwtExtensions.getWindowForComponent(panel));
+			assertSame(frame, AwtExtensions.getWindowForComponent(frame));
+			// a window that is neither a frame nor a dialog is resolved to its owner
+			assertSame(frame, AwtExtensions.getWindowForComponent(windowPanel));
+			assertSame(JOptionPane.getRootFrame(), AwtExtensions.getWindowForComponent(null));
+		}
+		finally
+		{
+			window.dispose();
+			frame.dispose();
+		}
+	}
+}
@@ -0,0 +1,185 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.extension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.EventQueue;
+import java.awt.datatransfer.Clipboard;
+import java.awt.datatransfer.ClipboardOwner;
+import java.awt.datatransfer.DataFlavor;
+import java.awt.datatransfer.FlavorEvent;
+import java.awt.datatransfer.StringSelection;
+import java.awt.datatransfer.Transferable;
+import java.awt.datatransfer.UnsupportedFlavorException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link CachedClipboardReader}
+ */
+public class CachedClipboardReaderTest
+{
+
+	/**
+	 * The class {@link CountingClipboard} counts the data queries
+	 */
+	private static class CountingClipboard extends Clipboard
+	{
+
+		int dataQueries;
+
+		CountingClipboard()
+		{
+			super("test");
+		}
+
+		@Override
+		public Object getData(DataFlavor flavor) throws UnsupportedFlavorException, IOException
+		{
+			dataQueries++;
+			return super.getData(flavor);
+		}
+	}
+
+	/**
+	 * Test method for {@link CachedClipboardReader#isTextAvailable()} and
+	 * {@link CachedClipboardReader#getText()}
+	 */
+	@Test
+	public void testCachedReads() throws Exception
+	{
+		CountingClipboard clipboard = new CountingClipboard();
+		CachedClipboardReader reader = new CachedClipboardReader(clipboard, 60_000);
+		assertFalse(reader.isTextAvailable());
+		assertNull(reader.getText());
+
+		clipboard.setContents(new StringSelection("foo"), null);
+		EventQueue.invokeAndWait(() -> {
+		});
+		for (int i = 0; i < 100; i++)
+		{
+			assertTrue(reader.isTextAvailable());
+			assertEquals("foo", reader.getText());
+		}
+		assertEquals(1, clipboard.dataQueries);
+		assertEquals(2, reader.getMissCount());
+		reader.dispose();
+	}
+
+	/**
+	 * Test method for {@link CachedClipboardReader#flavorsChanged(FlavorEvent)}
+	 */
+	@Test
+	public void testInvalidatedByFlavorListener() throws Exception
+	{
+		Clipboard clipboard = new Clipboard("test");
+		CachedClipboardReader reader = new CachedClipboardReader(clipboard, 60_000);
+		assertFalse(reader.isTextAvailable());
+		clipboard.setContents(new StringSelection("foo"), null);
+		EventQueue.invokeAndWait(() -> {
+		});
+		assertEquals("foo", reader.getText());
+		reader.dispose();
+	}
+
+	/**
+	 * Test method for {@link CachedClipboardReader#invalidate()} with new contents that keep the
+	 * same flavors and for a cache without time to live
+	 */
+	@Test
+	public void testInvalidate() throws Exception
+	{
+		Clipboard clipboard = new Clipboard("test");
+		CachedClipboardReader reader = new CachedClipboardReader(clipboard, Long.MAX_VALUE,
+			Long.MAX_VALUE);
+		clipboard.setContents(new StringSelection("foo"), null);
+		EventQueue.invokeAndWait(() -> {
+		});
+		assertEquals("foo", reader.getText());
+		// the flavors do not change, so the cache is only refreshed after the invalidation
+		clipboard.setContents(new StringSelection("bar"), null);
+		EventQueue.invokeAndWait(() -> {
+		});
+		assertEquals("foo", reader.getText());
+		reader.invalidate();
+		assertEquals("bar", reader.getText());
+		reader.dispose();
+	}
+
+	/**
+	 * Test method for {@link CachedClipboardReader#createOwner(ClipboardOwner)} with contents that
+	 * lose the ownership to contents with the same flavors
+	 */
+	@Test
+	public void testInvalidatedByLostOwnership() throws Exception
+	{
+		Clipboard clipboard = new Clipboard("test");
+		CachedClipboardReader reader = new CachedClipboardReader(clipboard, Long.MAX_VALUE,
+			Long.MAX_VALUE);
+		StringSelection content = new StringSelection("foo");
+		List<Transferable> lost = new ArrayList<>();
+		clipboard.setContents(content,
+			reader.createOwner((lostClipboard, contents) -> lost.add(contents)));
+		EventQueue.invokeAndWait(() -> {
+		});
+		assertEquals("foo", reader.getText());
+		// the flavors do not change, but the contents lose the ownership
+		clipboard.setContents(new StringSelection("bar"), null);
+		EventQueue.invokeAndWait(() -> {
+		});
+		assertEquals("bar", reader.getText());
+		assertEquals(List.of(content), lost);
+		reader.dispose();
+	}
+
+	/**
+	 * Test method for {@link CachedClipboardReader#getData(DataFlavor)} with a reader that does
+	 * not cache the read data
+	 */
+	@Test
+	public void testDataIsNotCached() throws Exception
+	{
+		CountingClipboard clipboard = new CountingClipboard();
+		CachedClipboardReader reader = new CachedClipboardReader(clipboard, Long.MAX_VALUE, 0);
+		clipboard.setContents(new StringSelection("foo"), null);
+		EventQueue.invokeAndWait(() -> {
+		});
+		assertEquals("foo", reader.getText());
+		clipboard.setContents(new StringSelection("bar"), null);
+		EventQueue.invokeAndWait(() -> {
+		});
+		assertEquals("bar", reader.getText());
+		assertEquals(2, clipboard.dataQueries);
+		assertEquals(1, reader.getMissCount());
+		reader.dispose();
+	}
+}
@@ -0,0 +1,104 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.extension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link ClipboardHistory}
+ */
+public class ClipboardHistoryTest
+{
+
+	/**
+	 * Test method for {@link ClipboardHistory#add(String)} with the capacity
+	 */
+	@Test
+	public void testAddEvictsOldest()
+	{
+		ClipboardHistory history = new ClipboardHistory(3, 1024);
+		history.add("a");
+		history.add("b");
+		history.add("c");
+		history.add("d");
+		assertEquals(List.of("d", "c", "b"), history.getEntries());
+		assertEquals("d", history.get(0));
+		assertEquals("b", history.get(2));
+		assertThrows(IndexOutOfBoundsException.class, () -> history.get(3));
+		assertFalse(history.add(""));
+		assertFalse(history.add(null));
+	}
+
+	/**
+	 * Test method for {@link ClipboardHistory#add(String)} with duplicates
+	 */
+	@Test
+	public void testAddDeduplicates()
+	{
+		ClipboardHistory history = new ClipboardHistory(3, 1024);
+		history.add("a");
+		history.add("b");
+		history.add("c");
+		// alternating copies of known texts must not evict other entries
+		for (int i = 0; i < 100; i++)
+		{
+			history.add(i % 2 == 0 ? "a" : "b");
+		}
+		assertEquals(List.of("b", "a", "c"), history.getEntries());
+		assertEquals(6, history.getByteCount());
+		history.add("d");
+		assertEquals(List.of("d", "b", "a"), history.getEntries());
+		assertEquals(3, history.size());
+	}
+
+	/**
+	 * Test method for {@link ClipboardHistory#add(String)} with the budget of bytes
+	 */
+	@Test
+	public void testAddWithByteBudget()
+	{
+		ClipboardHistory history = new ClipboardHistory(10, 20);
+		history.add("12345");
+		history.add("abcde");
+		assertEquals(20, history.getByteCount());
+		history.add("xy");
+		assertEquals(List.of("xy", "abcde"), history.getEntries());
+		assertEquals(14, history.getByteCount());
+		assertFalse(history.add("this text is too large"));
+		assertTrue(history.contains("xy"));
+		assertTrue(history.remove("xy"));
+		assertEquals(List.of("abcde"), history.getEntries());
+		history.clear();
+		assertEquals(0, history.size());
+		assertEquals(0, history.getByteCount());
+	}
+}
@@ -0,0 +1,104 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.extension;
+
+import java.awt.Component;
+
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+import javax.swing.JTextField;
+
+/**
+ * The benchmark class for the class {@link ComponentIndex} that measures the lookups and the
+ * memory overhead of the index of a form with twenty thousand components
+ */
+public class ComponentIndexBenchmark
+{
+
+	private static long usedMemory()
+	{
+		Runtime runtime = Runtime.getRuntime();
+		for (int i = 0; i < 3; i++)
+		{
+			System.gc();
+		}
+		return runtime.totalMemory() - runtime.freeMemory();
+	}
+
+	/**
+	 * Runs the benchmark
+	 *
+	 * @param args
+	 *            the args, the optional first argument is the number of the form rows
+	 */
+	public static void main(final String[] args)
+	{
+		int rows = args.length > 0 ? Integer.parseInt(args[0]) : 6_667;
+		JPanel root = new JPanel();
+		for (int i = 0; i < rows; i++)
+		{
+			JPanel row = new JPanel();
+			JLabel label = new JLabel("label " + i);
+			label.setName("label" + i);
+			JTextField textField = new JTextField();
+			textField.setName("field" + i);
+			row.add(label);
+			row.add(textField);
+			root.add(row);
+		}
+		long before = usedMemory();
+		long start = System.nanoTime();
+		ComponentIndex index = new ComponentIndex(root);
+		long indexTime = System.nanoTime() - start;
+		long overhead = usedMemory() - before;
+		System.out.printf(
+			"indexed %d components in %.2f ms, overhead %d KiB (%.1f bytes per component)%n",
+			index.size(), indexTime / 1e6, overhead / 1024, (double)overhead / index.size());
+		int lookups = 1_000;
+		for (int round = 0; round < 3; round++)
+		{
+			Component found = null;
+			start = System.nanoTime();
+			for (int i = 0; i < lookups; i++)
+			{
+				String name = "field" + (i * 7 % rows);
+				found = ComponentTraversal.stream(root)
+					.filter(component -> name.equals(component.getName())).findFirst()
+					.orElse(null);
+			}
+			long walkTime = System.nanoTime() - start;
+			start = System.nanoTime();
+			for (int i = 0; i < lookups; i++)
+			{
+				found = index.getComponent("field" + (i * 7 % rows));
+			}
+			long indexedTime = System.nanoTime() - start;
+			System.out.printf("round %d: tree walk %.1f us, index %.3f us per lookup%s%n",
+				round, walkTime / 1e3 / lookups, indexedTime / 1e3 / lookups,
+				found != null ? "" : " (not found)");
+		}
+		index.dispose();
+	}
+}
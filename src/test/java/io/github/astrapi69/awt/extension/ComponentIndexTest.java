@@ -0,0 +1,153 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.extension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import javax.swing.JButton;
+import javax.swing.JComponent;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link ComponentIndex}
+ */
+public class ComponentIndexTest
+{
+
+	private static <T extends JComponent> T named(T component, String name)
+	{
+		component.setName(name);
+		return component;
+	}
+
+	/**
+	 * Test method for {@link ComponentIndex#getComponent(String)} and
+	 * {@link ComponentIndex#getComponents(Class)}
+	 */
+	@Test
+	public void testLookup()
+	{
+		JPanel root = named(new JPanel(), "root");
+		JPanel form = named(new JPanel(), "form");
+		JButton ok = named(new JButton(), "ok");
+		JLabel label = named(new JLabel(), "label");
+		form.add(ok);
+		form.add(label);
+		root.add(form);
+
+		ComponentIndex index = new ComponentIndex(root);
+		assertEquals(4, index.size());
+		assertSame(ok, index.getComponent("ok"));
+		assertSame(form, index.getComponent("form"));
+		assertNull(index.getComponent("cancel"));
+		assertEquals(List.of(ok), index.getComponents(JButton.class));
+		assertEquals(2, index.getComponents(JPanel.class).size());
+		assertEquals(4, index.getComponents(JComponent.class).size());
+		assertEquals(3, index.getTypeCount());
+	}
+
+	/**
+	 * Test method for {@link ComponentIndex} that is updated when components are added, removed
+	 * or renamed
+	 */
+	@Test
+	public void testIncrementalUpdate()
+	{
+		JPanel root = new JPanel();
+		ComponentIndex index = new ComponentIndex(root);
+		assertEquals(1, index.size());
+
+		JPanel form = named(new JPanel(), "form");
+		JButton ok = named(new JButton(), "ok");
+		form.add(ok);
+		root.add(form);
+		assertEquals(3, index.size());
+		assertSame(ok, index.getComponent("ok"));
+
+		JButton cancel = named(new JButton(), "cancel");
+		form.add(cancel);
+		assertSame(cancel, index.getComponent("cancel"));
+
+		cancel.setName("abort");
+		assertNull(index.getComponent("cancel"));
+		assertSame(cancel, index.getComponent("abort"));
+
+		root.remove(form);
+		assertEquals(1, index.size());
+		assertNull(index.getComponent("ok"));
+		assertFalse(index.contains(cancel));
+		assertEquals(0, form.getContainerListeners().length);
+		// changes on removed components do not touch the index any more
+		form.add(new JButton());
+		assertEquals(1, index.size());
+	}
+
+	/**
+	 * Test method for {@link ComponentIndex#getComponents(String)} with duplicate names
+	 */
+	@Test
+	public void testDuplicateNames()
+	{
+		JPanel root = new JPanel();
+		JButton first = named(new JButton(), "button");
+		JButton second = named(new JButton(), "button");
+		root.add(first);
+		root.add(second);
+		ComponentIndex index = new ComponentIndex(root);
+		assertEquals(List.of(first, second), index.getComponents("button"));
+		assertEquals(1, index.getNameCount());
+		root.remove(first);
+		assertSame(second, index.getComponent("button"));
+		assertEquals(List.of(second), index.getComponents("button"));
+	}
+
+	/**
+	 * Test method for {@link ComponentIndex#dispose()}
+	 */
+	@Test
+	public void testDispose()
+	{
+		JPanel root = new JPanel();
+		JButton ok = named(new JButton(), "ok");
+		root.add(ok);
+		ComponentIndex index = new ComponentIndex(root);
+		assertTrue(index.contains(ok));
+		index.dispose();
+		assertEquals(0, index.size());
+		assertEquals(0, index.getNameCount());
+		assertEquals(0, root.getContainerListeners().length);
+		root.add(new JButton());
+		assertEquals(0, index.size());
+	}
+}
@@ -0,0 +1,189 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.extension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.awt.Component;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import javax.swing.JButton;
+import javax.swing.JLabel;
+import javax.swing.JPanel;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link ComponentTraversal}
+ */
+public class ComponentTraversalTest
+{
+
+	/**
+	 * Creates the tree root(a(a1, a2), b(b1), c)
+	 */
+	private static JPanel newTree()
+	{
+		JPanel root = newPanel("root");
+		JPanel a = newPanel("a");
+		JPanel b = newPanel("b");
+		a.add(newLabel("a1"));
+		a.add(newLabel("a2"));
+		b.add(newLabel("b1"));
+		root.add(a);
+		root.add(b);
+		root.add(newLabel("c"));
+		return root;
+	}
+
+	private static JLabel newLabel(String name)
+	{
+		JLabel label = new JLabel(name);
+		label.setName(name);
+		return label;
+	}
+
+	private static JPanel newPanel(String name)
+	{
+		JPanel panel = new JPanel();
+		panel.setName(name);
+		return panel;
+	}
+
+	/**
+	 * Test method for {@link ComponentTraversal#depthFirst(Component, ComponentVisitor)}
+	 */
+	@Test
+	public void testDepthFirst()
+	{
+		List<String> visited = new ArrayList<>();
+		assertNull(ComponentTraversal.depthFirst(newTree(), (component, depth) -> {
+			visited.add(component.getName() + ":" + depth);
+			return TraversalAction.CONTINUE;
+		}));
+		assertEquals(List.of("root:0", "a:1", "a1:2", "a2:2", "b:1", "b1:2", "c:1"), visited);
+	}
+
+	/**
+	 * Test method for {@link ComponentTraversal#depthFirst(Component, ComponentVisitor)} with
+	 * pruning and early termination
+	 */
+	@Test
+	public void testDepthFirstWithPruningAndTermination()
+	{
+		List<String> visited = new ArrayList<>();
+		Component terminated = ComponentTraversal.depthFirst(newTree(), (component, depth) -> {
+			visited.add(component.getName());
+			if ("a".equals(component.getName()))
+			{
+				return TraversalAction.SKIP_CHILDREN;
+			}
+			if ("b1".equals(component.getName()))
+			{
+				return TraversalAction.TERMINATE;
+			}
+			return TraversalAction.CONTINUE;
+		});
+		assertEquals("b1", terminated.getName());
+		assertEquals(List.of("root", "a", "b", "b1"), visited);
+	}
+
+	/**
+	 * Test method for {@link ComponentTraversal#breadthFirst(Component, ComponentVisitor)}
+	 */
+	@Test
+	public void testBreadthFirst()
+	{
+		List<String> visited = new ArrayList<>();
+		assertNull(ComponentTraversal.breadthFirst(newTree(), (component, depth) -> {
+			visited.add(component.getName() + ":" + depth);
+			return TraversalAction.CONTINUE;
+		}));
+		assertEquals(List.of("root:0", "a:1", "b:1", "c:1", "a1:2", "a2:2", "b1:2"), visited);
+	}
+
+	/**
+	 * Test method for {@link ComponentTraversal#stream(Component)} and
+	 * {@link ComponentTraversal#stream(Component, java.util.function.Predicate)}
+	 */
+	@Test
+	public void testStream()
+	{
+		JPanel root = newTree();
+		assertEquals(List.of("root", "a", "a1", "a2", "b", "b1", "c"),
+			ComponentTraversal.stream(root).map(Component::getName).collect(Collectors.toList()));
+		assertEquals(List.of("root", "a", "b", "b1", "c"),
+			ComponentTraversal.stream(root, container -> !"a".equals(container.getName()))
+				.map(Component::getName).collect(Collectors.toList()));
+		assertEquals(1, ComponentTraversal.stream(new JButton()).count());
+	}
+
+	/**
+	 * Test method for {@link ComponentTraversal#stream(Component)} that is lazy and stops the
+	 * walk with a short circuiting operation
+	 */
+	@Test
+	public void testStreamIsLazy()
+	{
+		AtomicInteger descended = new AtomicInteger();
+		Component found = ComponentTraversal.stream(newTree(), container -> {
+			descended.incrementAndGet();
+			return true;
+		}).filter(component -> "a1".equals(component.getName())).findFirst().orElse(null);
+		assertEquals("a1", found.getName());
+		// only root and a were opened, b was never reached
+		assertEquals(2, descended.get());
+	}
+
+	/**
+	 * Test method for {@link ComponentTraversal#depthFirst(Component, ComponentVisitor)} with a
+	 * component tree that is deeper than a recursive walk could handle
+	 */
+	@Test
+	public void testDepthFirstWithDeepTree()
+	{
+		JPanel root = new JPanel();
+		JPanel leaf = root;
+		for (int i = 0; i < 20_000; i++)
+		{
+			JPanel child = new JPanel();
+			leaf.add(child);
+			leaf = child;
+		}
+		AtomicInteger maxDepth = new AtomicInteger();
+		ComponentTraversal.depthFirst(root, (component, depth) -> {
+			maxDepth.set(Math.max(maxDepth.get(), depth));
+			return TraversalAction.CONTINUE;
+		});
+		assertEquals(20_000, maxDepth.get());
+		assertSame(leaf, ComponentTraversal.stream(root).reduce((first, second) -> second)
+			.orElse(null));
+	}
+}
@@ -0,0 +1,131 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.extension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.awt.Cursor;
+import java.awt.GraphicsEnvironment;
+import java.awt.Point;
+import java.awt.image.BufferedImage;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link CursorRegistry}
+ */
+public class CursorRegistryTest
+{
+
+	/**
+	 * Skips the tests in headless mode where no custom cursors can be created
+	 */
+	@BeforeEach
+	public void setUp()
+	{
+		Assumptions.assumeFalse(GraphicsEnvironment.isHeadless());
+		CursorRegistry.clear();
+	}
+
+	/**
+	 * Clears the registry after each test
+	 */
+	@AfterEach
+	public void tearDown()
+	{
+		CursorRegistry.setMaxCursorCount(CursorRegistry.DEFAULT_MAX_CURSOR_COUNT);
+		CursorRegistry.clear();
+	}
+
+	/**
+	 * Test method for {@link CursorRegistry#getInvisibleCursor()}
+	 */
+	@Test
+	public void testGetInvisibleCursor()
+	{
+		Cursor cursor = CursorRegistry.getInvisibleCursor();
+		assertSame(cursor, CursorRegistry.getInvisibleCursor());
+		assertSame(cursor, AwtExtensions.getInvisibleCursor());
+		assertEquals(1, CursorRegistry.getLiveCursorCount());
+	}
+
+	/**
+	 * Test method for {@link CursorRegistry#getCustomCursor(java.awt.Image, Point, String)}
+	 */
+	@Test
+	public void testGetCustomCursor()
+	{
+		BufferedImage image = new BufferedImage(7, 7, BufferedImage.TYPE_INT_ARGB);
+		Cursor cursor = CursorRegistry.getCustomCursor(image, new Point(3, 3), "cross");
+		assertSame(cursor, CursorRegistry.getCustomCursor(image, new Point(3, 3), "cross"));
+		assertNotSame(cursor, CursorRegistry.getCustomCursor(image, new Point(0, 0), "cross"));
+		assertEquals(2, CursorRegistry.getLiveCursorCount());
+		CursorRegistry.clear();
+		assertEquals(0, CursorRegistry.getLiveCursorCount());
+	}
+
+	/**
+	 * Test method for {@link CursorRegistry#getCustomCursor(java.awt.Image, Point, String)} with
+	 * different images under the same name
+	 */
+	@Test
+	public void testGetCustomCursorWithDifferentImages()
+	{
+		BufferedImage cross = new BufferedImage(7, 7, BufferedImage.TYPE_INT_ARGB);
+		BufferedImage arrow = new BufferedImage(7, 7, BufferedImage.TYPE_INT_ARGB);
+		Cursor cursor = CursorRegistry.getCustomCursor(cross, new Point(3, 3), "pointer");
+		assertNotSame(cursor, CursorRegistry.getCustomCursor(arrow, new Point(3, 3), "pointer"));
+		assertSame(cursor, CursorRegistry.getCustomCursor(cross, new Point(3, 3), "pointer"));
+		assertEquals(2, CursorRegistry.getLiveCursorCount());
+		assertEquals(2, CursorRegistry.remove("pointer"));
+		assertEquals(0, CursorRegistry.getLiveCursorCount());
+	}
+
+	/**
+	 * Test method for {@link CursorRegistry#setMaxCursorCount(int)} that evicts the least recently
+	 * requested cursors
+	 */
+	@Test
+	public void testEviction()
+	{
+		CursorRegistry.setMaxCursorCount(2);
+		BufferedImage image = new BufferedImage(7, 7, BufferedImage.TYPE_INT_ARGB);
+		Cursor first = CursorRegistry.getCustomCursor(image, new Point(0, 0), "first");
+		CursorRegistry.getCustomCursor(image, new Point(0, 0), "second");
+		// request the first cursor, so the second one is the least recently requested
+		assertSame(first, CursorRegistry.getCustomCursor(image, new Point(0, 0), "first"));
+		CursorRegistry.getCustomCursor(image, new Point(0, 0), "third");
+		assertEquals(2, CursorRegistry.getLiveCursorCount());
+		assertSame(first, CursorRegistry.getCustomCursor(image, new Point(0, 0), "first"));
+		assertEquals(0, CursorRegistry.remove("second"));
+		CursorRegistry.setMaxCursorCount(1);
+		assertEquals(1, CursorRegistry.getLiveCursorCount());
+	}
+}
@@ -0,0 +1,99 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.extension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.awt.datatransfer.Clipboard;
+import java.awt.datatransfer.DataFlavor;
+import java.awt.datatransfer.StringSelection;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link ImageSelection} and the image methods of the class
+ * {@link ClipboardExtensions}
+ */
+public class ImageSelectionTest
+{
+
+	/**
+	 * Test method for {@link ClipboardExtensions#getImage(Clipboard,
+	 * java.awt.GraphicsConfiguration)} with a compatible image that is not copied
+	 */
+	@Test
+	public void testGetCompatibleImage()
+	{
+		BufferedImage image = new BufferedImage(40, 30, BufferedImage.TYPE_INT_ARGB);
+		Clipboard clipboard = new Clipboard("test");
+		ImageSelection selection = new ImageSelection(image);
+		clipboard.setContents(selection, selection);
+		assertSame(image, ClipboardExtensions.getImage(clipboard, null));
+	}
+
+	/**
+	 * Test method for {@link ClipboardExtensions#getImage(Clipboard,
+	 * java.awt.GraphicsConfiguration)} with an image that is converted
+	 */
+	@Test
+	public void testGetConvertedImage()
+	{
+		BufferedImage image = new BufferedImage(40, 30, BufferedImage.TYPE_INT_RGB);
+		image.setRGB(5, 7, 0x123456);
+		Clipboard clipboard = new Clipboard("test");
+		clipboard.setContents(new ImageSelection(image), null);
+		BufferedImage pasted = ClipboardExtensions.getImage(clipboard, null);
+		assertNotSame(image, pasted);
+		assertEquals(BufferedImage.TYPE_INT_ARGB, pasted.getType());
+		assertEquals(40, pasted.getWidth());
+		assertEquals(30, pasted.getHeight());
+		assertEquals(0xFF123456, pasted.getRGB(5, 7));
+
+		clipboard.setContents(new StringSelection("foo"), null);
+		assertNull(ClipboardExtensions.getImage(clipboard, null));
+	}
+
+	/**
+	 * Test method for {@link ImageSelection#lostOwnership(Clipboard,
+	 * java.awt.datatransfer.Transferable)}
+	 */
+	@Test
+	public void testLostOwnership()
+	{
+		ImageSelection selection = new ImageSelection(
+			new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB));
+		selection.lostOwnership(new Clipboard("test"), selection);
+		assertFalse(selection.isDataFlavorSupported(DataFlavor.imageFlavor));
+		assertThrows(IOException.class,
+			() -> selection.getTransferData(DataFlavor.imageFlavor));
+	}
+}
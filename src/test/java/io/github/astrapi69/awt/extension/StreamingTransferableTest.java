@@ -0,0 +1,114 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.extension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.datatransfer.Clipboard;
+import java.awt.datatransfer.DataFlavor;
+import java.awt.datatransfer.UnsupportedFlavorException;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link StreamingTransferable}
+ */
+public class StreamingTransferableTest
+{
+
+	/**
+	 * Test method for {@link StreamingTransferable#getTransferData(DataFlavor)}
+	 */
+	@Test
+	public void testGetTransferData() throws Exception
+	{
+		AtomicInteger opened = new AtomicInteger();
+		StreamingTransferable transferable = new StreamingTransferable(() -> {
+			opened.incrementAndGet();
+			return new StringReader("a\tb");
+		}, null, () -> new StringReader("a,b"));
+		assertEquals(0, opened.get());
+		assertEquals(4, transferable.getTransferDataFlavors().length);
+		assertFalse(transferable.isDataFlavorSupported(StreamingTransferable.HTML_STRING_FLAVOR));
+
+		Clipboard clipboard = new Clipboard("test");
+		clipboard.setContents(transferable, transferable);
+		assertEquals(0, opened.get());
+		assertEquals("a\tb", clipboard.getData(DataFlavor.stringFlavor));
+		assertEquals(1, opened.get());
+		assertEquals("a,b",
+			transferable.getTransferData(StreamingTransferable.CSV_STRING_FLAVOR));
+		try (Reader reader = (Reader)transferable
+			.getTransferData(StreamingTransferable.TEXT_READER_FLAVOR))
+		{
+			assertEquals('a', reader.read());
+		}
+		assertEquals(2, opened.get());
+		assertThrows(UnsupportedFlavorException.class,
+			() -> transferable.getTransferData(StreamingTransferable.HTML_READER_FLAVOR));
+	}
+
+	/**
+	 * Test method for {@link StreamingTransferable#readerOf(java.util.function.Supplier,
+	 * java.nio.charset.Charset)}
+	 */
+	@Test
+	public void testReaderOf() throws Exception
+	{
+		byte[] html = "<b>\u00e4</b>".getBytes(StandardCharsets.UTF_8);
+		StreamingTransferable transferable = new StreamingTransferable(
+			() -> new StringReader("\u00e4"), StreamingTransferable
+				.readerOf(() -> new ByteArrayInputStream(html), StandardCharsets.UTF_8),
+			null);
+		assertEquals("<b>\u00e4</b>",
+			transferable.getTransferData(StreamingTransferable.HTML_STRING_FLAVOR));
+	}
+
+	/**
+	 * Test method for {@link StreamingTransferable#lostOwnership(Clipboard,
+	 * java.awt.datatransfer.Transferable)}
+	 */
+	@Test
+	public void testLostOwnership()
+	{
+		StreamingTransferable transferable = StreamingTransferable
+			.ofText(() -> new StringReader("foo"));
+		assertTrue(transferable.isDataFlavorSupported(DataFlavor.stringFlavor));
+		transferable.lostOwnership(new Clipboard("test"), transferable);
+		assertTrue(transferable.isReleased());
+		assertEquals(0, transferable.getTransferDataFlavors().length);
+		assertThrows(IOException.class,
+			() -> transferable.getTransferData(DataFlavor.stringFlavor));
+	}
+}
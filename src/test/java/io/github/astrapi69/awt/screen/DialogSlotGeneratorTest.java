@@ -0,0 +1,113 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.screen;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Insets;
+import java.awt.Rectangle;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link DialogSlotGenerator}
+ */
+public class DialogSlotGeneratorTest
+{
+
+	private static DialogSlotGenerator newDialogSlotGenerator()
+	{
+		ScreenTopology screenTopology = ScreenTopology.of(new String[] { "left", "right" },
+			new Rectangle[] { new Rectangle(0, 0, 1000, 540), new Rectangle(1000, 0, 500, 500) },
+			new Insets[] { new Insets(0, 0, 40, 0), new Insets(0, 0, 0, 0) }, null);
+		return new DialogSlotGenerator(screenTopology, 250, 250);
+	}
+
+	/**
+	 * Test method for {@link DialogSlotGenerator#getSlotPosition(int)}
+	 */
+	@Test
+	public void testGetSlotPosition()
+	{
+		DialogSlotGenerator generator = newDialogSlotGenerator();
+		// 4x2 slots on the left screen without the insets and 2x2 slots on the right screen
+		assertEquals(12, generator.getSlotCount());
+		assertEquals(PackedGeometry.pack(0, 0), generator.getSlotPosition(0));
+		assertEquals(PackedGeometry.pack(750, 0), generator.getSlotPosition(3));
+		assertEquals(PackedGeometry.pack(0, 250), generator.getSlotPosition(4));
+		assertEquals(PackedGeometry.pack(1000, 0), generator.getSlotPosition(8));
+		assertEquals(PackedGeometry.pack(1250, 250), generator.getSlotPosition(11));
+		assertThrows(IndexOutOfBoundsException.class, () -> generator.getSlotPosition(12));
+	}
+
+	/**
+	 * Test method for {@link DialogSlotGenerator#occupyNextFreeSlot()}
+	 */
+	@Test
+	public void testOccupyNextFreeSlot()
+	{
+		DialogSlotGenerator generator = newDialogSlotGenerator();
+		generator.occupy(1);
+		assertEquals(0, generator.occupyNextFreeSlot());
+		assertEquals(2, generator.occupyNextFreeSlot());
+		assertEquals(3, generator.getCursor());
+		generator.release(0);
+		assertFalse(generator.isOccupied(0));
+		assertEquals(0, generator.occupyNextFreeSlot());
+		assertEquals(3, generator.occupyNextFreeSlot());
+		for (int i = 4; i < 12; i++)
+		{
+			assertEquals(i, generator.occupyNextFreeSlot());
+		}
+		assertEquals(-1, generator.occupyNextFreeSlot());
+		assertTrue(generator.isOccupied(11));
+	}
+
+	/**
+	 * Test method for {@link DialogSlotGenerator#iterator(int)} and
+	 * {@link DialogSlotGenerator#freeSlots(int)}
+	 */
+	@Test
+	public void testIterateFreeSlots()
+	{
+		DialogSlotGenerator generator = newDialogSlotGenerator();
+		generator.occupy(0);
+		generator.occupy(2);
+		assertArrayEquals(new int[] { 1, 3, 4 }, generator.freeSlots(0).limit(3).toArray());
+
+		DialogSlotGenerator.SlotIterator iterator = generator.iterator(0);
+		assertEquals(PackedGeometry.pack(250, 0), iterator.nextLong());
+		assertEquals(1, iterator.getLastSlot());
+		// resume from the cursor
+		iterator = generator.iterator(iterator.getCursor());
+		assertEquals(PackedGeometry.pack(750, 0), iterator.nextLong());
+		assertEquals(8, generator.freePositions(iterator.getCursor()).count());
+	}
+
+}
@@ -0,0 +1,127 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.screen;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.awt.Rectangle;
+import java.lang.management.ManagementFactory;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * The unit test class for the class {@link PackedGeometry} and the allocation free screen queries
+ * of {@link ScreenSizeExtensions} and {@link ScreenTopology}
+ */
+public class PackedGeometryTest
+{
+
+	@AfterEach
+	public void tearDown()
+	{
+		ScreenTopology.invalidate();
+	}
+
+	/**
+	 * Test method for {@link PackedGeometry#pack(int, int)}
+	 */
+	@Test
+	public void testPack()
+	{
+		long packed = PackedGeometry.pack(2560, 1440);
+		assertEquals(2560, PackedGeometry.getWidth(packed));
+		assertEquals(1440, PackedGeometry.getHeight(packed));
+
+		packed = PackedGeometry.pack(-1920, -1);
+		assertEquals(-1920, PackedGeometry.getX(packed));
+		assertEquals(-1, PackedGeometry.getY(packed));
+	}
+
+	/**
+	 * Test method for {@link ScreenSizeExtensions#getPackedScreenSize()} and
+	 * {@link ScreenSizeExtensions#getScreenBounds(int, Rectangle)}
+	 */
+	@Test
+	public void testScreenQueries()
+	{
+		ScreenTopology.install(ScreenTopologyTest.newDualScreenTopology(2560));
+		long packed = ScreenSizeExtensions.getPackedScreenSize();
+		assertEquals(1920, PackedGeometry.getWidth(packed));
+		assertEquals(1080, PackedGeometry.getHeight(packed));
+
+		Rectangle result = new Rectangle();
+		assertSame(result, ScreenSizeExtensions.getScreenBounds(1, result));
+		assertEquals(new Rectangle(1920, 0, 2560, 1080), result);
+		assertArrayEquals(new int[] { 1920, 0, 2560, 1080 },
+			ScreenSizeExtensions.getScreenBounds(1, new int[4]));
+	}
+
+	/**
+	 * Test that the primitive screen queries do not allocate any objects
+	 */
+	@Test
+	public void testScreenQueriesAllocateNothing()
+	{
+		java.lang.management.ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+		assumeTrue(threadMXBean instanceof ThreadMXBean);
+		ThreadMXBean allocationBean = (ThreadMXBean)threadMXBean;
+		assumeTrue(allocationBean.isThreadAllocatedMemorySupported());
+		allocationBean.setThreadAllocatedMemoryEnabled(true);
+
+		ScreenTopology.install(ScreenTopologyTest.newDualScreenTopology(2560));
+		Rectangle rectangle = new Rectangle();
+		int[] bounds = new int[4];
+		// warm up
+		long checksum = runScreenQueries(rectangle, bounds, 20_000);
+
+		long before = allocationBean.getCurrentThreadAllocatedBytes();
+		checksum += runScreenQueries(rectangle, bounds, 100_000);
+		long allocated = allocationBean.getCurrentThreadAllocatedBytes() - before;
+
+		assertTrue(checksum != 0);
+		assertTrue(allocated < 1024, "allocated " + allocated + " bytes");
+	}
+
+	private long runScreenQueries(Rectangle rectangle, int[] bounds, int iterations)
+	{
+		long checksum = 0;
+		for (int i = 0; i < iterations; i++)
+		{
+			checksum += PackedGeometry.getWidth(ScreenSizeExtensions.getPackedScreenSize());
+			checksum += ScreenSizeExtensions.getScreenBounds(i & 1, rectangle).width;
+			checksum += ScreenSizeExtensions.getScreenBounds(i & 1, bounds)[3];
+			checksum += ScreenSizeExtensions.getScreenID(i % 4000, 500);
+		}
+		return checksum;
+	}
+
+}
@@ -0,0 +1,133 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.screen;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.awt.Insets;
+import java.awt.Rectangle;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.awt.screen.ScreenTopologyTest.TestGraphicsDevice;
+
+/**
+ * The unit test class for the class {@link ScreenScaleExtensions}
+ */
+public class ScreenScaleExtensionsTest
+{
+
+	@AfterEach
+	public void tearDown()
+	{
+		ScreenTopology.resetEnvironment();
+		ScreenTopology
+			.setDeviceCheckIntervalMillis(ScreenTopology.DEFAULT_DEVICE_CHECK_INTERVAL_MILLIS);
+		ScreenTopology.invalidate();
+	}
+
+	/**
+	 * Test method for {@link ScreenScaleExtensions#toDevicePixels(ScreenTopology, int, int[])} and
+	 * {@link ScreenScaleExtensions#toLogicalCoordinates(ScreenTopology, int, int[])}
+	 */
+	@Test
+	public void testFlatRoundTrip()
+	{
+		ScreenTopology screenTopology = ScreenTopologyTest.newDualScreenTopology(1920);
+		int[] rectangles = { 1920, 0, 800, 600, 2020, 100, 400, 300 };
+		ScreenScaleExtensions.toDevicePixels(screenTopology, 1, rectangles);
+		assertArrayEquals(new int[] { 0, 0, 1600, 1200, 200, 200, 800, 600 }, rectangles);
+		ScreenScaleExtensions.toLogicalCoordinates(screenTopology, 1, rectangles);
+		assertArrayEquals(new int[] { 1920, 0, 800, 600, 2020, 100, 400, 300 }, rectangles);
+	}
+
+	/**
+	 * Test method for
+	 * {@link ScreenScaleExtensions#migrate(ScreenTopology, int, int, Rectangle[])}
+	 */
+	@Test
+	public void testMigrate()
+	{
+		ScreenTopology screenTopology = ScreenTopologyTest.newDualScreenTopology(1920);
+		Rectangle[] rectangles = { new Rectangle(100, 50, 800, 600),
+				new Rectangle(0, 0, 1920, 1080) };
+		ScreenScaleExtensions.migrate(screenTopology, 0, 1, rectangles);
+		// the second screen has a scale factor of 2
+		assertEquals(new Rectangle(1970, 25, 400, 300), rectangles[0]);
+		assertEquals(new Rectangle(1920, 0, 960, 540), rectangles[1]);
+		ScreenScaleExtensions.migrate(screenTopology, 1, 0, rectangles);
+		assertEquals(new Rectangle(100, 50, 800, 600), rectangles[0]);
+	}
+
+	/**
+	 * Test method for {@link ScreenScaleExtensions#toDevicePixels(ScreenTopology, int, int[])}
+	 * with a fractional scale factor where adjacent rectangles keep their shared edge
+	 */
+	@Test
+	public void testFractionalScaleKeepsEdges()
+	{
+		ScreenTopology screenTopology = ScreenTopology.of(new String[] { ":0.0", ":0.1" },
+			new Rectangle[] { new Rectangle(0, 0, 1920, 1080),
+					new Rectangle(1920, 0, 1280, 720) },
+			new Insets[] { new Insets(0, 0, 0, 0), new Insets(0, 0, 0, 0) },
+			new double[] { 1.0d, 1.5d });
+		int[] rectangles = { 1921, 0, 1, 1, 1922, 0, 1, 1 };
+		ScreenScaleExtensions.toDevicePixels(screenTopology, 1, rectangles);
+		// the right edge of the first rectangle is the left edge of the second one
+		assertArrayEquals(new int[] { 2, 0, 1, 2, 3, 0, 2, 2 }, rectangles);
+		Rectangle[] adjacent = { new Rectangle(1921, 0, 1, 1), new Rectangle(1922, 0, 1, 1) };
+		ScreenScaleExtensions.toDevicePixels(screenTopology, 1, adjacent);
+		assertEquals(adjacent[0].x + adjacent[0].width, adjacent[1].x);
+	}
+
+	/**
+	 * Test method for {@link ScreenScaleExtensions#toDevicePixels(int, int[])},
+	 * {@link ScreenScaleExtensions#toLogicalCoordinates(int, int[])} and
+	 * {@link ScreenScaleExtensions#migrate(int, int, int[])} with the current screen topology
+	 */
+	@Test
+	public void testFlatWithCurrentScreenTopology()
+	{
+		TestGraphicsDevice monitor = new TestGraphicsDevice(":0.1",
+			new Rectangle(1920, 0, 1920, 1080));
+		monitor.setScale(2.0d);
+		ScreenTopologyTest.installGraphicsEnvironment(
+			new TestGraphicsDevice(":0.0", new Rectangle(0, 0, 1920, 1080)), monitor);
+		int[] rectangles = { 1920, 0, 800, 600 };
+		ScreenScaleExtensions.toDevicePixels(1, rectangles);
+		assertArrayEquals(new int[] { 0, 0, 1600, 1200 }, rectangles);
+		ScreenScaleExtensions.toLogicalCoordinates(1, rectangles);
+		assertArrayEquals(new int[] { 1920, 0, 800, 600 }, rectangles);
+
+		int[] migrated = { 100, 50, 800, 600 };
+		ScreenScaleExtensions.migrate(0, 1, migrated);
+		assertArrayEquals(new int[] { 1970, 25, 400, 300 }, migrated);
+		ScreenScaleExtensions.migrate(1, 0, migrated);
+		assertArrayEquals(new int[] { 100, 50, 800, 600 }, migrated);
+	}
+
+}
@@ -0,0 +1,213 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.screen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.awt.AWTEvent;
+import java.awt.Container;
+import java.awt.Dimension;
+import java.awt.EventQueue;
+import java.awt.GraphicsEnvironment;
+import java.awt.Rectangle;
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.swing.JFrame;
+import javax.swing.JPanel;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.awt.screen.position.ComponentPositionModel;
+
+/**
+ * The unit test class for the positioning methods of the class {@link ScreenSizeExtensions}
+ */
+public class ScreenSizeExtensionsPositionTest
+{
+
+	/**
+	 * A container that counts the validations
+	 */
+	static final class CountingContainer extends Container
+	{
+
+		private static final long serialVersionUID = 1L;
+
+		int validateCount;
+
+		@Override
+		public void validate()
+		{
+			validateCount++;
+			super.validate();
+		}
+	}
+
+	/**
+	 * A panel that records the event dispatch thread event that positioned it
+	 */
+	static final class RecordingPanel extends JPanel
+	{
+
+		private static final long serialVersionUID = 1L;
+
+		final List<AWTEvent> events = new ArrayList<>();
+
+		int setBoundsCount;
+
+		@Override
+		public void setBounds(int x, int y, int width, int height)
+		{
+			// the super constructor can call this method before the fields are initialized
+			if (events != null)
+			{
+				setBoundsCount++;
+				// the current event is null outside of the event dispatch thread
+				events.add(EventQueue.getCurrentEvent());
+			}
+			super.setBounds(x, y, width, height);
+		}
+	}
+
+	/**
+	 * Test method for
+	 * {@link ScreenSizeExtensions#setComponentPosition(java.awt.Component, ComponentPositionModel)}
+	 */
+	@Test
+	public void testSetComponentPosition() throws InterruptedException, InvocationTargetException
+	{
+		RecordingPanel panel = new RecordingPanel();
+		EventQueue.invokeAndWait(() -> ScreenSizeExtensions.setComponentPosition(panel,
+			new ComponentPositionModel(300, 200, 10, 20)));
+		assertEquals(new Rectangle(10, 20, 300, 200), panel.getBounds());
+		assertEquals(new Dimension(300, 200), panel.getPreferredSize());
+		assertEquals(1, panel.setBoundsCount);
+	}
+
+	/**
+	 * Test method for {@link ScreenSizeExtensions#setComponentPositions(Map)} called outside of
+	 * the event dispatch thread
+	 */
+	@Test
+	public void testSetComponentPositions() throws InterruptedException, InvocationTargetException
+	{
+		assertFalse(EventQueue.isDispatchThread());
+		CountingContainer container = new CountingContainer();
+		Map<RecordingPanel, ComponentPositionModel> positions = new LinkedHashMap<>();
+		for (int i = 0; i < 10; i++)
+		{
+			RecordingPanel panel = new RecordingPanel();
+			container.add(panel);
+			positions.put(panel, new ComponentPositionModel(100 + i, 50 + i, 10 * i, 20 * i));
+		}
+		ScreenSizeExtensions.setComponentPositions(positions);
+		// wait until the batch task is processed
+		EventQueue.invokeAndWait(() -> {
+		});
+
+		AWTEvent batchEvent = null;
+		for (Map.Entry<RecordingPanel, ComponentPositionModel> entry : positions.entrySet())
+		{
+			RecordingPanel panel = entry.getKey();
+			ComponentPositionModel model = entry.getValue();
+			assertEquals(new Rectangle(model.getXPosition(), model.getYPosition(),
+				model.getWidth(), model.getHeight()), panel.getBounds());
+			assertEquals(1, panel.setBoundsCount);
+			// all components are positioned in the same event dispatch thread task
+			AWTEvent event = panel.events.get(0);
+			assertNotNull(event);
+			if (batchEvent == null)
+			{
+				batchEvent = event;
+			}
+			assertSame(batchEvent, event);
+		}
+		// the common parent is validated once after all components are positioned
+		assertEquals(1, container.validateCount);
+	}
+
+	/**
+	 * Test method for {@link ScreenSizeExtensions#setComponentPositions(Map)} called on the event
+	 * dispatch thread
+	 */
+	@Test
+	public void testSetComponentPositionsOnEventDispatchThread()
+		throws InterruptedException, InvocationTargetException
+	{
+		CountingContainer container = new CountingContainer();
+		RecordingPanel first = new RecordingPanel();
+		RecordingPanel second = new RecordingPanel();
+		container.add(first);
+		container.add(second);
+		Map<RecordingPanel, ComponentPositionModel> positions = new LinkedHashMap<>();
+		positions.put(first, new ComponentPositionModel(100, 50, 0, 0));
+		positions.put(second, new ComponentPositionModel(200, 60, 100, 0));
+		EventQueue.invokeAndWait(() -> {
+			ScreenSizeExtensions.setComponentPositions(positions);
+			// the components are positioned immediately
+			assertEquals(new Rectangle(100, 0, 200, 60), second.getBounds());
+		});
+		assertEquals(new Rectangle(0, 0, 100, 50), first.getBounds());
+		assertEquals(1, container.validateCount);
+	}
+
+	/**
+	 * Test method for {@link ScreenSizeExtensions#maximizeToUsableArea(java.awt.Component)} and
+	 * {@link ScreenSizeExtensions#centralizeInUsableArea(java.awt.Component, int, int)}
+	 */
+	@Test
+	public void testUsableAreaWithComponent()
+		throws InterruptedException, InvocationTargetException
+	{
+		Assumptions.assumeFalse(GraphicsEnvironment.isHeadless());
+		EventQueue.invokeAndWait(() -> {
+			JFrame frame = new JFrame();
+			try
+			{
+				JPanel panel = new JPanel();
+				frame.add(panel);
+				Rectangle usableBounds = ScreenSizeExtensions.getUsableScreenBounds(frame);
+				ScreenSizeExtensions.maximizeToUsableArea(panel);
+				assertEquals(usableBounds, frame.getBounds());
+				ScreenSizeExtensions.centralizeInUsableArea(panel, 4, 4);
+				assertEquals(new Rectangle(usableBounds.x + usableBounds.width / 4,
+					usableBounds.y + usableBounds.height / 4, usableBounds.width / 4,
+					usableBounds.height / 4), frame.getBounds());
+			}
+			finally
+			{
+				frame.dispose();
+			}
+		});
+	}
+}
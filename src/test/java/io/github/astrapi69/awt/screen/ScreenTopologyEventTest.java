@@ -0,0 +1,66 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.screen;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.awt.Rectangle;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link ScreenTopologyEvent}
+ */
+public class ScreenTopologyEventTest
+{
+
+	/**
+	 * Test method for the constructor of {@link ScreenTopologyEvent}
+	 */
+	@Test
+	public void testDifferences()
+	{
+		ScreenTopology oldScreenTopology = ScreenTopology.of(
+			new String[] { "laptop", "dock-left", "dock-right" },
+			new Rectangle[] { new Rectangle(0, 0, 1920, 1200), new Rectangle(1920, 0, 2560, 1440),
+					new Rectangle(4480, 0, 2560, 1440) },
+			null, null);
+		ScreenTopology newScreenTopology = ScreenTopology.of(
+			new String[] { "dock-left", "laptop", "beamer" },
+			new Rectangle[] { new Rectangle(1920, 0, 2560, 1440), new Rectangle(0, 0, 1920, 1200),
+					new Rectangle(-1024, 0, 1024, 768) },
+			null, new double[] { 1.0d, 2.0d, 1.0d });
+
+		ScreenTopologyEvent event = new ScreenTopologyEvent(oldScreenTopology, newScreenTopology);
+		assertSame(oldScreenTopology, event.getOldScreenTopology());
+		assertSame(newScreenTopology, event.getNewScreenTopology());
+		assertArrayEquals(new int[] { 2 }, event.getAddedScreens());
+		assertArrayEquals(new int[] { 2 }, event.getRemovedScreens());
+		// the laptop screen changed the scale factor
+		assertArrayEquals(new int[] { 1 }, event.getMovedScreens());
+	}
+
+}
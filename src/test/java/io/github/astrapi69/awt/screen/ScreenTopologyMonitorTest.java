@@ -0,0 +1,191 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.screen;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.awt.Insets;
+import java.awt.Rectangle;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.awt.screen.ScreenTopologyTest.TestGraphicsDevice;
+import io.github.astrapi69.awt.screen.ScreenTopologyTest.TestGraphicsEnvironment;
+
+/**
+ * The unit test class for the class {@link ScreenTopologyMonitor}
+ */
+public class ScreenTopologyMonitorTest
+{
+
+	private final BlockingQueue<ScreenTopologyEvent> events = new LinkedBlockingQueue<>();
+
+	private final ScreenTopologyListener listener = events::add;
+
+	private volatile Insets screenInsets = new Insets(0, 0, 40, 0);
+
+	private TestGraphicsDevice laptop;
+
+	private TestGraphicsEnvironment graphicsEnvironment;
+
+	@BeforeEach
+	public void setUp()
+	{
+		laptop = new TestGraphicsDevice(":0.0", new Rectangle(0, 0, 1366, 768));
+		graphicsEnvironment = ScreenTopologyTest.installGraphicsEnvironment(laptop);
+		ScreenTopology.screenInsetsReader = configuration -> screenInsets;
+		ScreenTopologyMonitor.setPollIntervalMillis(10);
+		ScreenTopologyMonitor.setDebounceMillis(10);
+	}
+
+	@AfterEach
+	public void tearDown()
+	{
+		ScreenTopologyMonitor.removeScreenTopologyListener(listener);
+		ScreenTopologyMonitor
+			.setPollIntervalMillis(ScreenTopologyMonitor.DEFAULT_POLL_INTERVAL_MILLIS);
+		ScreenTopologyMonitor.setDebounceMillis(ScreenTopologyMonitor.DEFAULT_DEBOUNCE_MILLIS);
+		ScreenTopology.resetEnvironment();
+		ScreenTopology
+			.setDeviceCheckIntervalMillis(ScreenTopology.DEFAULT_DEVICE_CHECK_INTERVAL_MILLIS);
+		ScreenTopology.invalidate();
+	}
+
+	/**
+	 * Test method for {@link ScreenTopologyMonitor} with added, moved and removed screens
+	 */
+	@Test
+	public void testScreenTopologyChanges() throws InterruptedException
+	{
+		ScreenTopology initial = ScreenTopology.getCurrent();
+		ScreenTopologyMonitor.addScreenTopologyListener(listener);
+
+		// an unchanged topology is polled without events
+		assertNull(events.poll(200, TimeUnit.MILLISECONDS));
+
+		// plug in a monitor
+		TestGraphicsDevice monitor = new TestGraphicsDevice(":0.1",
+			new Rectangle(1366, 0, 1920, 1080));
+		graphicsEnvironment.setScreenDevices(laptop, monitor);
+		ScreenTopologyEvent event = events.poll(5, TimeUnit.SECONDS);
+		assertNotNull(event);
+		assertSame(initial, event.getOldScreenTopology());
+		assertArrayEquals(new int[] { 1 }, event.getAddedScreens());
+		assertSame(event.getNewScreenTopology(), ScreenTopology.getCurrent());
+		assertEquals(new Rectangle(1366, 0, 1920, 1040),
+			ScreenTopology.getCurrent().getUsableBounds(1));
+
+		// move the monitor to the left side
+		monitor.setBounds(new Rectangle(-1920, 0, 1920, 1080));
+		event = events.poll(5, TimeUnit.SECONDS);
+		assertNotNull(event);
+		assertArrayEquals(new int[] { 1 }, event.getMovedScreens());
+		assertEquals(-1920, ScreenTopology.getCurrent().getX(1));
+
+		// unplug the monitor
+		graphicsEnvironment.setScreenDevices(laptop);
+		event = events.poll(5, TimeUnit.SECONDS);
+		assertNotNull(event);
+		assertArrayEquals(new int[] { 1 }, event.getRemovedScreens());
+		assertEquals(1, ScreenTopology.getCurrent().getScreenCount());
+	}
+
+	/**
+	 * Test method for {@link ScreenTopologyMonitor} with changed insets and scale factors of an
+	 * unchanged screen
+	 */
+	@Test
+	public void testInsetsAndScaleChanges() throws InterruptedException
+	{
+		ScreenTopology initial = ScreenTopology.getCurrent();
+		ScreenTopologyMonitor.addScreenTopologyListener(listener);
+		assertNull(events.poll(200, TimeUnit.MILLISECONDS));
+
+		// move the taskbar to the left side
+		screenInsets = new Insets(0, 60, 0, 0);
+		ScreenTopologyEvent event = events.poll(5, TimeUnit.SECONDS);
+		assertNotNull(event);
+		assertSame(initial, event.getOldScreenTopology());
+		assertArrayEquals(new int[] { 0 }, event.getMovedScreens());
+		assertEquals(new Rectangle(60, 0, 1306, 768),
+			ScreenTopology.getCurrent().getUsableBounds(0));
+
+		// change the scale factor
+		laptop.setScale(1.5);
+		event = events.poll(5, TimeUnit.SECONDS);
+		assertNotNull(event);
+		assertArrayEquals(new int[] { 0 }, event.getMovedScreens());
+		assertEquals(1.5, ScreenTopology.getCurrent().getScaleX(0));
+	}
+
+	/**
+	 * Test method for {@link ScreenTopologyMonitor} with a failing listener that does not prevent
+	 * the delivery to the other listeners
+	 */
+	@Test
+	public void testFailingListener() throws InterruptedException
+	{
+		ScreenTopologyListener failingListener = event -> {
+			throw new IllegalStateException("listener failure");
+		};
+		ScreenTopologyMonitor.addScreenTopologyListener(failingListener);
+		ScreenTopologyMonitor.addScreenTopologyListener(listener);
+		try
+		{
+			// wait until the monitor has taken its initial snapshot
+			assertNull(events.poll(200, TimeUnit.MILLISECONDS));
+			graphicsEnvironment.setScreenDevices(laptop,
+				new TestGraphicsDevice(":0.1", new Rectangle(1366, 0, 1920, 1080)));
+			assertNotNull(events.poll(5, TimeUnit.SECONDS));
+		}
+		finally
+		{
+			ScreenTopologyMonitor.removeScreenTopologyListener(failingListener);
+		}
+	}
+
+	/**
+	 * Test method for {@link ScreenTopologyMonitor#removeScreenTopologyListener} that stops the
+	 * monitor before a change is published
+	 */
+	@Test
+	public void testNoEventsAfterRemove() throws InterruptedException
+	{
+		ScreenTopologyMonitor.addScreenTopologyListener(listener);
+		ScreenTopologyMonitor.removeScreenTopologyListener(listener);
+		graphicsEnvironment.setScreenDevices(laptop,
+			new TestGraphicsDevice(":0.1", new Rectangle(1366, 0, 1920, 1080)));
+		assertNull(events.poll(200, TimeUnit.MILLISECONDS));
+	}
+}
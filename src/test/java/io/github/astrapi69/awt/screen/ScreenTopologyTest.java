@@ -0,0 +1,463 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.screen;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.GraphicsConfiguration;
+import java.awt.GraphicsDevice;
+import java.awt.GraphicsEnvironment;
+import java.awt.Insets;
+import java.awt.Rectangle;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link ScreenTopology}
+ */
+public class ScreenTopologyTest
+{
+
+	static ScreenTopology newDualScreenTopology(int secondScreenWidth)
+	{
+		return ScreenTopology.of(new String[] { ":0.0", ":0.1" },
+			new Rectangle[] { new Rectangle(0, 0, 1920, 1080),
+					new Rectangle(1920, 0, secondScreenWidth, 1080) },
+			new Insets[] { new Insets(0, 0, 40, 0), new Insets(0, 0, 0, 0) },
+			new double[] { 1.0d, 2.0d });
+	}
+
+	/**
+	 * Installs a {@link TestGraphicsEnvironment} with the given screen devices as the graphics
+	 * environment of {@link ScreenTopology}
+	 *
+	 * @param graphicsDevices
+	 *            the screen devices
+	 * @return the installed graphics environment
+	 */
+	static TestGraphicsEnvironment installGraphicsEnvironment(GraphicsDevice... graphicsDevices)
+	{
+		TestGraphicsEnvironment graphicsEnvironment = new TestGraphicsEnvironment(
+			graphicsDevices);
+		ScreenTopology.graphicsEnvironmentSupplier = () -> graphicsEnvironment;
+		ScreenTopology.screenInsetsReader = configuration -> new Insets(0, 0, 40, 0);
+		ScreenTopology.setDeviceCheckIntervalMillis(0);
+		return graphicsEnvironment;
+	}
+
+	@AfterEach
+	public void tearDown()
+	{
+		ScreenTopology.resetEnvironment();
+		ScreenTopology
+			.setDeviceCheckIntervalMillis(ScreenTopology.DEFAULT_DEVICE_CHECK_INTERVAL_MILLIS);
+		ScreenTopology.invalidate();
+		ScreenTopology.resetStatistics();
+	}
+
+	/**
+	 * Test method for {@link ScreenTopology#of(String[], Rectangle[], Insets[], double[])}
+	 */
+	@Test
+	public void testOf()
+	{
+		ScreenTopology screenTopology = newDualScreenTopology(2560);
+		assertEquals(2, screenTopology.getScreenCount());
+		assertEquals(0, screenTopology.getDefaultScreenIndex());
+		assertEquals(":0.1", screenTopology.getScreenIdentity(1));
+		assertEquals(1920, screenTopology.getX(1));
+		assertEquals(2560, screenTopology.getWidth(1));
+		assertEquals(1080, screenTopology.getHeight(1));
+		assertEquals(new Insets(0, 0, 40, 0), screenTopology.getInsets(0));
+		assertEquals(new Rectangle(0, 0, 1920, 1040), screenTopology.getUsableBounds(0));
+		assertEquals(new Rectangle(1920, 0, 2560, 1080), screenTopology.getUsableBounds(1));
+		assertEquals(2.0d, screenTopology.getScaleX(1));
+		assertEquals(2.0d, screenTopology.getScaleY(1));
+		assertEquals(-1, screenTopology.indexOf((GraphicsDevice)null));
+		assertEquals(-1, screenTopology.indexOf((GraphicsConfiguration)null));
+		// returned bounds are copies
+		screenTopology.getBounds(0).width = 1;
+		assertEquals(1920, screenTopology.getWidth(0));
+	}
+
+	/**
+	 * Test method for {@link ScreenTopology#hasSameLayout(ScreenTopology)}
+	 */
+	@Test
+	public void testHasSameLayout()
+	{
+		ScreenTopology screenTopology = newDualScreenTopology(2560);
+		assertTrue(screenTopology.hasSameLayout(screenTopology));
+		assertTrue(screenTopology.hasSameLayout(newDualScreenTopology(2560)));
+		assertFalse(screenTopology.hasSameLayout(newDualScreenTopology(1920)));
+		assertFalse(screenTopology.hasSameLayout(null));
+	}
+
+	/**
+	 * Test method for {@link ScreenTopology#getCurrent()} with the hit and miss counters
+	 */
+	@Test
+	public void testGetCurrent()
+	{
+		ScreenTopology screenTopology = newDualScreenTopology(2560);
+		assertTrue(ScreenTopology.install(screenTopology));
+		assertFalse(ScreenTopology.install(newDualScreenTopology(2560)));
+		assertSame(screenTopology, ScreenTopology.getCurrent());
+		assertSame(screenTopology, ScreenTopology.getCurrent());
+		assertEquals(2, ScreenTopology.getHitCount());
+		assertEquals(0, ScreenTopology.getMissCount());
+		assertEquals(1080, ScreenSizeExtensions.getFirstScreenHeight());
+		assertEquals(1920, ScreenSizeExtensions.getFirstScreenWidth());
+		assertTrue(GraphicsDeviceExtensions.isScreenAvailableToShow(1));
+		assertFalse(GraphicsDeviceExtensions.isScreenAvailableToShow(2));
+
+		ScreenTopology changedScreenTopology = newDualScreenTopology(1920);
+		assertTrue(ScreenTopology.install(changedScreenTopology));
+		assertNotSame(screenTopology, ScreenTopology.getCurrent());
+	}
+
+	/**
+	 * Test method for {@link ScreenTopology#getCurrent()} with screen devices that are added and
+	 * removed
+	 */
+	@Test
+	public void testGetCurrentDetectsChangedScreenDevices()
+	{
+		TestGraphicsDevice laptop = new TestGraphicsDevice(":0.0", new Rectangle(0, 0, 1366, 768));
+		TestGraphicsDevice monitor = new TestGraphicsDevice(":0.1",
+			new Rectangle(1366, 0, 1920, 1080));
+		TestGraphicsEnvironment graphicsEnvironment = installGraphicsEnvironment(laptop);
+
+		ScreenTopology screenTopology = ScreenTopology.getCurrent();
+		assertEquals(1, screenTopology.getScreenCount());
+		assertSame(screenTopology, ScreenTopology.getCurrent());
+		assertEquals(1, ScreenTopology.getMissCount());
+		assertFalse(GraphicsDeviceExtensions.isScreenAvailableToShow(1));
+
+		// plug in a monitor
+		graphicsEnvironment.setScreenDevices(laptop, monitor);
+		assertTrue(GraphicsDeviceExtensions.isScreenAvailableToShow(1));
+		assertEquals(2, ScreenSizeExtensions.getScreenDevices().length);
+		assertEquals(new Rectangle(1366, 0, 1920, 1040),
+			ScreenTopology.getCurrent().getUsableBounds(1));
+		assertEquals(2, ScreenTopology.getMissCount());
+
+		// unplug the monitor
+		graphicsEnvironment.setScreenDevices(laptop);
+		assertFalse(GraphicsDeviceExtensions.isScreenAvailableToShow(1));
+		assertEquals(1, ScreenSizeExtensions.getScreenDevices().length);
+		assertEquals(3, ScreenTopology.getMissCount());
+
+		// change the resolution of the same device
+		laptop.setBounds(new Rectangle(0, 0, 1920, 1200));
+		assertEquals(1920, ScreenTopology.getCurrent().getWidth(0));
+		assertEquals(new Rectangle(0, 0, 1920, 1160),
+			ScreenTopology.getCurrent().getUsableBounds(0));
+		assertEquals(4, ScreenTopology.getMissCount());
+	}
+
+	/**
+	 * Test method for {@link ScreenTopology#indexOf(GraphicsConfiguration)} and
+	 * {@link ScreenTopology#indexOf(GraphicsDevice)}
+	 */
+	@Test
+	public void testIndexOf()
+	{
+		TestGraphicsDevice laptop = new TestGraphicsDevice(":0.0", new Rectangle(0, 0, 1366, 768));
+		TestGraphicsDevice monitor = new TestGraphicsDevice(":0.1",
+			new Rectangle(1366, 0, 1920, 1080));
+		installGraphicsEnvironment(laptop, monitor);
+		ScreenTopology screenTopology = ScreenTopology.getCurrent();
+		assertEquals(0, screenTopology.indexOf(laptop));
+		assertEquals(1, screenTopology.indexOf(monitor));
+		// all configurations of the screen devices are indexed
+		for (GraphicsConfiguration configuration : monitor.getConfigurations())
+		{
+			assertEquals(1, screenTopology.indexOf(configuration));
+		}
+		// a new device object for the same screen is resolved by its identity string
+		TestGraphicsDevice recreatedMonitor = new TestGraphicsDevice(":0.1",
+			new Rectangle(1366, 0, 1920, 1080));
+		assertEquals(1, screenTopology.indexOf(recreatedMonitor));
+		assertEquals(1, screenTopology.indexOf(recreatedMonitor.getDefaultConfiguration()));
+		// an unknown screen
+		TestGraphicsDevice projector = new TestGraphicsDevice(":0.2",
+			new Rectangle(3286, 0, 1024, 768));
+		assertEquals(-1, screenTopology.indexOf(projector));
+		assertEquals(-1, screenTopology.indexOf(projector.getDefaultConfiguration()));
+	}
+
+	/**
+	 * Test method for {@link ScreenTopology#getInsets(GraphicsDevice)} and
+	 * {@link ScreenSizeExtensions#getScreenInsets(GraphicsConfiguration)}
+	 */
+	@Test
+	public void testGetInsetsByDevice()
+	{
+		TestGraphicsDevice laptop = new TestGraphicsDevice(":0.0", new Rectangle(0, 0, 1366, 768));
+		TestGraphicsDevice projector = new TestGraphicsDevice(":0.1",
+			new Rectangle(1366, 0, 1024, 768));
+		installGraphicsEnvironment(laptop);
+		AtomicInteger insetsReadCount = new AtomicInteger();
+		ScreenTopology.screenInsetsReader = configuration -> {
+			insetsReadCount.incrementAndGet();
+			return new Insets(0, 0, 40, 0);
+		};
+		ScreenTopology screenTopology = ScreenTopology.getCurrent();
+		assertEquals(1, insetsReadCount.get());
+		assertEquals(new Insets(0, 0, 40, 0), screenTopology.getInsets(laptop));
+		assertNull(screenTopology.getInsets(projector));
+		assertNull(screenTopology.getInsets((GraphicsDevice)null));
+
+		// the insets of a screen in the snapshot are not read again
+		assertEquals(new Insets(0, 0, 40, 0),
+			ScreenSizeExtensions.getScreenInsets(laptop.getDefaultConfiguration()));
+		assertEquals(new Rectangle(0, 0, 1366, 728),
+			ScreenSizeExtensions.getUsableScreenBounds(laptop.getDefaultConfiguration()));
+		assertEquals(1, insetsReadCount.get());
+		// the insets of a screen that is not in the snapshot are read from the toolkit
+		assertEquals(new Insets(0, 0, 40, 0),
+			ScreenSizeExtensions.getScreenInsets(projector.getDefaultConfiguration()));
+		assertEquals(2, insetsReadCount.get());
+	}
+
+	/**
+	 * Test method for {@link ScreenTopology#getScreenIndexAt(int, int)},
+	 * {@link ScreenTopology#getScreenIndexWithMaxOverlap(int, int, int, int)} and
+	 * {@link ScreenTopology#getNearestScreenIndex(int, int)} with a video wall of 4x4 screens
+	 */
+	@Test
+	public void testScreenIndexQueries()
+	{
+		String[] identities = new String[16];
+		Rectangle[] bounds = new Rectangle[16];
+		for (int i = 0; i < 16; i++)
+		{
+			identities[i] = ":0." + i;
+			bounds[i] = new Rectangle((i % 4) * 1920, (i / 4) * 1080, 1920, 1080);
+		}
+		ScreenTopology screenTopology = ScreenTopology.of(identities, bounds, null, null);
+
+		assertEquals(0, screenTopology.getScreenIndexAt(0, 0));
+		assertEquals(5, screenTopology.getScreenIndexAt(1920, 1080));
+		assertEquals(15, screenTopology.getScreenIndexAt(4 * 1920 - 1, 4 * 1080 - 1));
+		assertEquals(-1, screenTopology.getScreenIndexAt(4 * 1920, 0));
+		assertEquals(-1, screenTopology.getScreenIndexAt(-1, 0));
+
+		assertEquals(1, screenTopology.getScreenIndexWithMaxOverlap(1900, 10, 200, 100));
+		assertEquals(0, screenTopology.getScreenIndexWithMaxOverlap(1800, 10, 200, 100));
+		assertEquals(-1, screenTopology.getScreenIndexWithMaxOverlap(-500, -500, 100, 100));
+
+		assertEquals(0, screenTopology.getNearestScreenIndex(-500, -500));
+		assertEquals(15, screenTopology.getNearestScreenIndex(10000, 10000));
+		assertEquals(3, screenTopology.getNearestScreenIndex(10000, 10));
+	}
+
+	/**
+	 * Test method for {@link ScreenTopology#getScreenIndexAt(int, int)} with screens of different
+	 * sizes that leave gaps in the bounding box
+	 */
+	@Test
+	public void testScreenIndexAtWithGaps()
+	{
+		ScreenTopology screenTopology = ScreenTopology.of(new String[] { "left", "right" },
+			new Rectangle[] { new Rectangle(0, 200, 1280, 1024),
+					new Rectangle(1280, 0, 2560, 1440) },
+			null, null);
+		assertEquals(-1, screenTopology.getScreenIndexAt(100, 100));
+		assertEquals(0, screenTopology.getScreenIndexAt(100, 300));
+		assertEquals(1, screenTopology.getScreenIndexAt(1280, 100));
+		assertEquals(-1, screenTopology.getScreenIndexAt(100, 1300));
+		assertEquals(0, screenTopology.getNearestScreenIndex(100, 100));
+	}
+
+	/**
+	 * A {@link GraphicsEnvironment} with replaceable screen devices for unit tests
+	 */
+	static final class TestGraphicsEnvironment extends GraphicsEnvironment
+	{
+
+		private volatile GraphicsDevice[] screenDevices;
+
+		TestGraphicsEnvironment(GraphicsDevice... screenDevices)
+		{
+			this.screenDevices = screenDevices;
+		}
+
+		void setScreenDevices(GraphicsDevice... screenDevices)
+		{
+			this.screenDevices = screenDevices;
+		}
+
+		@Override
+		public GraphicsDevice[] getScreenDevices()
+		{
+			return screenDevices.clone();
+		}
+
+		@Override
+		public GraphicsDevice getDefaultScreenDevice()
+		{
+			return screenDevices[0];
+		}
+
+		@Override
+		public Graphics2D createGraphics(BufferedImage image)
+		{
+			return image.createGraphics();
+		}
+
+		@Override
+		public Font[] getAllFonts()
+		{
+			return new Font[0];
+		}
+
+		@Override
+		public String[] getAvailableFontFamilyNames()
+		{
+			return new String[0];
+		}
+
+		@Override
+		public String[] getAvailableFontFamilyNames(Locale locale)
+		{
+			return new String[0];
+		}
+	}
+
+	/**
+	 * A {@link GraphicsDevice} with one configuration of changeable bounds for unit tests
+	 */
+	static final class TestGraphicsDevice extends GraphicsDevice
+	{
+
+		private final String identity;
+
+		private final GraphicsConfiguration[] configurations;
+
+		private volatile Rectangle bounds;
+
+		private volatile double scale = 1;
+
+		TestGraphicsDevice(String identity, Rectangle bounds)
+		{
+			this.identity = identity;
+			this.bounds = bounds;
+			this.configurations = new GraphicsConfiguration[] { newConfiguration(),
+					newConfiguration() };
+		}
+
+		private GraphicsConfiguration newConfiguration()
+		{
+			return new GraphicsConfiguration()
+			{
+				@Override
+				public GraphicsDevice getDevice()
+				{
+					return TestGraphicsDevice.this;
+				}
+
+				@Override
+				public ColorModel getColorModel()
+				{
+					return ColorModel.getRGBdefault();
+				}
+
+				@Override
+				public ColorModel getColorModel(int transparency)
+				{
+					return ColorModel.getRGBdefault();
+				}
+
+				@Override
+				public AffineTransform getDefaultTransform()
+				{
+					return AffineTransform.getScaleInstance(scale, scale);
+				}
+
+				@Override
+				public AffineTransform getNormalizingTransform()
+				{
+					return new AffineTransform();
+				}
+
+				@Override
+				public Rectangle getBounds()
+				{
+					return new Rectangle(TestGraphicsDevice.this.bounds);
+				}
+			};
+		}
+
+		void setBounds(Rectangle bounds)
+		{
+			this.bounds = bounds;
+		}
+
+		void setScale(double scale)
+		{
+			this.scale = scale;
+		}
+
+		@Override
+		public int getType()
+		{
+			return TYPE_RASTER_SCREEN;
+		}
+
+		@Override
+		public String getIDstring()
+		{
+			return identity;
+		}
+
+		@Override
+		public GraphicsConfiguration[] getConfigurations()
+		{
+			return configurations.clone();
+		}
+
+		@Override
+		public GraphicsConfiguration getDefaultConfiguration()
+		{
+			return configurations[0];
+		}
+	}
+
+}
@@ -0,0 +1,102 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.screen.position;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.awt.Frame;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link ComponentPositionCodec}
+ */
+public class ComponentPositionCodecTest
+{
+
+	/**
+	 * Test method for {@link ComponentPositionCodec#encode(ComponentPositionModel)} and
+	 * {@link ComponentPositionCodec#decode(byte[])}
+	 */
+	@Test
+	public void testRoundTrip()
+	{
+		ComponentPositionModel model = ComponentPositionModel.builder().width(1024).height(768)
+			.xPosition(-1920).yPosition(Integer.MAX_VALUE).screenID(1)
+			.extendedState(Frame.MAXIMIZED_BOTH).build();
+		byte[] encoded = ComponentPositionCodec.encode(model);
+		assertEquals(ComponentPositionCodec.VERSION_2_MIN_LENGTH, encoded.length);
+		assertEquals(ComponentPositionCodec.VERSION_2, encoded[0]);
+		assertEquals(model, ComponentPositionCodec.decode(encoded));
+
+		ComponentPositionModel onScreen = model.toBuilder().screenIdentity("\\Display2")
+			.relativeXPosition(100).relativeYPosition(-50).build();
+		assertEquals(onScreen,
+			ComponentPositionCodec.decode(ComponentPositionCodec.encode(onScreen)));
+
+		ComponentPositionModel defaults = new ComponentPositionModel(800, 600, 10, 20);
+		ComponentPositionModel decoded = ComponentPositionCodec
+			.decode(ComponentPositionCodec.encode(defaults));
+		assertEquals(-1, decoded.getScreenID());
+		assertEquals(ComponentPositionModel.UNKNOWN_EXTENDED_STATE, decoded.getExtendedState());
+		assertEquals(defaults, decoded);
+	}
+
+	/**
+	 * Test method for {@link ComponentPositionCodec#decode(byte[])} with a position in the
+	 * version 1 format
+	 */
+	@Test
+	public void testDecodeVersion1()
+	{
+		byte[] encoded = ByteBuffer.allocate(ComponentPositionCodec.VERSION_1_LENGTH)
+			.put(ComponentPositionCodec.VERSION_1).putInt(800).putInt(600).putInt(10).putInt(20)
+			.putInt(1).putInt(Frame.MAXIMIZED_BOTH).array();
+		ComponentPositionModel expected = ComponentPositionModel.builder().width(800).height(600)
+			.xPosition(10).yPosition(20).screenID(1).extendedState(Frame.MAXIMIZED_BOTH).build();
+		assertEquals(expected, ComponentPositionCodec.decode(encoded));
+	}
+
+	/**
+	 * Test method for {@link ComponentPositionCodec#decode(byte[])} with invalid input
+	 */
+	@Test
+	public void testDecodeInvalid()
+	{
+		assertNull(ComponentPositionCodec.decode(null));
+		assertNull(ComponentPositionCodec.decode(new byte[0]));
+		byte[] encoded = ComponentPositionCodec
+			.encode(new ComponentPositionModel(800, 600, 10, 20));
+		encoded[0] = 99;
+		assertNull(ComponentPositionCodec.decode(encoded));
+		assertNull(ComponentPositionCodec.decode(new byte[] { ComponentPositionCodec.VERSION_1 }));
+		encoded = ComponentPositionCodec.encode(
+			ComponentPositionModel.builder().screenIdentity("monitor").build());
+		assertNull(ComponentPositionCodec.decode(Arrays.copyOf(encoded, encoded.length - 1)));
+	}
+}
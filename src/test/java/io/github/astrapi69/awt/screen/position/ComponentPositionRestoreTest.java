@@ -0,0 +1,186 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.screen.position;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.awt.Frame;
+import java.awt.GraphicsEnvironment;
+import java.awt.Insets;
+import java.awt.Rectangle;
+import java.awt.Toolkit;
+
+import javax.swing.JFrame;
+
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.awt.screen.ScreenTopology;
+
+/**
+ * The unit test class for the multi monitor aware restore of the class
+ * {@link ComponentPositionStore}
+ */
+public class ComponentPositionRestoreTest
+{
+
+	private static final Insets TASKBAR = new Insets(0, 0, 40, 0);
+
+	/**
+	 * A laptop screen with a 1920x1080 monitor on the right side
+	 */
+	private static final ScreenTopology DOCKED = ScreenTopology.of(
+		new String[] { "laptop", "monitor" },
+		new Rectangle[] { new Rectangle(0, 0, 1366, 768), new Rectangle(1366, 0, 1920, 1080) },
+		new Insets[] { TASKBAR, TASKBAR }, null);
+
+	/**
+	 * The same monitor on the left side of the laptop screen
+	 */
+	private static final ScreenTopology MOVED = ScreenTopology.of(
+		new String[] { "laptop", "monitor" },
+		new Rectangle[] { new Rectangle(0, 0, 1366, 768), new Rectangle(-1920, 0, 1920, 1080) },
+		new Insets[] { TASKBAR, TASKBAR }, null);
+
+	/**
+	 * The laptop screen alone after undocking
+	 */
+	private static final ScreenTopology UNDOCKED = ScreenTopology.of(new String[] { "laptop" },
+		new Rectangle[] { new Rectangle(0, 0, 1366, 768) }, new Insets[] { TASKBAR }, null);
+
+	private static ComponentPositionModel onMonitor(int relativeX, int relativeY, int width,
+		int height)
+	{
+		return ComponentPositionModel.builder().width(width).height(height)
+			.xPosition(1366 + relativeX).yPosition(relativeY).screenID(1)
+			.screenIdentity("monitor").relativeXPosition(relativeX).relativeYPosition(relativeY)
+			.build();
+	}
+
+	/**
+	 * Test method for {@link ComponentPositionStore#resolveBounds} with an unchanged topology
+	 */
+	@Test
+	public void testResolveBoundsOnSameScreen()
+	{
+		assertEquals(new Rectangle(1466, 50, 800, 600),
+			ComponentPositionStore.resolveBounds(onMonitor(100, 50, 800, 600), DOCKED));
+	}
+
+	/**
+	 * Test method for {@link ComponentPositionStore#resolveBounds} with a moved screen that is
+	 * found by its identity
+	 */
+	@Test
+	public void testResolveBoundsOnMovedScreen()
+	{
+		assertEquals(new Rectangle(-1820, 50, 800, 600),
+			ComponentPositionStore.resolveBounds(onMonitor(100, 50, 800, 600), MOVED));
+	}
+
+	/**
+	 * Test method for {@link ComponentPositionStore#resolveBounds} with a removed screen
+	 */
+	@Test
+	public void testResolveBoundsOnRemovedScreen()
+	{
+		// the window is moved onto the nearest screen and clamped to its usable area
+		assertEquals(new Rectangle(566, 50, 800, 600),
+			ComponentPositionStore.resolveBounds(onMonitor(100, 50, 800, 600), UNDOCKED));
+		// a window that is larger than the usable area is shrunk
+		assertEquals(new Rectangle(0, 0, 1366, 728),
+			ComponentPositionStore.resolveBounds(onMonitor(0, 0, 1920, 1040), UNDOCKED));
+	}
+
+	/**
+	 * Test method for {@link ComponentPositionStore#resolveBounds} with a position without a
+	 * screen identity
+	 */
+	@Test
+	public void testResolveBoundsWithoutScreenIdentity()
+	{
+		// the screen with the largest intersection is taken
+		ComponentPositionModel model = new ComponentPositionModel(800, 600, 1200, 500);
+		assertEquals(new Rectangle(1366, 440, 800, 600),
+			ComponentPositionStore.resolveBounds(model, DOCKED));
+		// a position that is far away from all screens is moved to the nearest one
+		model = new ComponentPositionModel(400, 300, 10000, -5000);
+		assertEquals(new Rectangle(2886, 0, 400, 300),
+			ComponentPositionStore.resolveBounds(model, DOCKED));
+	}
+
+	/**
+	 * Test method for {@link ComponentPositionStore#newDefaultPosition}
+	 */
+	@Test
+	public void testNewDefaultPosition()
+	{
+		ComponentPositionModel model = ComponentPositionStore.newDefaultPosition(600, 500,
+			DOCKED);
+		assertEquals(383, model.getXPosition());
+		assertEquals(114, model.getYPosition());
+		assertEquals(600, model.getWidth());
+		assertEquals(500, model.getHeight());
+	}
+
+	/**
+	 * Test method for {@link ComponentPositionStore#storePosition()} and
+	 * {@link ComponentPositionStore#restorePosition()} with a maximized frame
+	 */
+	@Test
+	public void testMaximizedFrame()
+	{
+		Assumptions.assumeFalse(GraphicsEnvironment.isHeadless());
+		Assumptions.assumeTrue(
+			Toolkit.getDefaultToolkit().isFrameStateSupported(Frame.MAXIMIZED_BOTH));
+		JFrame frame = new JFrame();
+		try
+		{
+			InMemoryPositionStorage storage = new InMemoryPositionStorage();
+			ComponentPositionStore store = new ComponentPositionStore(frame,
+				ComponentPositionRestoreTest.class, 500, 500, storage);
+			frame.setBounds(100, 100, 400, 300);
+			store.storePosition();
+			frame.setExtendedState(Frame.MAXIMIZED_BOTH);
+			frame.setBounds(0, 0, 1920, 1080);
+			store.storePosition();
+			ComponentPositionModel stored = storage.load("ComponentPositionRestoreTest");
+			// the normal bounds are stored together with the maximized state
+			assertEquals(400, stored.getWidth());
+			assertEquals(300, stored.getHeight());
+			assertEquals(Frame.MAXIMIZED_BOTH, stored.getExtendedState());
+
+			// a migrated position has an unknown extended state that is not restored
+			storage.store("ComponentPositionRestoreTest",
+				new ComponentPositionModel(300, 200, 10, 20));
+			store.restorePosition();
+			assertEquals(Frame.MAXIMIZED_BOTH, frame.getExtendedState());
+		}
+		finally
+		{
+			frame.dispose();
+		}
+	}
+}
@@ -0,0 +1,136 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.screen.position;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.EventQueue;
+
+import javax.swing.JPanel;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the position tracking of the class {@link ComponentPositionStore}
+ */
+public class ComponentPositionTrackingTest
+{
+
+	/**
+	 * The write behind that records the stored positions without writing them
+	 */
+	private ComponentPositionWriteBehind writeBehind;
+
+	/**
+	 * The tracked component
+	 */
+	private JPanel panel;
+
+	/**
+	 * The store under test
+	 */
+	private ComponentPositionStore store;
+
+	/**
+	 * Creates the tracked store before each test
+	 */
+	@BeforeEach
+	public void setUp()
+	{
+		writeBehind = new ComponentPositionWriteBehind(60_000);
+		panel = new JPanel();
+		panel.setBounds(0, 0, 100, 100);
+		store = new ComponentPositionStore(panel, ComponentPositionTrackingTest.class, 500, 500,
+			new InMemoryPositionStorage());
+		store.setWriteBehind(writeBehind);
+	}
+
+	/**
+	 * Shuts the write behind down after each test
+	 */
+	@AfterEach
+	public void tearDown()
+	{
+		writeBehind.shutdown();
+	}
+
+	private static void settle(long millis) throws Exception
+	{
+		EventQueue.invokeAndWait(() -> {
+		});
+		Thread.sleep(millis);
+		EventQueue.invokeAndWait(() -> {
+		});
+	}
+
+	/**
+	 * Test method for {@link ComponentPositionStore#startTracking(int)} with a burst of move and
+	 * resize events that is stored once
+	 */
+	@Test
+	public void testTrackingCoalescesEvents() throws Exception
+	{
+		EventQueue.invokeAndWait(() -> store.startTracking(50));
+		assertTrue(store.isTracking());
+		EventQueue.invokeAndWait(() -> {
+			for (int i = 1; i <= 200; i++)
+			{
+				panel.setBounds(i, i, 100 + i, 100);
+			}
+		});
+		settle(300);
+		assertEquals(1, writeBehind.getSubmittedCount());
+		assertEquals(200, writeBehind.getPending(store).getXPosition());
+		assertEquals(300, writeBehind.getPending(store).getWidth());
+		EventQueue.invokeAndWait(() -> store.stopTracking());
+		assertFalse(store.isTracking());
+	}
+
+	/**
+	 * Test method for {@link ComponentPositionStore#startTracking(int)} with a component that
+	 * returns to the stored position
+	 */
+	@Test
+	public void testTrackingStoresOnlyChangedPositions() throws Exception
+	{
+		EventQueue.invokeAndWait(() -> store.startTracking(50));
+		EventQueue.invokeAndWait(() -> {
+			panel.setLocation(40, 40);
+			panel.setLocation(0, 0);
+		});
+		settle(300);
+		assertEquals(0, writeBehind.getSubmittedCount());
+		EventQueue.invokeAndWait(() -> {
+			panel.setLocation(40, 40);
+			store.stopTracking();
+		});
+		// a position that has not settled is stored when the tracking stops
+		assertEquals(1, writeBehind.getSubmittedCount());
+	}
+}
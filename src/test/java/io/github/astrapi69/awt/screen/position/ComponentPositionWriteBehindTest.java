@@ -0,0 +1,323 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.screen.position;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import javax.swing.JPanel;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the class {@link ComponentPositionWriteBehind}
+ */
+public class ComponentPositionWriteBehindTest
+{
+
+	/**
+	 * The write behind under test
+	 */
+	private ComponentPositionWriteBehind writeBehind;
+
+	/**
+	 * The storage of the positions
+	 */
+	private final InMemoryPositionStorage storage = new InMemoryPositionStorage();
+
+	/**
+	 * Shuts the write behind down after each test
+	 */
+	@AfterEach
+	public void tearDown()
+	{
+		if (writeBehind != null)
+		{
+			writeBehind.shutdown();
+		}
+	}
+
+	private ComponentPositionStore newStore(JPanel panel, Class<?> clazz)
+	{
+		return new ComponentPositionStore(panel, clazz, 500, 500, storage);
+	}
+
+	private ComponentPositionStore newStore(JPanel panel)
+	{
+		return newStore(panel, ComponentPositionWriteBehindTest.class);
+	}
+
+	/**
+	 * Test method for {@link ComponentPositionWriteBehind#submit(ComponentPositionStore,
+	 * ComponentPositionModel)} with a burst of updates that is written once
+	 */
+	@Test
+	public void testSubmitCoalescesBurst()
+	{
+		writeBehind = new ComponentPositionWriteBehind(60_000);
+		JPanel panel = new JPanel();
+		ComponentPositionStore store = newStore(panel);
+		store.setWriteBehind(writeBehind);
+		for (int i = 0; i < 100; i++)
+		{
+			panel.setBounds(i, 2 * i, 300, 200);
+			store.storePosition();
+		}
+		assertEquals(1, writeBehind.getPendingCount());
+		assertEquals(99, writeBehind.getPending(store).getXPosition());
+		assertEquals(0, writeBehind.getWrittenCount());
+
+		store.flush();
+		assertEquals(0, writeBehind.getPendingCount());
+		assertEquals(100, writeBehind.getSubmittedCount());
+		assertEquals(1, writeBehind.getWrittenCount());
+		assertEquals(99, writeBehind.getSavedWriteCount());
+		ComponentPositionModel stored = store.readPosition();
+		assertEquals(99, stored.getXPosition());
+		assertEquals(198, stored.getYPosition());
+		assertEquals(300, stored.getWidth());
+		assertEquals(200, stored.getHeight());
+	}
+
+	/**
+	 * Test method for {@link ComponentPositionStore#restorePosition()} with a pending position
+	 */
+	@Test
+	public void testRestorePendingPosition()
+	{
+		writeBehind = new ComponentPositionWriteBehind(60_000);
+		JPanel panel = new JPanel();
+		ComponentPositionStore store = newStore(panel);
+		store.setWriteBehind(writeBehind);
+		panel.setBounds(10, 20, 300, 200);
+		store.storePosition();
+		panel.setBounds(0, 0, 1, 1);
+		store.restorePosition();
+		assertEquals(10, panel.getX());
+		assertEquals(300, panel.getWidth());
+	}
+
+	/**
+	 * Test method for the background writes of {@link ComponentPositionWriteBehind}
+	 */
+	@Test
+	public void testWritesBehind() throws InterruptedException
+	{
+		writeBehind = new ComponentPositionWriteBehind(20);
+		JPanel first = new JPanel();
+		JPanel second = new JPanel();
+		ComponentPositionStore firstStore = newStore(first);
+		ComponentPositionStore secondStore = newStore(second, ComponentPositionWriteBehind.class);
+		firstStore.setWriteBehind(writeBehind);
+		secondStore.setWriteBehind(writeBehind);
+		first.setBounds(1, 2, 3, 4);
+		second.setBounds(5, 6, 7, 8);
+		firstStore.storePosition();
+		secondStore.storePosition();
+		long deadline = System.currentTimeMillis() + 5000;
+		while (writeBehind.getWrittenCount() < 2 && System.currentTimeMillis() < deadline)
+		{
+			Thread.sleep(10);
+		}
+		assertEquals(0, writeBehind.getPendingCount());
+		assertEquals(2, writeBehind.getWrittenCount());
+		assertNull(writeBehind.getPending(firstStore));
+		assertEquals(3, firstStore.readPosition().getWidth());
+		assertEquals(8, secondStore.readPosition().getHeight());
+	}
+
+	/**
+	 * The class {@link FailingPositionStorage} fails a number of batches and can run an action
+	 * before it fails
+	 */
+	private static class FailingPositionStorage implements PositionStorage
+	{
+
+		final InMemoryPositionStorage delegate = new InMemoryPositionStorage();
+
+		int failures;
+
+		Runnable beforeFailure;
+
+		@Override
+		public ComponentPositionModel load(String key)
+		{
+			return delegate.load(key);
+		}
+
+		@Override
+		public void store(String key, ComponentPositionModel model)
+		{
+			delegate.store(key, model);
+		}
+
+		@Override
+		public void storeAll(Map<String, ComponentPositionModel> models)
+		{
+			if (failures > 0)
+			{
+				failures--;
+				if (beforeFailure != null)
+				{
+					beforeFailure.run();
+				}
+				throw new IllegalStateException("storage not available");
+			}
+			delegate.storeAll(models);
+		}
+	}
+
+	/**
+	 * Test method for {@link ComponentPositionWriteBehind#flush()} with a failing storage
+	 */
+	@Test
+	public void testFailedWriteIsRetried()
+	{
+		writeBehind = new ComponentPositionWriteBehind(60_000);
+		FailingPositionStorage failingStorage = new FailingPositionStorage();
+		failingStorage.failures = 1;
+		JPanel panel = new JPanel();
+		ComponentPositionStore store = new ComponentPositionStore(panel,
+			ComponentPositionWriteBehindTest.class, 500, 500, failingStorage);
+		store.setWriteBehind(writeBehind);
+		panel.setBounds(10, 20, 300, 200);
+		store.storePosition();
+
+		assertThrows(IllegalStateException.class, () -> writeBehind.flush());
+		assertEquals(1, writeBehind.getPendingCount());
+		assertEquals(0, writeBehind.getWrittenCount());
+		assertEquals(10, writeBehind.getPending(store).getXPosition());
+
+		writeBehind.flush();
+		assertEquals(0, writeBehind.getPendingCount());
+		assertEquals(1, writeBehind.getWrittenCount());
+		assertEquals(10, store.readPosition().getXPosition());
+	}
+
+	/**
+	 * Test method for {@link ComponentPositionWriteBehind#flush()} with a failing storage and a
+	 * newer position that is submitted while the failed batch is written
+	 */
+	@Test
+	public void testFailedWriteKeepsNewerPosition()
+	{
+		writeBehind = new ComponentPositionWriteBehind(60_000);
+		FailingPositionStorage failingStorage = new FailingPositionStorage();
+		failingStorage.failures = 1;
+		JPanel panel = new JPanel();
+		ComponentPositionStore store = new ComponentPositionStore(panel,
+			ComponentPositionWriteBehindTest.class, 500, 500, failingStorage);
+		store.setWriteBehind(writeBehind);
+		panel.setBounds(10, 20, 300, 200);
+		store.storePosition();
+		failingStorage.beforeFailure = () -> {
+			panel.setBounds(40, 50, 300, 200);
+			store.storePosition();
+		};
+
+		assertThrows(IllegalStateException.class, () -> writeBehind.flush());
+		assertEquals(1, writeBehind.getPendingCount());
+		assertEquals(40, writeBehind.getPending(store).getXPosition());
+	}
+
+	/**
+	 * Test method for {@link ComponentPositionWriteBehind#shutdown()}
+	 */
+	@Test
+	public void testShutdownWritesPendingPositions()
+	{
+		writeBehind = new ComponentPositionWriteBehind(60_000);
+		JPanel panel = new JPanel();
+		ComponentPositionStore store = newStore(panel);
+		store.setWriteBehind(writeBehind);
+		panel.setBounds(10, 20, 300, 200);
+		store.storePosition();
+		writeBehind.shutdown();
+		assertEquals(0, writeBehind.getPendingCount());
+		assertEquals(10, store.readPosition().getXPosition());
+	}
+
+	/**
+	 * Test method for {@link ComponentPositionWriteBehind#flush()} with a storage that fails more
+	 * often than the maximum number of retries
+	 */
+	@Test
+	public void testFailedWriteIsDiscardedAfterMaxRetries()
+	{
+		writeBehind = new ComponentPositionWriteBehind(60_000, 1);
+		FailingPositionStorage failingStorage = new FailingPositionStorage();
+		failingStorage.failures = 5;
+		JPanel panel = new JPanel();
+		ComponentPositionStore store = new ComponentPositionStore(panel,
+			ComponentPositionWriteBehindTest.class, 500, 500, failingStorage);
+		store.setWriteBehind(writeBehind);
+		panel.setBounds(10, 20, 300, 200);
+		store.storePosition();
+
+		assertThrows(IllegalStateException.class, () -> writeBehind.flush());
+		assertEquals(1, writeBehind.getPendingCount());
+		assertThrows(IllegalStateException.class, () -> writeBehind.flush());
+		assertEquals(0, writeBehind.getPendingCount());
+		assertEquals(1, writeBehind.getDiscardedCount());
+		assertEquals(0, writeBehind.getWrittenCount());
+	}
+
+	/**
+	 * Test method for {@link ComponentPositionWriteBehind#setFailureHandler(Consumer)} with
+	 * the failures of the writer thread
+	 */
+	@Test
+	public void testFailureHandler() throws InterruptedException
+	{
+		writeBehind = new ComponentPositionWriteBehind(10, 2);
+		List<RuntimeException> failures = new CopyOnWriteArrayList<>();
+		writeBehind.setFailureHandler(failures::add);
+		FailingPositionStorage failingStorage = new FailingPositionStorage();
+		failingStorage.failures = 100;
+		JPanel panel = new JPanel();
+		ComponentPositionStore store = new ComponentPositionStore(panel,
+			ComponentPositionWriteBehindTest.class, 500, 500, failingStorage);
+		store.setWriteBehind(writeBehind);
+		panel.setBounds(10, 20, 300, 200);
+		store.storePosition();
+		long deadline = System.currentTimeMillis() + 5000;
+		while (writeBehind.getDiscardedCount() < 1 && System.currentTimeMillis() < deadline)
+		{
+			Thread.sleep(10);
+		}
+		assertEquals(1, writeBehind.getDiscardedCount());
+		assertEquals(0, writeBehind.getPendingCount());
+		assertEquals(3, failures.size());
+		assertSame(IllegalStateException.class, failures.get(0).getClass());
+	}
+}
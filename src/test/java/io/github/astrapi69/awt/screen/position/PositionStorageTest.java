@@ -0,0 +1,145 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.screen.position;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.prefs.BackingStoreException;
+import java.util.prefs.Preferences;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * The unit test class for the implementations of the interface {@link PositionStorage}
+ */
+public class PositionStorageTest
+{
+
+	private static ComponentPositionModel newModel(int width, int height, int x, int y)
+	{
+		return ComponentPositionModel.builder().width(width).height(height).xPosition(x)
+			.yPosition(y).build();
+	}
+
+	private static void assertRoundTrip(PositionStorage storage)
+	{
+		assertNull(storage.load("Frame"));
+		storage.store("Frame", newModel(800, 600, 10, 20));
+		Map<String, ComponentPositionModel> models = new LinkedHashMap<>();
+		models.put("Dialog", newModel(300, 200, -1920, 0));
+		models.put("Frame", newModel(1024, 768, 30, 40));
+		storage.storeAll(models);
+		assertEquals(newModel(1024, 768, 30, 40), storage.load("Frame"));
+		assertEquals(newModel(300, 200, -1920, 0), storage.load("Dialog"));
+	}
+
+	/**
+	 * Test method for {@link InMemoryPositionStorage}
+	 */
+	@Test
+	public void testInMemoryPositionStorage()
+	{
+		InMemoryPositionStorage storage = new InMemoryPositionStorage();
+		assertRoundTrip(storage);
+		assertEquals(2, storage.size());
+	}
+
+	/**
+	 * Test method for {@link PreferencesPositionStorage}
+	 */
+	@Test
+	public void testPreferencesPositionStorage() throws BackingStoreException
+	{
+		Preferences node = Preferences.userRoot().node("io/github/astrapi69/awt/test-storage");
+		try
+		{
+			PreferencesPositionStorage storage = new PreferencesPositionStorage(node);
+			assertRoundTrip(storage);
+			assertEquals(newModel(1024, 768, 30, 40), ComponentPositionCodec
+				.decode(node.getByteArray("Frame" + ComponentPositionPreference.POSITION.getKey(),
+					null)));
+			// a position in the legacy layout is migrated to the packed entry
+			node.putInt("Legacy" + ComponentPositionPreference.WIDTH.getKey(), 640);
+			node.putInt("Legacy" + ComponentPositionPreference.HEIGHT.getKey(), 480);
+			node.putInt("Legacy" + ComponentPositionPreference.X_POSITION.getKey(), 5);
+			node.putInt("Legacy" + ComponentPositionPreference.Y_POSITION.getKey(), 6);
+			assertEquals(newModel(640, 480, 5, 6), storage.load("Legacy"));
+			assertEquals(-1,
+				node.getInt("Legacy" + ComponentPositionPreference.WIDTH.getKey(), -1));
+			assertNotNull(
+				node.getByteArray("Legacy" + ComponentPositionPreference.POSITION.getKey(), null));
+			assertEquals(newModel(640, 480, 5, 6), storage.load("Legacy"));
+		}
+		finally
+		{
+			node.removeNode();
+		}
+	}
+
+	/**
+	 * Test method for {@link FilePositionStorage}
+	 */
+	@Test
+	public void testFilePositionStorage() throws IOException
+	{
+		Path directory = Files.createTempDirectory("positions");
+		Path file = directory.resolve("positions.bin");
+		try
+		{
+			assertRoundTrip(new FilePositionStorage(file));
+			// a new storage reads the positions from the file
+			FilePositionStorage storage = new FilePositionStorage(file);
+			assertEquals(newModel(1024, 768, 30, 40), storage.load("Frame"));
+			try (Stream<Path> files = Files.list(directory))
+			{
+				assertEquals(1, files.count());
+			}
+			// a rejected key leaves the positions unchanged and does not fail later writes
+			String tooLongKey = "x".repeat(0x10000);
+			assertThrows(IllegalArgumentException.class,
+				() -> storage.store(tooLongKey, newModel(1, 1, 0, 0)));
+			assertNull(storage.load(tooLongKey));
+			storage.store("Dialog", newModel(400, 300, 0, 0));
+			assertEquals(newModel(400, 300, 0, 0), new FilePositionStorage(file).load("Dialog"));
+			// a file with an unknown format is ignored
+			Files.write(file, new byte[] { 1, 2, 3 });
+			assertNull(new FilePositionStorage(file).load("Frame"));
+		}
+		finally
+		{
+			Files.deleteIfExists(file);
+			Files.deleteIfExists(directory);
+		}
+	}
+}
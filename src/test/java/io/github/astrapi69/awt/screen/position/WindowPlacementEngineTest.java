@@ -0,0 +1,198 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2022 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.awt.screen.position;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Insets;
+import java.awt.Rectangle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import io.github.astrapi69.awt.screen.ScreenTopology;
+
+/**
+ * The unit test class for the class {@link WindowPlacementEngine}
+ */
+public class WindowPlacementEngineTest
+{
+
+	static Rectangle toRectangle(ComponentPositionModel position)
+	{
+		return new Rectangle(position.getXPosition(), position.getYPosition(),
+			position.getWidth(), position.getHeight());
+	}
+
+	/**
+	 * Test method for {@link WindowPlacementEngine#place(int, int)}
+	 */
+	@Test
+	public void testPlace()
+	{
+		WindowPlacementEngine engine = new WindowPlacementEngine(new Rectangle(0, 0, 1000, 500),
+			new Rectangle(1000, 0, 500, 500));
+		Optional<ComponentPositionModel> first = engine.place(1000, 250);
+		assertTrue(first.isPresent());
+		assertEquals(new Rectangle(0, 0, 1000, 250), toRectangle(first.get()));
+		Optional<ComponentPositionModel> second = engine.place(500, 250);
+		assertTrue(second.isPresent());
+		assertEquals(new Rectangle(0, 250, 500, 250), toRectangle(second.get()));
+		// does not fit on the first screen anymore
+		Optional<ComponentPositionModel> third = engine.place(500, 500);
+		assertTrue(third.isPresent());
+		assertEquals(new Rectangle(1000, 0, 500, 500), toRectangle(third.get()));
+		assertFalse(engine.place(600, 100).isPresent());
+		assertEquals(3, engine.getPlacedCount());
+
+		assertTrue(engine.release(first.get()));
+		assertFalse(engine.release(first.get()));
+		Optional<ComponentPositionModel> fourth = engine.place(600, 100);
+		assertTrue(fourth.isPresent());
+		assertEquals(0, fourth.get().getYPosition());
+	}
+
+	/**
+	 * Test method for {@link WindowPlacementEngine#place(int, int)} and
+	 * {@link WindowPlacementEngine#release(ComponentPositionModel)} that no placed windows overlap
+	 */
+	@Test
+	public void testPlacedWindowsDoNotOverlap()
+	{
+		Rectangle[] screens = { new Rectangle(0, 0, 1920, 1080),
+				new Rectangle(1920, 0, 2560, 1440) };
+		WindowPlacementEngine engine = new WindowPlacementEngine(screens);
+		Random random = new Random(42);
+		List<ComponentPositionModel> placed = new ArrayList<>();
+		for (int i = 0; i < 300; i++)
+		{
+			engine.place(40 + random.nextInt(200), 30 + random.nextInt(150)).ifPresent(placed::add);
+			if (i % 3 == 0 && !placed.isEmpty())
+			{
+				engine.release(placed.remove(random.nextInt(placed.size())));
+			}
+			if (i % 50 == 0)
+			{
+				engine.rebuild();
+			}
+		}
+		assertEquals(placed.size(), engine.getPlacedCount());
+		for (int i = 0; i < placed.size(); i++)
+		{
+			Rectangle rectangle = toRectangle(placed.get(i));
+			assertTrue(screens[0].contains(rectangle) || screens[1].contains(rectangle));
+			for (int j = i + 1; j < placed.size(); j++)
+			{
+				assertFalse(rectangle.intersects(toRectangle(placed.get(j))));
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link WindowPlacementEngine#of(ScreenTopology)} that places windows only
+	 * in the usable bounds of the screens
+	 */
+	@Test
+	public void testOfScreenTopology()
+	{
+		ScreenTopology screenTopology = ScreenTopology.of(new String[] { ":0.0", ":0.1" },
+			new Rectangle[] { new Rectangle(0, 0, 1920, 1080),
+					new Rectangle(1920, 0, 1920, 1080) },
+			new Insets[] { new Insets(0, 0, 40, 0), new Insets(0, 60, 0, 0) },
+			new double[] { 1.0d, 1.0d });
+		WindowPlacementEngine engine = WindowPlacementEngine.of(screenTopology);
+		// the taskbar of the first screen leaves no room for the full screen height
+		Optional<ComponentPositionModel> first = engine.place(1920, 1080);
+		assertFalse(first.isPresent());
+		Optional<ComponentPositionModel> second = engine.place(1920, 1040);
+		assertTrue(second.isPresent());
+		assertEquals(new Rectangle(0, 0, 1920, 1040), toRectangle(second.get()));
+		// the dock on the left side of the second screen
+		Optional<ComponentPositionModel> third = engine.place(1860, 1080);
+		assertTrue(third.isPresent());
+		assertEquals(new Rectangle(1980, 0, 1860, 1080), toRectangle(third.get()));
+	}
+
+	/**
+	 * Test method for {@link WindowPlacementEngine} with more than thousand windows of different
+	 * sizes on four screens that are placed, partly released and placed again after a rebuild
+	 */
+	@Test
+	public void testManyWindows()
+	{
+		Rectangle[] screens = { new Rectangle(0, 0, 3840, 2160),
+				new Rectangle(3840, 0, 3840, 2160), new Rectangle(0, 2160, 3840, 2160),
+				new Rectangle(3840, 2160, 3840, 2160) };
+		WindowPlacementEngine engine = new WindowPlacementEngine(screens);
+		Random random = new Random(7);
+		List<ComponentPositionModel> placed = new ArrayList<>();
+		for (int i = 0; i < 1500; i++)
+		{
+			engine.place(80 + random.nextInt(240), 60 + random.nextInt(180))
+				.ifPresent(placed::add);
+		}
+		assertTrue(placed.size() > 1000);
+		assertEquals(placed.size(), engine.getPlacedCount());
+
+		List<ComponentPositionModel> released = new ArrayList<>();
+		List<ComponentPositionModel> kept = new ArrayList<>();
+		for (int i = 0; i < placed.size(); i++)
+		{
+			if (i % 2 == 0)
+			{
+				assertTrue(engine.release(placed.get(i)));
+				released.add(placed.get(i));
+			}
+			else
+			{
+				kept.add(placed.get(i));
+			}
+		}
+		engine.rebuild();
+		assertEquals(kept.size(), engine.getPlacedCount());
+
+		// the released space is used again for windows of the same sizes
+		for (ComponentPositionModel position : released)
+		{
+			engine.place(position.getWidth(), position.getHeight()).ifPresent(kept::add);
+		}
+		assertTrue(kept.size() > placed.size() - released.size() / 10);
+		assertEquals(kept.size(), engine.getPlacedCount());
+		for (int i = 0; i < kept.size(); i++)
+		{
+			Rectangle rectangle = toRectangle(kept.get(i));
+			for (int j = i + 1; j < kept.size(); j++)
+			{
+				assertFalse(rectangle.intersects(toRectangle(kept.get(j))));
+			}
+		}
+	}
+
+}